@@ -0,0 +1,128 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import uk.gov.hmcts.reform.dev.Application;
+import uk.gov.hmcts.reform.dev.repositories.ClusterClient;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Starts several instances of the application in cluster mode on local ports and checks that
+ * every task can be read through every member, before and after a member is added.
+ */
+class ClusterModeTest {
+
+    private static final int TASKS = 60;
+
+    private static final String SECRET = "cluster-mode-test";
+
+    private final List<ConfigurableApplicationContext> instances = new ArrayList<>();
+    private final HttpClient http = HttpClient.newHttpClient();
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @AfterEach
+    void tearDown() {
+        instances.forEach(ConfigurableApplicationContext::close);
+    }
+
+    @Test
+    void addingMember_ShouldMovePartitionsAndKeepEveryTaskReadableThroughEveryMember() throws Exception {
+        // Arrange
+        List<String> urls = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            urls.add("http://localhost:" + freePort());
+        }
+        List<String> initial = urls.subList(0, 3);
+        for (int i = 0; i < initial.size(); i++) {
+            start(urls.get(i), initial, i);
+        }
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            ids.add(create(urls.get(i % initial.size()), "Task " + i).get("id").asLong());
+        }
+        assertReadable(initial, ids);
+        HttpResponse<String> unauthenticated = http.send(
+            HttpRequest.newBuilder(URI.create(urls.get(0) + "/internal/tasks/" + ids.get(0))).GET().build(),
+            HttpResponse.BodyHandlers.ofString());
+        assertEquals(401, unauthenticated.statusCode());
+        start(urls.get(3), initial, 3);
+
+        // Act
+        JsonNode result = send(urls.get(0) + "/internal/cluster/members", "PUT", mapper.writeValueAsString(urls));
+
+        // Assert
+        assertEquals(urls.size(), result.get("members").size());
+        long moved = 0;
+        for (JsonNode count : result.get("moved")) {
+            moved += count.asLong();
+        }
+        assertTrue(moved > 0, "some tasks should move to the new member");
+        assertFalse(send(urls.get(3) + "/internal/cluster", "GET", null).get("partitions").isEmpty());
+        assertReadable(urls, ids);
+        List<Long> sorted = ids.stream().sorted().toList();
+        JsonNode all = send(urls.get(3) + "/api/tasks", "GET", null);
+        assertEquals(TASKS, all.size());
+        for (int i = 0; i < TASKS; i++) {
+            assertEquals(sorted.get(i), all.get(i).get("id").asLong());
+        }
+    }
+
+    private void start(String url, List<String> members, int nodeId) {
+        instances.add(new SpringApplicationBuilder(Application.class).run(
+            "--server.port=" + URI.create(url).getPort(),
+            "--tasks.cluster.enabled=true",
+            "--tasks.cluster.self=" + url,
+            "--tasks.cluster.nodes=" + String.join(",", members),
+            "--tasks.cluster.secret=" + SECRET,
+            "--tasks.ids.generator=snowflake",
+            "--tasks.ids.node-id=" + nodeId));
+    }
+
+    private void assertReadable(List<String> members, List<Long> ids) throws Exception {
+        for (String member : members) {
+            for (int i = 0; i < ids.size(); i++) {
+                assertEquals("Task " + i, send(member + "/api/tasks/" + ids.get(i), "GET", null).get("title").asText());
+            }
+        }
+    }
+
+    private JsonNode create(String member, String title) throws Exception {
+        String body = "{\"title\":\"" + title + "\",\"status\":\"PENDING\",\"dueDate\":\"2030-01-01T09:00:00Z\"}";
+        return send(member + "/api/tasks", "POST", body);
+    }
+
+    private JsonNode send(String url, String method, String body) throws Exception {
+        HttpRequest.BodyPublisher publisher = body == null
+            ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(body);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+            .header("Content-Type", "application/json")
+            .header(ClusterClient.SECRET_HEADER, SECRET)
+            .method(method, publisher)
+            .build();
+        HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+        assertTrue(response.statusCode() / 100 == 2, () -> method + " " + url + " returned " + response.statusCode());
+        return mapper.readTree(response.body());
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
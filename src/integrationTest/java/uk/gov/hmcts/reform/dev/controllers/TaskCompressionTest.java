@@ -0,0 +1,78 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Starts the application on a random port and checks that large task lists, which carry ETags,
+ * are still gzipped by the container for clients that accept it.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class TaskCompressionTest {
+
+    private static final int TASKS = 50;
+
+    private final HttpClient http = HttpClient.newHttpClient();
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void getAllTasks_WhenClientAcceptsGzip_ShouldCompressListOverMinimumSize() throws Exception {
+        // Arrange
+        for (int i = 0; i < TASKS; i++) {
+            String body = "{\"title\":\"Task " + i + "\",\"description\":\"Review the bundle for hearing " + i
+                + "\",\"status\":\"PENDING\",\"dueDate\":\"2030-01-01T09:00:00Z\"}";
+            HttpResponse<String> created = http.send(HttpRequest.newBuilder(uri("/api/tasks"))
+                                                         .header("Content-Type", "application/json")
+                                                         .POST(HttpRequest.BodyPublishers.ofString(body))
+                                                         .build(), HttpResponse.BodyHandlers.ofString());
+            assertEquals(201, created.statusCode(), created::body);
+        }
+
+        // Act
+        HttpResponse<InputStream> all = getGzipped("/api/tasks");
+        HttpResponse<InputStream> page = getGzipped("/api/tasks?limit=" + TASKS);
+
+        // Assert
+        assertEquals(200, all.statusCode());
+        assertEquals("gzip", all.headers().firstValue("Content-Encoding").orElse(null));
+        assertTrue(all.headers().firstValue("ETag").orElseThrow().startsWith("W/"));
+        JsonNode tasks = gunzip(all);
+        assertTrue(tasks.size() >= TASKS);
+        assertTrue(mapper.writeValueAsBytes(tasks).length > 2048);
+        assertEquals(200, page.statusCode());
+        assertEquals("gzip", page.headers().firstValue("Content-Encoding").orElse(null));
+        assertEquals(TASKS, gunzip(page).get("tasks").size());
+    }
+
+    private HttpResponse<InputStream> getGzipped(String path) throws IOException, InterruptedException {
+        return http.send(HttpRequest.newBuilder(uri(path)).header("Accept-Encoding", "gzip").GET().build(),
+                         HttpResponse.BodyHandlers.ofInputStream());
+    }
+
+    private JsonNode gunzip(HttpResponse<InputStream> response) throws IOException {
+        try (InputStream body = new GZIPInputStream(response.body())) {
+            return mapper.readTree(body);
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
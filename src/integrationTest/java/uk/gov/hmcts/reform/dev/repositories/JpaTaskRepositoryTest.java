@@ -0,0 +1,116 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskPage;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("jpa")
+@Import(JpaTaskRepository.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:tasks;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class JpaTaskRepositoryTest {
+
+    private static final OffsetDateTime MONDAY = OffsetDateTime.of(2030, 1, 7, 9, 0, 0, 0, ZoneOffset.UTC);
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    void saveAll_ShouldAssignSequenceIdsToEveryTask() {
+        // Arrange
+        List<Task> batch = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            batch.add(new Task("Task " + i, "Description", "PENDING", MONDAY.plusHours(i)));
+        }
+
+        // Act
+        List<Task> saved = taskRepository.saveAll(batch);
+
+        // Assert
+        assertThat(saved).hasSize(120).allSatisfy(task -> assertThat(task.getId()).isNotNull());
+        assertThat(saved.stream().map(Task::getId).collect(Collectors.toSet())).hasSize(120);
+        assertThat(taskRepository.findAll()).hasSize(120);
+    }
+
+    @Test
+    void findPage_ShouldWalkTasksInIdOrderUsingCursor() {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            taskRepository.save(new Task("Task " + i, "Description", "PENDING", MONDAY));
+        }
+
+        // Act
+        TaskPage first = taskRepository.findPage(null, 3);
+        TaskPage second = taskRepository.findPage(first.getNextCursor(), 3);
+
+        // Assert
+        assertThat(first.getTasks()).extracting(Task::getTitle).containsExactly("Task 0", "Task 1", "Task 2");
+        assertThat(first.getNextCursor()).isEqualTo(first.getTasks().get(2).getId());
+        assertThat(second.getTasks()).extracting(Task::getTitle).containsExactly("Task 3", "Task 4");
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    void findByQuery_ShouldFilterByStatusAndDueDateRange() {
+        // Arrange
+        taskRepository.save(new Task("Due Monday", "Description", "PENDING", MONDAY));
+        taskRepository.save(new Task("Due Wednesday", "Description", "PENDING", MONDAY.plusDays(2)));
+        taskRepository.save(new Task("Done Tuesday", "Description", "DONE", MONDAY.plusDays(1)));
+        taskRepository.save(new Task("Due next month", "Description", "PENDING", MONDAY.plusMonths(1)));
+
+        // Act
+        List<Task> pendingThisWeek = taskRepository.findByQuery("PENDING", MONDAY, MONDAY.plusDays(7), 100);
+        List<Task> done = taskRepository.findByQuery("DONE", null, null, 100);
+
+        // Assert
+        assertThat(pendingThisWeek).extracting(Task::getTitle).containsExactly("Due Monday", "Due Wednesday");
+        assertThat(done).extracting(Task::getTitle).containsExactly("Done Tuesday");
+    }
+
+    @Test
+    void stream_ShouldReturnEveryTaskAcrossPages() {
+        // Arrange
+        List<Task> batch = new ArrayList<>();
+        for (int i = 0; i < JpaTaskRepository.STREAM_PAGE_SIZE + 10; i++) {
+            batch.add(new Task("Task " + i, "Description", "PENDING", MONDAY));
+        }
+        taskRepository.saveAll(batch);
+
+        // Act & Assert
+        assertThat(taskRepository.stream().count()).isEqualTo(JpaTaskRepository.STREAM_PAGE_SIZE + 10);
+    }
+
+    @Test
+    void delete_ShouldRemoveTask() {
+        // Arrange
+        Task saved = taskRepository.save(new Task("Task", "Description", "PENDING", MONDAY));
+
+        // Act
+        taskRepository.delete(saved);
+
+        // Assert
+        assertThat(taskRepository.findById(saved.getId())).isEmpty();
+    }
+}
@@ -0,0 +1,103 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.CompilerControl;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.unit.DataSize;
+import uk.gov.hmcts.reform.dev.exceptions.TaskNotFoundException;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.repositories.InMemoryTaskRepository;
+import uk.gov.hmcts.reform.dev.services.TaskBinaryEncoder;
+import uk.gov.hmcts.reform.dev.services.TaskJsonCache;
+import uk.gov.hmcts.reform.dev.services.TaskMetrics;
+import uk.gov.hmcts.reform.dev.services.TaskSearchIndex;
+import uk.gov.hmcts.reform.dev.services.TaskService;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of answering a request for a task that does not exist.
+ *
+ * <p>{@code controllerNotFound} is the controller's own path: an empty lookup and a shared 404
+ * response. The other benchmarks show what an exception adds to the same lookup: the stackless
+ * {@link TaskNotFoundException} thrown by {@link TaskService#getTaskById}, and, for reference, a
+ * {@code RuntimeException} with a concatenated message and a full stack trace, which is how
+ * missing tasks used to be reported. The throwing lookups are kept out of line so the JIT cannot
+ * turn the throw and catch into a jump. A request thread in Tomcat is far deeper in the stack than
+ * a benchmark thread, so the stack trace figure here is a lower bound.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TaskNotFoundBenchmark {
+
+    private static final long MISSING_IDS = 1_000_000;
+
+    private TaskService taskService;
+
+    private TaskController taskController;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        InMemoryTaskRepository taskRepository = new InMemoryTaskRepository();
+        taskService = new TaskService(taskRepository);
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        taskController = new TaskController(
+            taskService,
+            new TaskJsonCache(objectMapper, DataSize.ofMegabytes(64)),
+            new TaskMetrics(taskRepository, new SimpleMeterRegistry()),
+            new TaskSearchIndex(taskRepository),
+            new TaskBinaryEncoder(objectMapper),
+            false);
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> controllerNotFound() {
+        // The request is only consulted for ETags once a task has been found
+        return taskController.getTaskById(missingId(), null);
+    }
+
+    @Benchmark
+    public Object stacklessException() {
+        try {
+            return lookupOrThrow(missingId());
+        } catch (TaskNotFoundException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object stackTraceException() {
+        try {
+            return lookupOrThrowWithStackTrace(missingId());
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    private Task lookupOrThrow(long id) {
+        return taskService.getTaskById(id);
+    }
+
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    private Task lookupOrThrowWithStackTrace(long id) {
+        return taskService.findTaskById(id)
+                .orElseThrow(() -> new RuntimeException("Task not found with id: " + id));
+    }
+
+    private static long missingId() {
+        return ThreadLocalRandom.current().nextLong(MISSING_IDS) + 1;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,105 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.unit.DataSize;
+import uk.gov.hmcts.reform.dev.services.TaskJsonCache;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of converting {@link Task} to and from JSON with an object mapper configured like the
+ * application's, including formatting and parsing {@code dueDate} through its
+ * {@code @JsonFormat} pattern, against serving the same tasks from {@link TaskJsonCache}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TaskJsonBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+
+    private static final TypeReference<List<Task>> TASK_LIST = new TypeReference<>() {
+    };
+
+    private ObjectMapper objectMapper;
+
+    private TaskJsonCache taskJsonCache;
+
+    private Task task;
+
+    private List<Task> page;
+
+    private byte[] taskJson;
+
+    private byte[] pageJson;
+
+    @Setup(Level.Trial)
+    public void setUp() throws JsonProcessingException {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        taskJsonCache = new TaskJsonCache(objectMapper, DataSize.ofMegabytes(64));
+        OffsetDateTime dueDate = OffsetDateTime.of(2030, 1, 1, 9, 30, 15, 123_000_000, ZoneOffset.ofHours(1));
+        task = newTask(1, dueDate);
+        page = new ArrayList<>(PAGE_SIZE);
+        for (int i = 1; i <= PAGE_SIZE; i++) {
+            page.add(newTask(i, dueDate.plusMinutes(i)));
+        }
+        taskJson = objectMapper.writeValueAsBytes(task);
+        pageJson = objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] serializeTask() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(task);
+    }
+
+    @Benchmark
+    public Task deserializeTask() throws IOException {
+        return objectMapper.readValue(taskJson, Task.class);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public List<Task> deserializePage() throws IOException {
+        return objectMapper.readValue(pageJson, TASK_LIST);
+    }
+
+    @Benchmark
+    public byte[] cachedTask() {
+        return taskJsonCache.toJson(task);
+    }
+
+    @Benchmark
+    public byte[] cachedPage() {
+        return taskJsonCache.toJson(page);
+    }
+
+    private static Task newTask(long id, OffsetDateTime dueDate) {
+        Task task = new Task("Task " + id, "Review the case bundle and list the hearing", "PENDING", dueDate);
+        task.setId(id);
+        task.setVersion(3);
+        return task;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,84 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import uk.gov.hmcts.reform.dev.models.Task;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of {@link InMemoryTaskRepository} and {@link ColumnarTaskRepository} reads and
+ * writes, run on one thread, four threads and one thread per available processor (the nested
+ * subclasses).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public abstract class TaskRepositoryBenchmark {
+
+    static final OffsetDateTime DUE_DATE = OffsetDateTime.of(2030, 1, 1, 9, 0, 0, 0, ZoneOffset.UTC);
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    @Param({"in-memory", "columnar"})
+    public String engine;
+
+    private TaskRepository repository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        repository = "columnar".equals(engine) ? new ColumnarTaskRepository() : new InMemoryTaskRepository();
+        for (int i = 0; i < size; i++) {
+            repository.save(new Task("Task " + i, "Review case bundle", i % 2 == 0 ? "PENDING" : "IN_PROGRESS",
+                                     DUE_DATE.plusMinutes(i)));
+        }
+    }
+
+    @Benchmark
+    public Optional<Task> findById() {
+        return repository.findById(randomId());
+    }
+
+    @Benchmark
+    public Task save() {
+        long id = randomId();
+        Task task = new Task("Task " + id, "Review case bundle", "PENDING", DUE_DATE.plusMinutes(id));
+        task.setId(id);
+        return repository.save(task);
+    }
+
+    @Benchmark
+    public List<Task> findAll() {
+        return repository.findAll();
+    }
+
+    private long randomId() {
+        return ThreadLocalRandom.current().nextInt(size) + 1L;
+    }
+
+    @Threads(1)
+    public static class OneThread extends TaskRepositoryBenchmark {
+    }
+
+    @Threads(4)
+    public static class FourThreads extends TaskRepositoryBenchmark {
+    }
+
+    @Threads(Threads.MAX)
+    public static class AllProcessors extends TaskRepositoryBenchmark {
+    }
+}
\ No newline at end of file
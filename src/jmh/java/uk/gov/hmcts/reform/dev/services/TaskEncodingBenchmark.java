@@ -0,0 +1,106 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.unit.DataSize;
+import uk.gov.hmcts.reform.dev.models.Task;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Size and encoding time of a list of {@value #TASKS} tasks in each response format: JSON
+ * serialized by the object mapper, JSON assembled from a warm {@link TaskJsonCache} as repeated
+ * reads are, and CBOR and Smile from {@link TaskBinaryEncoder}, each with and without gzip.
+ *
+ * <p>The size of each encoding is printed once per trial, above the timings. Run with
+ * {@code ./gradlew jmh -PjmhIncludes=TaskEncoding}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskEncodingBenchmark {
+
+    private static final int TASKS = 1000;
+
+    private static final String[] STATUSES = {"PENDING", "IN_PROGRESS", "COMPLETED"};
+
+    @Param({"json", "json-cached", "cbor", "smile"})
+    public String format;
+
+    @Param({"false", "true"})
+    public boolean gzip;
+
+    private List<Task> tasks;
+
+    private Function<List<Task>, byte[]> encoder;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        TaskJsonCache taskJsonCache = new TaskJsonCache(objectMapper, DataSize.ofMegabytes(64));
+        TaskBinaryEncoder taskBinaryEncoder = new TaskBinaryEncoder(objectMapper);
+        OffsetDateTime dueDate = OffsetDateTime.of(2030, 1, 1, 9, 0, 0, 0, ZoneOffset.UTC);
+        tasks = new ArrayList<>(TASKS);
+        for (int i = 1; i <= TASKS; i++) {
+            Task task = new Task("Task " + i, "Review the case bundle for hearing " + i + " and list it",
+                                 STATUSES[i % STATUSES.length], dueDate.plusMinutes(i * 37L));
+            task.setId((long) i);
+            task.setVersion(i % 5);
+            tasks.add(task);
+        }
+        encoder = switch (format) {
+            case "json" -> list -> serialize(objectMapper, list);
+            case "json-cached" -> taskJsonCache::toJson;
+            case "cbor" -> list -> taskBinaryEncoder.encode(list, MediaType.APPLICATION_CBOR);
+            case "smile" -> list -> taskBinaryEncoder.encode(list, TaskBinaryEncoder.APPLICATION_SMILE);
+            default -> throw new IllegalArgumentException(format);
+        };
+        System.out.printf("%n%s%s: %,d bytes for %d tasks%n", format, gzip ? " + gzip" : "", encode().length, TASKS);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        byte[] body = encoder.apply(tasks);
+        if (!gzip) {
+            return body;
+        }
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+
+    private static byte[] serialize(ObjectMapper objectMapper, List<Task> tasks) {
+        try {
+            return objectMapper.writeValueAsBytes(tasks);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
\ No newline at end of file
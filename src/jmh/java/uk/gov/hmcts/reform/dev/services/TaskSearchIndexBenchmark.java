@@ -0,0 +1,66 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskSearchPage;
+import uk.gov.hmcts.reform.dev.repositories.ColumnarTaskRepository;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of {@link TaskSearchIndex} searches over a million tasks: a rare term, a pair of
+ * moderately common terms, and a term every task contains.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskSearchIndexBenchmark {
+
+    private static final int TASKS = 1_000_000;
+
+    private static final OffsetDateTime DUE_DATE = OffsetDateTime.of(2030, 1, 1, 9, 0, 0, 0, ZoneOffset.UTC);
+
+    private static final String[] WORDS = {
+        "bundle", "hearing", "order", "applicant", "respondent", "draft", "appeal", "listing", "judge", "witness"
+    };
+
+    @Param({"case 4242", "bundle hearing", "review"})
+    public String query;
+
+    private TaskSearchIndex taskSearchIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ColumnarTaskRepository taskRepository = new ColumnarTaskRepository();
+        Random random = new Random(42);
+        List<Task> batch = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            batch.add(new Task("Task " + i + " " + WORDS[random.nextInt(WORDS.length)],
+                               "Review " + WORDS[random.nextInt(WORDS.length)] + " for case " + random.nextInt(100_000),
+                               "PENDING", DUE_DATE));
+            if (batch.size() == 1_000) {
+                taskRepository.saveAll(batch);
+                batch = new ArrayList<>();
+            }
+        }
+        taskSearchIndex = new TaskSearchIndex(taskRepository);
+    }
+
+    @Benchmark
+    public TaskSearchPage search() {
+        return taskSearchIndex.search(query, 0, 20);
+    }
+}
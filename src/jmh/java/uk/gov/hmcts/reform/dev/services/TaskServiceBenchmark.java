@@ -0,0 +1,81 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.repositories.InMemoryTaskRepository;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the {@link TaskService} compare-and-set update paths over the in-memory
+ * repository. With few tasks, concurrent updates keep colliding and retrying; with many, they
+ * rarely touch the same task.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public abstract class TaskServiceBenchmark {
+
+    private static final OffsetDateTime DUE_DATE = OffsetDateTime.of(2030, 1, 1, 9, 0, 0, 0, ZoneOffset.UTC);
+
+    private static final String[] STATUSES = {"PENDING", "IN_PROGRESS", "COMPLETED"};
+
+    @Param({"16", "100000"})
+    public int tasks;
+
+    private TaskService taskService;
+
+    private Task details;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        taskService = new TaskService(new InMemoryTaskRepository());
+        for (int i = 0; i < tasks; i++) {
+            taskService.createTask(new Task("Task " + i, "Review case bundle", "PENDING", DUE_DATE));
+        }
+        details = new Task("Updated task", "Review case bundle and list hearing", "IN_PROGRESS", DUE_DATE.plusDays(1));
+    }
+
+    @Benchmark
+    public Task updateTask() {
+        return taskService.updateTask(randomId(), details);
+    }
+
+    @Benchmark
+    public Task updateTaskStatus() {
+        return taskService.updateTaskStatus(randomId(), STATUSES[ThreadLocalRandom.current().nextInt(STATUSES.length)]);
+    }
+
+    @Benchmark
+    public Task getTaskById() {
+        return taskService.getTaskById(randomId());
+    }
+
+    private long randomId() {
+        return ThreadLocalRandom.current().nextInt(tasks) + 1L;
+    }
+
+    @Threads(1)
+    public static class OneThread extends TaskServiceBenchmark {
+    }
+
+    @Threads(4)
+    public static class FourThreads extends TaskServiceBenchmark {
+    }
+
+    @Threads(Threads.MAX)
+    public static class AllProcessors extends TaskServiceBenchmark {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,201 @@
+package uk.gov.hmcts.reform.dev;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Sends a weighted mix of requests at a fixed rate, whether or not earlier requests have
+ * completed, and records each latency in an HDR histogram per operation.
+ *
+ * <p>Latency is measured from the time a request was scheduled to be sent, not from when it
+ * was actually sent. If the server stalls, every request scheduled during the stall is charged
+ * the time it spent waiting. A closed loop that waits for each response would instead send
+ * fewer requests and hide the stall (coordinated omission).
+ */
+final class OpenLoopGenerator {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    /**
+     * One kind of request in the mix.
+     *
+     * @param name Name used in reports
+     * @param weight Relative share of requests
+     * @param request Sends one request and completes with the HTTP status code
+     */
+    record Operation(String name, int weight, Supplier<CompletableFuture<Integer>> request) {
+    }
+
+    private final List<Operation> operations;
+    private final int totalWeight;
+    private final double rate;
+
+    /**
+     * Constructor with the request mix and the target rate.
+     *
+     * @param operations Operations to choose from in proportion to their weights
+     * @param rate Target requests per second
+     */
+    OpenLoopGenerator(List<Operation> operations, double rate) {
+        this.operations = List.copyOf(operations);
+        this.totalWeight = operations.stream().mapToInt(Operation::weight).sum();
+        this.rate = rate;
+        if (totalWeight <= 0 || rate <= 0) {
+            throw new IllegalArgumentException("Load test needs a positive rate and at least one weighted operation");
+        }
+    }
+
+    /**
+     * Run the mix at the target rate for the given duration, then wait for outstanding
+     * requests to complete.
+     *
+     * @param duration How long to keep sending
+     * @return Latencies and errors per operation
+     */
+    Result run(Duration duration) throws InterruptedException {
+        Map<String, ConcurrentHistogram> latencies = new LinkedHashMap<>();
+        Map<String, LongAdder> errors = new LinkedHashMap<>();
+        for (Operation operation : operations) {
+            latencies.put(operation.name(), new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS));
+            errors.put(operation.name(), new LongAdder());
+        }
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        long requests = duration.toNanos() / intervalNanos;
+        List<CompletableFuture<?>> outstanding = new ArrayList<>((int) Math.min(requests, Integer.MAX_VALUE));
+
+        long started = System.nanoTime();
+        for (long i = 0; i < requests; i++) {
+            long intended = started + i * intervalNanos;
+            long delay = intended - System.nanoTime();
+            if (delay > 0) {
+                LockSupport.parkNanos(delay);
+            }
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            Operation operation = pick();
+            ConcurrentHistogram histogram = latencies.get(operation.name());
+            LongAdder failures = errors.get(operation.name());
+            outstanding.add(operation.request().get().handle((status, error) -> {
+                long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intended);
+                histogram.recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+                if (error != null || status >= 400) {
+                    failures.increment();
+                }
+                return null;
+            }));
+        }
+        CompletableFuture.allOf(outstanding.toArray(CompletableFuture[]::new)).join();
+        long elapsed = System.nanoTime() - started;
+
+        Map<String, Long> errorCounts = new LinkedHashMap<>();
+        errors.forEach((name, count) -> errorCounts.put(name, count.sum()));
+        return new Result(new LinkedHashMap<>(latencies), errorCounts, Duration.ofNanos(elapsed));
+    }
+
+    private Operation pick() {
+        int ticket = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Operation operation : operations) {
+            ticket -= operation.weight();
+            if (ticket < 0) {
+                return operation;
+            }
+        }
+        throw new IllegalStateException("Weights changed while picking an operation");
+    }
+
+    /**
+     * Outcome of a run.
+     *
+     * @param latencies Latency histogram per operation, in microseconds
+     * @param errors Failed requests (exceptions and 4xx/5xx responses) per operation
+     * @param elapsed Time from the first scheduled request to the last response
+     */
+    record Result(Map<String, ? extends Histogram> latencies, Map<String, Long> errors, Duration elapsed) {
+
+        /**
+         * Get latencies of all operations together.
+         *
+         * @return Combined histogram, in microseconds
+         */
+        Histogram combined() {
+            Histogram all = new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+            latencies.values().forEach(all::add);
+            return all;
+        }
+
+        long totalErrors() {
+            return errors.values().stream().mapToLong(Long::longValue).sum();
+        }
+
+        double throughput(Histogram histogram) {
+            return histogram.getTotalCount() / (elapsed.toNanos() / 1e9);
+        }
+
+        /**
+         * Format one summary line per operation and one for the whole mix.
+         *
+         * @return Summary table with throughput and p50/p95/p99/p99.9/max latency in ms
+         */
+        String summary() {
+            StringBuilder summary = new StringBuilder(String.format(
+                "%-8s %10s %10s %9s %9s %9s %9s %9s %8s%n",
+                "op", "requests", "req/s", "p50 ms", "p95 ms", "p99 ms", "p99.9 ms", "max ms", "errors"));
+            latencies.forEach((name, histogram) -> summary.append(line(name, histogram, errors.get(name))));
+            summary.append(line("all", combined(), totalErrors()));
+            return summary.toString();
+        }
+
+        /**
+         * Write the summary and, per operation and for the whole mix, the full percentile
+         * distribution in HdrHistogram's {@code .hgrm} format (values in milliseconds), which can
+         * be plotted with HdrHistogram's histogram plotter.
+         *
+         * @param directory Directory to write the reports to
+         */
+        void writeReports(Path directory) throws IOException {
+            Files.createDirectories(directory);
+            Files.writeString(directory.resolve("summary.txt"), summary());
+            for (Map.Entry<String, ? extends Histogram> entry : latencies.entrySet()) {
+                writeDistribution(directory.resolve(entry.getKey() + ".hgrm"), entry.getValue());
+            }
+            writeDistribution(directory.resolve("all.hgrm"), combined());
+        }
+
+        private String line(String name, Histogram histogram, long errorCount) {
+            return String.format("%-8s %,10d %,10.0f %9.2f %9.2f %9.2f %9.2f %9.2f %,8d%n",
+                name, histogram.getTotalCount(), throughput(histogram),
+                millis(histogram, 50.0), millis(histogram, 95.0), millis(histogram, 99.0), millis(histogram, 99.9),
+                histogram.getMaxValue() / MICROS_PER_MILLI, errorCount);
+        }
+
+        private static double millis(Histogram histogram, double percentile) {
+            return histogram.getValueAtPercentile(percentile) / MICROS_PER_MILLI;
+        }
+
+        private static void writeDistribution(Path file, Histogram histogram) throws IOException {
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file), false, StandardCharsets.UTF_8)) {
+                histogram.outputPercentileDistribution(out, MICROS_PER_MILLI);
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,156 @@
+package uk.gov.hmcts.reform.dev;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import uk.gov.hmcts.reform.dev.models.Task;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Replays a mix of create, read, status update and list requests against {@code /api/tasks} on
+ * a locally started application at a fixed rate, and reports latency percentiles and throughput.
+ *
+ * <p>Run with {@code ./gradlew loadTest}. Settings are read from Gradle properties, for example
+ * {@code ./gradlew loadTest -Pload.rate=2000 -Pload.duration=PT2M}:
+ * <ul>
+ *     <li>{@code load.rate}: target requests per second (default 500)</li>
+ *     <li>{@code load.duration}: measured run length (default {@code PT30S})</li>
+ *     <li>{@code load.warmup}: unmeasured run before it, for JIT warm-up (default {@code PT10S})</li>
+ *     <li>{@code load.mix}: relative weight of each operation (default
+ *     {@code create=10,read=60,status=20,list=10})</li>
+ *     <li>{@code load.tasks}: tasks created before the run (default 1000)</li>
+ *     <li>{@code load.maxErrorRate}: fraction of failed requests that fails the test (default 0.01)</li>
+ * </ul>
+ *
+ * <p>Reports go to {@code build/reports/load}: a summary table, and an {@code .hgrm} percentile
+ * distribution per operation and for the whole mix.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class TaskApiLoadTest {
+
+    private static final String[] STATUSES = {"PENDING", "IN_PROGRESS", "COMPLETED"};
+    private static final OffsetDateTime DUE_DATE = OffsetDateTime.of(2030, 1, 1, 9, 0, 0, 0, ZoneOffset.UTC);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+    private final AtomicLong highestId = new AtomicLong();
+
+    private URI tasksUri;
+
+    @BeforeEach
+    void setUp() {
+        tasksUri = URI.create("http://localhost:" + port + "/api/tasks");
+        int tasks = Integer.getInteger("load.tasks", 1000);
+        for (int i = 0; i < tasks; i++) {
+            assertEquals(201, createTask().join());
+        }
+    }
+
+    @Test
+    void taskApi_AtTargetRate() throws Exception {
+        // Arrange
+        double rate = Double.parseDouble(System.getProperty("load.rate", "500"));
+        Duration warmup = Duration.parse(System.getProperty("load.warmup", "PT10S"));
+        Duration duration = Duration.parse(System.getProperty("load.duration", "PT30S"));
+        double maxErrorRate = Double.parseDouble(System.getProperty("load.maxErrorRate", "0.01"));
+        OpenLoopGenerator generator = new OpenLoopGenerator(
+            operations(System.getProperty("load.mix", "create=10,read=60,status=20,list=10")), rate);
+
+        // Act
+        generator.run(warmup);
+        OpenLoopGenerator.Result result = generator.run(duration);
+
+        // Assert
+        System.out.printf("%,.0f req/s target for %s%n%s", rate, duration, result.summary());
+        result.writeReports(Path.of(System.getProperty("load.reportDir", "build/reports/load")));
+        long requests = result.combined().getTotalCount();
+        assertTrue(requests > 0, "no requests were sent");
+        assertTrue(result.totalErrors() <= requests * maxErrorRate,
+                   result.totalErrors() + " of " + requests + " requests failed");
+    }
+
+    private List<OpenLoopGenerator.Operation> operations(String mix) {
+        Map<String, Supplier<CompletableFuture<Integer>>> requests = Map.of(
+            "create", this::createTask,
+            "read", () -> send(HttpRequest.newBuilder(URI.create(tasksUri + "/" + randomId())).GET()),
+            "status", () -> send(HttpRequest.newBuilder(URI.create(tasksUri + "/" + randomId() + "/status"))
+                .header("Content-Type", "application/json")
+                .method("PATCH", json(Map.of("status", STATUSES[ThreadLocalRandom.current().nextInt(3)])))),
+            "list", () -> send(HttpRequest.newBuilder(URI.create(tasksUri + "?limit=100")).GET()));
+        List<OpenLoopGenerator.Operation> operations = new ArrayList<>();
+        for (String entry : mix.split(",")) {
+            String[] nameAndWeight = entry.trim().split("=");
+            Supplier<CompletableFuture<Integer>> request = requests.get(nameAndWeight[0]);
+            if (request == null || nameAndWeight.length != 2) {
+                throw new IllegalArgumentException("Unknown load.mix entry '" + entry + "', expected one of "
+                                                   + requests.keySet() + " as name=weight");
+            }
+            operations.add(new OpenLoopGenerator.Operation(nameAndWeight[0], Integer.parseInt(nameAndWeight[1]),
+                                                           request));
+        }
+        return operations;
+    }
+
+    private CompletableFuture<Integer> createTask() {
+        HttpRequest request = HttpRequest.newBuilder(tasksUri)
+            .header("Content-Type", "application/json")
+            .POST(json(new Task("Load test task", "Created by the load test", "PENDING", DUE_DATE)))
+            .build();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray()).thenApply(response -> {
+            if (response.statusCode() == 201) {
+                try {
+                    long id = objectMapper.readTree(response.body()).get("id").asLong();
+                    highestId.accumulateAndGet(id, Math::max);
+                } catch (IOException e) {
+                    throw new IllegalStateException("Created task response was not JSON", e);
+                }
+            }
+            return response.statusCode();
+        });
+    }
+
+    private CompletableFuture<Integer> send(HttpRequest.Builder request) {
+        return client.sendAsync(request.build(), HttpResponse.BodyHandlers.discarding())
+            .thenApply(HttpResponse::statusCode);
+    }
+
+    private HttpRequest.BodyPublisher json(Object body) {
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private long randomId() {
+        return ThreadLocalRandom.current().nextLong(highestId.get()) + 1;
+    }
+}
\ No newline at end of file
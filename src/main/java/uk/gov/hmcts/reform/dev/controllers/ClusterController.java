@@ -0,0 +1,281 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import io.swagger.v3.oas.annotations.Hidden;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskPage;
+import uk.gov.hmcts.reform.dev.models.TaskStats;
+import uk.gov.hmcts.reform.dev.repositories.ClusterClient;
+import uk.gov.hmcts.reform.dev.repositories.PartitionedTaskRepository;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Internal API that cluster members call on each other, active in cluster mode. It is not part
+ * of the public API, and {@link ClusterSecretFilter} rejects any request that does not carry the
+ * cluster's shared secret.
+ *
+ * <p>The endpoints under {@code /internal/tasks} work on the tasks this member owns. Requests
+ * for a single task this member does not own are forwarded to its owner, counting hops in the
+ * {@value ClusterClient#HOPS_HEADER} header. Task bodies are read with
+ * {@link ClusterClient#readTask} so they keep their version.
+ *
+ * <p>The endpoints under {@code /internal/cluster} show and change the membership:
+ * {@code PUT /internal/cluster/members} with the list of member base URLs adds or removes
+ * members and rebalances their partitions.
+ */
+@Hidden
+@RestController
+@RequestMapping("/internal")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "tasks.cluster", name = "enabled", havingValue = "true")
+public class ClusterController {
+
+    private final PartitionedTaskRepository cluster;
+
+    private final ClusterClient client;
+
+    /**
+     * Constructor with PartitionedTaskRepository and ClusterClient dependencies.
+     *
+     * @param cluster Partitioned repository of this member
+     * @param client Client used to read task bodies sent by other members
+     */
+    @Autowired
+    public ClusterController(PartitionedTaskRepository cluster, ClusterClient client) {
+        this.cluster = cluster;
+        this.client = client;
+    }
+
+    /**
+     * Get a task.
+     *
+     * @param id Task ID
+     * @param hops Number of times the request has been forwarded
+     * @return Task if found, 404 otherwise
+     */
+    @GetMapping("/tasks/{id}")
+    public ResponseEntity<Task> getTask(@PathVariable long id,
+                                        @RequestHeader(value = ClusterClient.HOPS_HEADER, defaultValue = "0")
+                                        int hops) {
+        return ResponseEntity.of(cluster.findById(id, hops));
+    }
+
+    /**
+     * Save a task.
+     *
+     * @param id Task ID
+     * @param body Task as JSON, including its version
+     * @param hops Number of times the request has been forwarded
+     * @return Task as stored
+     */
+    @PutMapping("/tasks/{id}")
+    public Task saveTask(@PathVariable long id, @RequestBody byte[] body,
+                         @RequestHeader(value = ClusterClient.HOPS_HEADER, defaultValue = "0") int hops) {
+        Task task = client.readTask(body);
+        task.setId(id);
+        return cluster.save(task, hops);
+    }
+
+    /**
+     * Compare-and-set a task.
+     *
+     * @param id Task ID
+     * @param body Task as JSON, carrying the version it was read at
+     * @param hops Number of times the request has been forwarded
+     * @return Task as stored, 409 if it was changed or deleted since it was read
+     */
+    @PostMapping("/tasks/{id}/cas")
+    public ResponseEntity<Task> compareAndSetTask(@PathVariable long id, @RequestBody byte[] body,
+                                                  @RequestHeader(value = ClusterClient.HOPS_HEADER, defaultValue = "0")
+                                                  int hops) {
+        Task task = client.readTask(body);
+        task.setId(id);
+        return cluster.compareAndSet(task, hops)
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.status(HttpStatus.CONFLICT).build());
+    }
+
+    /**
+     * Delete a task.
+     *
+     * @param id Task ID
+     * @param hops Number of times the request has been forwarded
+     * @return 204 No Content if deleted, 404 if the task did not exist
+     */
+    @DeleteMapping("/tasks/{id}")
+    public ResponseEntity<Void> deleteTask(@PathVariable long id,
+                                           @RequestHeader(value = ClusterClient.HOPS_HEADER, defaultValue = "0")
+                                           int hops) {
+        Task task = new Task();
+        task.setId(id);
+        return cluster.delete(task, hops)
+            ? ResponseEntity.noContent().build()
+            : ResponseEntity.notFound().build();
+    }
+
+    /**
+     * Save a batch of tasks that have IDs.
+     *
+     * @param body Tasks as a JSON array
+     * @param hops Number of times the request has been forwarded
+     * @return Tasks as stored, in the same order
+     */
+    @PostMapping("/tasks/batch")
+    public List<Task> saveTasks(@RequestBody byte[] body,
+                                @RequestHeader(value = ClusterClient.HOPS_HEADER, defaultValue = "0") int hops) {
+        return cluster.saveAll(client.readTasks(body), hops);
+    }
+
+    /**
+     * Store tasks handed over by another member.
+     *
+     * @param body Tasks as a JSON array, including their versions
+     * @return 204 No Content
+     */
+    @PostMapping("/tasks/import")
+    public ResponseEntity<Void> importTasks(@RequestBody byte[] body) {
+        cluster.importAll(client.readTasks(body));
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Get a page of the tasks this member owns.
+     *
+     * @param limit Maximum number of tasks to return
+     * @param after Exclusive ID cursor
+     * @return Page of owned tasks
+     */
+    @GetMapping("/tasks")
+    public TaskPage getOwnedPage(@RequestParam int limit, @RequestParam(required = false) Long after) {
+        return cluster.ownedPage(after, limit);
+    }
+
+    /**
+     * Query the tasks this member owns.
+     *
+     * @param status Status to match
+     * @param dueFrom Inclusive lower bound on the due date
+     * @param dueTo Exclusive upper bound on the due date
+     * @param limit Maximum number of tasks to return
+     * @return Matching owned tasks
+     */
+    @GetMapping("/tasks/query")
+    public List<Task> queryOwned(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime dueFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime dueTo,
+            @RequestParam int limit) {
+        return cluster.ownedQuery(status, dueFrom, dueTo, limit);
+    }
+
+    /**
+     * Get this member's task counts.
+     *
+     * @return Counts from the local store
+     */
+    @GetMapping("/tasks/counts")
+    public ClusterClient.Counts getCounts() {
+        return cluster.localCounts();
+    }
+
+    /**
+     * Get this member's task statistics.
+     *
+     * @param date Day to count due dates against
+     * @param zone Zone the day is in
+     * @param closed Statuses of finished tasks
+     * @return Statistics from the local store
+     */
+    @GetMapping("/tasks/stats")
+    public TaskStats getStats(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+                              @RequestParam ZoneId zone,
+                              @RequestParam(defaultValue = "") List<String> closed) {
+        return cluster.localStats(date, zone, Set.copyOf(closed));
+    }
+
+    /**
+     * Show this member's view of the cluster.
+     *
+     * @return This member, the members it routes by and the partitions it owns
+     */
+    @GetMapping("/cluster")
+    public Map<String, Object> getCluster() {
+        Map<String, Object> view = new LinkedHashMap<>();
+        view.put("self", cluster.self());
+        view.put("members", cluster.members());
+        view.put("partitions", cluster.ownedPartitions());
+        return view;
+    }
+
+    /**
+     * Change the membership, coordinated from this member, and rebalance partitions.
+     *
+     * @param members Base URLs of the new members
+     * @return The new members and the number of tasks each old member handed over
+     */
+    @PutMapping("/cluster/members")
+    public Map<String, Object> changeMembers(@RequestBody List<String> members) {
+        Map<String, Integer> moved = cluster.changeMembers(members);
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("members", cluster.members());
+        result.put("moved", moved);
+        return result;
+    }
+
+    /**
+     * Hand over the partitions this member will not own with a new membership.
+     *
+     * @param members Base URLs of the new members
+     * @return Number of tasks handed over
+     */
+    @PostMapping("/cluster/rebalance")
+    public int rebalance(@RequestBody List<String> members) {
+        return cluster.rebalance(members);
+    }
+
+    /**
+     * Take ownership of partitions handed over by another member.
+     *
+     * @param partitions Partitions this member now owns
+     * @return 204 No Content
+     */
+    @PostMapping("/cluster/partitions")
+    public ResponseEntity<Void> activate(@RequestBody List<Integer> partitions) {
+        cluster.activate(partitions);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Route by a new membership.
+     *
+     * @param members Base URLs of the members
+     * @return 204 No Content
+     */
+    @PostMapping("/cluster/commit")
+    public ResponseEntity<Void> commit(@RequestBody List<String> members) {
+        cluster.commit(members);
+        return ResponseEntity.noContent().build();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,67 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import uk.gov.hmcts.reform.dev.repositories.ClusterClient;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Guards the internal API served by {@link ClusterController}, active in cluster mode. A request
+ * under {@code /internal} must carry the cluster's shared {@code tasks.cluster.secret} in the
+ * {@value ClusterClient#SECRET_HEADER} header, or it is answered 401 before it reaches the
+ * controller. The application will not start in cluster mode without a secret.
+ *
+ * <p>The path is taken from the servlet path, which the container has already decoded and
+ * normalised, so that the check sees the same path the controller is matched on.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "tasks.cluster", name = "enabled", havingValue = "true")
+public class ClusterSecretFilter extends OncePerRequestFilter {
+
+    private static final String INTERNAL = "/internal";
+
+    private final byte[] secret;
+
+    /**
+     * Constructor with the cluster's shared secret.
+     *
+     * @param secret Secret every member is configured with
+     * @throws IllegalStateException if the secret is not set
+     */
+    @Autowired
+    public ClusterSecretFilter(@Value("${tasks.cluster.secret:}") String secret) {
+        if (secret.isBlank()) {
+            throw new IllegalStateException("tasks.cluster.secret must be set in cluster mode");
+        }
+        this.secret = secret.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getServletPath();
+        return !path.equals(INTERNAL) && !path.startsWith(INTERNAL + "/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+        String presented = request.getHeader(ClusterClient.SECRET_HEADER);
+        if (presented == null || !MessageDigest.isEqual(secret, presented.getBytes(StandardCharsets.UTF_8))) {
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED);
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+}
\ No newline at end of file
@@ -4,16 +4,61 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import uk.gov.hmcts.reform.dev.exceptions.ClusterUnavailableException;
+import uk.gov.hmcts.reform.dev.exceptions.TaskNotFoundException;
+import uk.gov.hmcts.reform.dev.exceptions.TaskVersionConflictException;
 
 import java.util.HashMap;
 import java.util.Map;
 
 /**
  * Global exception handler for consistent error responses.
+ *
+ * <p>Domain errors are matched by type. Their responses do not depend on the request, so they
+ * are built once and shared.
  */
 @ControllerAdvice
 public class GlobalExceptionHandler {
     
+    private static final ResponseEntity<Map<String, String>> TASK_NOT_FOUND =
+            ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", "Task not found"));
+    
+    private static final ResponseEntity<Map<String, String>> TASK_VERSION_CONFLICT =
+            ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(Map.of("error", "Task has been modified"));
+    
+    /**
+     * Handle TaskNotFoundException.
+     *
+     * @param ex The exception
+     * @return 404 error response
+     */
+    @ExceptionHandler(TaskNotFoundException.class)
+    public ResponseEntity<Map<String, String>> handleTaskNotFound(TaskNotFoundException ex) {
+        return TASK_NOT_FOUND;
+    }
+    
+    /**
+     * Handle TaskVersionConflictException.
+     *
+     * @param ex The exception
+     * @return 412 error response
+     */
+    @ExceptionHandler(TaskVersionConflictException.class)
+    public ResponseEntity<Map<String, String>> handleTaskVersionConflict(TaskVersionConflictException ex) {
+        return TASK_VERSION_CONFLICT;
+    }
+    
+    /**
+     * Handle ClusterUnavailableException.
+     *
+     * @param ex The exception
+     * @return 503 error response naming what could not be reached
+     */
+    @ExceptionHandler(ClusterUnavailableException.class)
+    public ResponseEntity<Map<String, String>> handleClusterUnavailable(ClusterUnavailableException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of("error", ex.getMessage()));
+    }
+    
     /**
      * Handle RuntimeException.
      *
@@ -25,10 +70,6 @@ public class GlobalExceptionHandler {
         Map<String, String> errors = new HashMap<>();
         errors.put("error", ex.getMessage());
         
-        if (ex.getMessage() != null && ex.getMessage().startsWith("Task not found")) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errors);
-        }
-        
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errors);
     }
     
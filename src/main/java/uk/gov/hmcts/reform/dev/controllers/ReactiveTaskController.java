@@ -0,0 +1,188 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import uk.gov.hmcts.reform.dev.exceptions.TaskVersionConflictException;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.services.ReactiveTaskService;
+import uk.gov.hmcts.reform.dev.services.TaskMetrics;
+import uk.gov.hmcts.reform.dev.services.TaskMetrics.Operation;
+import uk.gov.hmcts.reform.dev.services.TaskValidator;
+
+import java.util.Map;
+
+/**
+ * Reactive REST controller for task management operations, serving the same {@code /api/tasks}
+ * resource as {@link TaskController} when the application runs with the {@code reactive}
+ * profile.
+ *
+ * <p>Lists are returned as a {@link Flux} and written as they are read: as a JSON array, or as
+ * newline-delimited JSON when the client accepts {@code application/x-ndjson}. Netty only
+ * requests more tasks once earlier ones have been flushed to the client, so a slow client slows
+ * reading from the repository instead of the list being buffered in memory.
+ */
+@RestController
+@RequestMapping("/api/tasks")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveTaskController {
+
+    private final ReactiveTaskService taskService;
+
+    private final TaskMetrics taskMetrics;
+
+    /**
+     * Constructor with ReactiveTaskService and TaskMetrics dependencies.
+     *
+     * @param taskService Reactive task service
+     * @param taskMetrics Counters for rejected and not-found requests
+     */
+    @Autowired
+    public ReactiveTaskController(ReactiveTaskService taskService, TaskMetrics taskMetrics) {
+        this.taskService = taskService;
+        this.taskMetrics = taskMetrics;
+    }
+
+    /**
+     * Stream all tasks.
+     *
+     * @return Tasks in ascending ID order
+     */
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<Task> getAllTasks() {
+        return taskService.getAllTasks();
+    }
+
+    /**
+     * Export all tasks as newline-delimited JSON.
+     *
+     * @return Tasks in ascending ID order, one per line
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Task> exportTasks() {
+        return taskService.getAllTasks();
+    }
+
+    /**
+     * Get task by ID.
+     *
+     * @param id Task ID
+     * @return Task if found, 404 otherwise
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<Task>> getTaskById(@PathVariable Long id) {
+        return taskService.getTaskById(id)
+                .map(task -> ResponseEntity.ok().eTag(etag(task)).body(task))
+                .switchIfEmpty(notFound(Operation.GET));
+    }
+
+    /**
+     * Create a new task.
+     *
+     * @param task Task details
+     * @return Created task, 400 if invalid
+     */
+    @PostMapping
+    public Mono<ResponseEntity<Task>> createTask(@RequestBody Task task) {
+        if (!TaskValidator.isValid(task)) {
+            return rejected(Operation.CREATE);
+        }
+        return taskService.createTask(task)
+                .map(created -> ResponseEntity.status(HttpStatus.CREATED).body(created));
+    }
+
+    /**
+     * Update an existing task.
+     *
+     * @param id Task ID
+     * @param task Updated task details
+     * @param ifMatch Optional ETag the task must still have for the update to apply
+     * @return Updated task if found, 404 otherwise, 412 if it no longer matches {@code If-Match}
+     */
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<Task>> updateTask(@PathVariable Long id, @RequestBody Task task,
+                                                 @RequestHeader(value = HttpHeaders.IF_MATCH, required = false)
+                                                 String ifMatch) {
+        if (!TaskValidator.isValid(task)) {
+            return rejected(Operation.UPDATE);
+        }
+        return updated(Operation.UPDATE, taskService.updateTask(id, task, expectedVersion(ifMatch)));
+    }
+
+    /**
+     * Update task status.
+     *
+     * @param id Task ID
+     * @param statusUpdate Status update object containing new status
+     * @param ifMatch Optional ETag the task must still have for the update to apply
+     * @return Updated task if found, 404 otherwise, 412 if it no longer matches {@code If-Match}
+     */
+    @RequestMapping(value = "/{id}/status", method = {RequestMethod.PUT, RequestMethod.PATCH})
+    public Mono<ResponseEntity<Task>> updateTaskStatus(@PathVariable Long id,
+                                                       @RequestBody Map<String, String> statusUpdate,
+                                                       @RequestHeader(value = HttpHeaders.IF_MATCH, required = false)
+                                                       String ifMatch) {
+        String status = statusUpdate.get("status");
+        if (!TaskValidator.isValidStatus(status)) {
+            return rejected(Operation.UPDATE_STATUS);
+        }
+        return updated(Operation.UPDATE_STATUS,
+                       taskService.updateTaskStatus(id, status, expectedVersion(ifMatch)));
+    }
+
+    /**
+     * Delete a task.
+     *
+     * @param id Task ID
+     * @return 204 No Content if successful, 404 if not found
+     */
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteTask(@PathVariable Long id) {
+        return taskService.deleteTask(id)
+                .map(deleted -> ResponseEntity.noContent().<Void>build())
+                .switchIfEmpty(notFound(Operation.DELETE));
+    }
+
+    private Mono<ResponseEntity<Task>> updated(Operation operation, Mono<Task> update) {
+        return update
+                .map(task -> ResponseEntity.ok().eTag(etag(task)).body(task))
+                .onErrorResume(TaskVersionConflictException.class,
+                    e -> Mono.just(ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build()))
+                .switchIfEmpty(notFound(operation));
+    }
+
+    private String etag(Task task) {
+        return TaskEtags.of(task, taskService.getIncarnation());
+    }
+
+    private Long expectedVersion(String ifMatch) {
+        return TaskEtags.expectedVersion(ifMatch, taskService.getIncarnation());
+    }
+
+    private <T> Mono<ResponseEntity<T>> rejected(Operation operation) {
+        taskMetrics.rejected(operation);
+        return Mono.just(ResponseEntity.badRequest().build());
+    }
+
+    private <T> Mono<ResponseEntity<T>> notFound(Operation operation) {
+        return Mono.fromSupplier(() -> {
+            taskMetrics.notFound(operation);
+            return ResponseEntity.notFound().build();
+        });
+    }
+}
\ No newline at end of file
@@ -0,0 +1,141 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import uk.gov.hmcts.reform.dev.models.TaskChange;
+import uk.gov.hmcts.reform.dev.services.TaskChangeFeed;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Server-Sent Events stream of task changes from {@link TaskChangeFeed}, so clients can follow
+ * changes instead of polling {@code GET /api/tasks}.
+ *
+ * <p>Each change is sent as an event named after its type (CREATE, UPDATE, STATUS or DELETE)
+ * with the change's sequence number as the event ID and the change as JSON data. A client that
+ * reconnects with {@code Last-Event-ID} resumes after that change; one that connects without it
+ * sees only changes made from then on.
+ *
+ * <p>Each subscriber is served by its own virtual thread reading the feed from its own cursor,
+ * so a slow client only holds up itself. If a client falls so far behind that the changes it
+ * has not seen have been overwritten, or resumes from an ID the feed no longer holds, it is sent
+ * a {@value #RESYNC} event whose ID is the latest sequence number and the stream is closed: the
+ * client should reload the tasks it shows and reconnect from that ID. A comment is sent every
+ * {@code tasks.changes.heartbeat-interval} while there are no changes, so dead connections are
+ * noticed and proxies do not time out an idle stream.
+ *
+ * <p>Each cluster member only records the changes written through it, so in cluster mode the
+ * stream answers 501 rather than silently missing changes made through other members.
+ */
+@RestController
+@RequestMapping("/api/tasks")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class TaskChangeController {
+    
+    static final String RESYNC = "resync";
+    
+    static final int BATCH_SIZE = 256;
+    
+    private final TaskChangeFeed taskChangeFeed;
+    
+    private final Duration timeout;
+    
+    private final Duration heartbeatInterval;
+    
+    private final boolean clustered;
+    
+    private final ExecutorService streams =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("task-changes-", 0).factory());
+    
+    /**
+     * Constructor with the feed to stream and the stream timings.
+     *
+     * @param taskChangeFeed Feed of task changes
+     * @param timeout Time after which a stream is closed and the client must reconnect
+     * @param heartbeatInterval Time without changes after which a heartbeat comment is sent
+     * @param clustered Whether this is a member of a cluster, where the stream is not supported
+     */
+    @Autowired
+    public TaskChangeController(TaskChangeFeed taskChangeFeed,
+                                @Value("${tasks.changes.timeout:30m}") Duration timeout,
+                                @Value("${tasks.changes.heartbeat-interval:15s}") Duration heartbeatInterval,
+                                @Value("${tasks.cluster.enabled:false}") boolean clustered) {
+        this.taskChangeFeed = taskChangeFeed;
+        this.timeout = timeout;
+        this.heartbeatInterval = heartbeatInterval;
+        this.clustered = clustered;
+    }
+    
+    /**
+     * Stream task changes.
+     *
+     * @param lastEventId Sequence number of the last change the client has seen, if resuming
+     * @return Event stream of changes, or 501 in cluster mode
+     */
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamChanges(@RequestHeader(value = "Last-Event-ID", required = false)
+                                                    Long lastEventId) {
+        if (clustered) {
+            return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED).build();
+        }
+        long after = lastEventId == null ? taskChangeFeed.lastSequence() : lastEventId;
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Future<?> stream = streams.submit(() -> stream(emitter, after));
+        emitter.onCompletion(() -> stream.cancel(true));
+        return ResponseEntity.ok(emitter);
+    }
+    
+    @PreDestroy
+    void close() {
+        streams.shutdownNow();
+    }
+    
+    /**
+     * Sends changes to one subscriber until the stream completes, fails or has to resynchronise.
+     * A failed send needs no clean-up here: the container completes the request itself.
+     */
+    private void stream(SseEmitter emitter, long after) {
+        long cursor = after;
+        try {
+            while (true) {
+                Optional<List<TaskChange>> changes = taskChangeFeed.readAfter(cursor, BATCH_SIZE);
+                if (changes.isEmpty()) {
+                    String latest = Long.toString(taskChangeFeed.lastSequence());
+                    emitter.send(SseEmitter.event().name(RESYNC).id(latest).data(latest));
+                    emitter.complete();
+                    return;
+                }
+                for (TaskChange change : changes.get()) {
+                    emitter.send(SseEmitter.event()
+                                     .name(change.getType().name())
+                                     .id(Long.toString(change.getSequence()))
+                                     .data(change, MediaType.APPLICATION_JSON));
+                    cursor = change.getSequence();
+                }
+                if (changes.get().isEmpty() && !taskChangeFeed.awaitAfter(cursor, heartbeatInterval.toNanos())) {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | IllegalStateException e) {
+            // The client has gone or the stream has timed out
+        }
+    }
+}
\ No newline at end of file
@@ -1,66 +1,317 @@
 package uk.gov.hmcts.reform.dev.controllers;
 
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import uk.gov.hmcts.reform.dev.exceptions.TaskVersionConflictException;
 import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskOperation;
+import uk.gov.hmcts.reform.dev.models.TaskOperationResult;
+import uk.gov.hmcts.reform.dev.models.TaskOperationResult.Outcome;
+import uk.gov.hmcts.reform.dev.models.TaskPage;
+import uk.gov.hmcts.reform.dev.models.TaskSearchPage;
+import uk.gov.hmcts.reform.dev.services.OverdueTaskScheduler;
+import uk.gov.hmcts.reform.dev.services.TaskBinaryEncoder;
+import uk.gov.hmcts.reform.dev.services.TaskJsonCache;
+import uk.gov.hmcts.reform.dev.services.TaskMetrics;
+import uk.gov.hmcts.reform.dev.services.TaskMetrics.Operation;
+import uk.gov.hmcts.reform.dev.services.TaskSearchIndex;
 import uk.gov.hmcts.reform.dev.services.TaskService;
+import uk.gov.hmcts.reform.dev.services.TaskValidator;
 
+import java.time.OffsetDateTime;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * REST controller for task management operations.
+ *
+ * <p>{@code GET /api/tasks} and {@code GET /api/tasks/{id}} send weak ETags, built by
+ * {@link TaskEtags}, so that the container can still gzip them: the repository's modification
+ * count for the list, when the repository keeps one, and the repository's incarnation and the
+ * task's version for a single task, plus the response format. The format is negotiated first,
+ * so a request whose {@code If-None-Match} still matches in that format gets a 304 before the
+ * body is built or serialized.
+ *
+ * <p>Read endpoints write each task's JSON from {@link TaskJsonCache}, so a task is serialized
+ * once per version rather than once per read, and lists are assembled from the cached bytes.
+ * They answer in CBOR or Smile instead when {@code Accept} prefers one, through
+ * {@link TaskBinaryEncoder}, and send {@code Vary: Accept} either way.
+ *
+ * <p>{@code GET /api/tasks/search} answers from {@link TaskSearchIndex}, an inverted index over
+ * titles and descriptions, rather than scanning tasks. Each member only indexes the tasks it
+ * holds and its scores cannot be merged with another member's, so in cluster mode search
+ * answers 501 rather than a partial page.
+ *
+ * <p>The update endpoints accept {@code If-Match} with a task ETag and answer 412 if the task
+ * has changed since, so concurrent edits are rejected rather than silently overwritten.
+ *
+ * <p>Missing tasks are reported by the service as an empty result rather than an exception, so
+ * a 404 costs no more than a map lookup; the bodiless 400, 404 and 412 responses are built once
+ * and shared.
+ *
+ * <p>Requests rejected as invalid and requests for missing tasks are counted in
+ * {@link TaskMetrics}; request latency is recorded by Spring as {@code http.server.requests}.
+ *
+ * <p>Active on the servlet stack; {@link ReactiveTaskController} serves the same resource when
+ * the application runs as a reactive web application.
  */
 @RestController
 @RequestMapping("/api/tasks")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class TaskController {
     
+    static final int MAX_PAGE_SIZE = 1000;
+    
+    static final int MAX_BATCH_SIZE = 1000;
+    
+    static final int DEFAULT_SEARCH_LIMIT = 20;
+    
+    static final int MAX_SEARCH_OFFSET = 10_000;
+    
+    private static final ResponseEntity<?> BAD_REQUEST = ResponseEntity.badRequest().build();
+    
+    private static final ResponseEntity<?> NOT_FOUND = ResponseEntity.notFound().build();
+    
+    private static final ResponseEntity<?> PRECONDITION_FAILED =
+            ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+    
+    private static final ResponseEntity<?> NOT_IMPLEMENTED = ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED).build();
+    
     private final TaskService taskService;
     
+    private final TaskJsonCache taskJsonCache;
+    
+    private final TaskMetrics taskMetrics;
+    
+    private final TaskSearchIndex taskSearchIndex;
+    
+    private final TaskBinaryEncoder taskBinaryEncoder;
+    
+    private final boolean clustered;
+    
     /**
-     * Constructor with TaskService dependency.
+     * Constructor with TaskService, TaskJsonCache, TaskMetrics, TaskSearchIndex and
+     * TaskBinaryEncoder dependencies.
      *
      * @param taskService Task service
+     * @param taskJsonCache Cache of serialized tasks used by the read endpoints
+     * @param taskMetrics Counters for rejected and not-found requests
+     * @param taskSearchIndex Full-text index used by the search endpoint
+     * @param taskBinaryEncoder CBOR and Smile encoder used by the read endpoints
+     * @param clustered Whether this is a member of a cluster, where search is not supported
      */
     @Autowired
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, TaskJsonCache taskJsonCache, TaskMetrics taskMetrics,
+                          TaskSearchIndex taskSearchIndex, TaskBinaryEncoder taskBinaryEncoder,
+                          @Value("${tasks.cluster.enabled:false}") boolean clustered) {
         this.taskService = taskService;
+        this.taskJsonCache = taskJsonCache;
+        this.taskMetrics = taskMetrics;
+        this.taskSearchIndex = taskSearchIndex;
+        this.taskBinaryEncoder = taskBinaryEncoder;
+        this.clustered = clustered;
     }
     
     /**
      * Get all tasks.
      *
-     * @return List of all tasks
+     * @param request Current request, used for the {@code If-None-Match} check and to pick the
+     *     response format
+     * @return List of all tasks, or 304 if it has not changed
      */
     @GetMapping
-    public ResponseEntity<List<Task>> getAllTasks() {
-        return ResponseEntity.ok(taskService.getAllTasks());
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+        array = @ArraySchema(schema = @Schema(implementation = Task.class))))
+    public ResponseEntity<byte[]> getAllTasks(WebRequest request) {
+        MediaType format = format(request);
+        String etag = listEtag(format);
+        if (etag != null && request.checkNotModified(etag)) {
+            return notModified(etag);
+        }
+        return encoded(format, taskService.getAllTasks(), taskJsonCache::toJson);
+    }
+    
+    /**
+     * Get a page of tasks using keyset pagination.
+     *
+     * @param limit Maximum number of tasks to return, between 1 and {@value #MAX_PAGE_SIZE}
+     * @param after Exclusive ID cursor taken from the previous page's {@code nextCursor}
+     * @param request Current request, used for the {@code If-None-Match} check and to pick the
+     *     response format
+     * @return Page of tasks in ascending ID order, 304 if no task has changed, 400 if the limit
+     *     is out of range
+     */
+    @GetMapping(params = "limit")
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+        schema = @Schema(implementation = TaskPage.class)))
+    public ResponseEntity<byte[]> getTaskPage(@RequestParam int limit,
+                                              @RequestParam(required = false) Long after,
+                                              WebRequest request) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            return rejected(Operation.PAGE);
+        }
+        MediaType format = format(request);
+        String etag = listEtag(format);
+        if (etag != null && request.checkNotModified(etag)) {
+            return notModified(etag);
+        }
+        return encoded(format, taskService.getTaskPage(after, limit), taskJsonCache::toJson);
+    }
+    
+    /**
+     * Find tasks by status and/or due date range using the repository's secondary indexes.
+     *
+     * @param status Status to match
+     * @param dueFrom Inclusive lower bound on due date (ISO-8601 date-time)
+     * @param dueTo Exclusive upper bound on due date (ISO-8601 date-time)
+     * @param limit Maximum number of tasks to return, between 1 and {@value #MAX_PAGE_SIZE}
+     * @param request Current request, used to pick the response format
+     * @return Matching tasks, 400 if no filter is given, {@code dueFrom} is after {@code dueTo} or
+     *     the limit is out of range
+     */
+    @GetMapping("/query")
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+        array = @ArraySchema(schema = @Schema(implementation = Task.class))))
+    public ResponseEntity<byte[]> queryTasks(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime dueFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime dueTo,
+            @RequestParam(defaultValue = "" + MAX_PAGE_SIZE) int limit,
+            WebRequest request) {
+        if (status == null && dueFrom == null && dueTo == null) {
+            return rejected(Operation.QUERY);
+        }
+        if (dueFrom != null && dueTo != null && dueFrom.isAfter(dueTo)) {
+            return rejected(Operation.QUERY);
+        }
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            return rejected(Operation.QUERY);
+        }
+        return encoded(request, taskService.findTasks(status, dueFrom, dueTo, limit), taskJsonCache::toJson);
+    }
+    
+    /**
+     * List tasks that have been moved to {@value OverdueTaskScheduler#OVERDUE} because their due
+     * date passed.
+     *
+     * @param limit Maximum number of tasks to return, between 1 and {@value #MAX_PAGE_SIZE}
+     * @param request Current request, used to pick the response format
+     * @return Overdue tasks, 400 if the limit is out of range
+     */
+    @GetMapping("/overdue")
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+        array = @ArraySchema(schema = @Schema(implementation = Task.class))))
+    public ResponseEntity<byte[]> getOverdueTasks(@RequestParam(defaultValue = "" + MAX_PAGE_SIZE) int limit,
+                                                  WebRequest request) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            return rejected(Operation.QUERY);
+        }
+        return encoded(request, taskService.findTasks(OverdueTaskScheduler.OVERDUE, null, null, limit),
+                       taskJsonCache::toJson);
+    }
+    
+    /**
+     * Search task titles and descriptions, ranking tasks that mention the words more often, or
+     * mention rarer words, first.
+     *
+     * @param q Words to search for; a task must contain all of them, in any case
+     * @param offset Number of best matches to skip, at most {@value #MAX_SEARCH_OFFSET}
+     * @param limit Maximum number of tasks to return, between 1 and {@value #MAX_PAGE_SIZE}
+     * @param request Current request, used to pick the response format
+     * @return Page of matching tasks, best match first, 400 if the query is blank or paging is
+     *     out of range, 501 in cluster mode
+     */
+    @GetMapping("/search")
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+        schema = @Schema(implementation = TaskSearchPage.class)))
+    public ResponseEntity<byte[]> searchTasks(@RequestParam String q,
+                                              @RequestParam(defaultValue = "0") int offset,
+                                              @RequestParam(defaultValue = "" + DEFAULT_SEARCH_LIMIT) int limit,
+                                              WebRequest request) {
+        if (clustered) {
+            return bodiless(NOT_IMPLEMENTED);
+        }
+        if (q.isBlank() || offset < 0 || offset > MAX_SEARCH_OFFSET || limit < 1 || limit > MAX_PAGE_SIZE) {
+            return rejected(Operation.SEARCH);
+        }
+        return encoded(request, taskSearchIndex.search(q, offset, limit), taskJsonCache::toJson);
+    }
+    
+    /**
+     * Export all tasks as newline-delimited JSON.
+     *
+     * <p>Tasks are pulled lazily from the repository and their JSON written one at a time
+     * straight to the response stream, so heap use does not grow with the number of tasks.
+     *
+     * @return Streaming NDJSON body with one task per line
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportTasks() {
+        StreamingResponseBody body = outputStream -> {
+            try (Stream<Task> tasks = taskService.streamAllTasks()) {
+                Iterator<Task> iterator = tasks.iterator();
+                while (iterator.hasNext()) {
+                    outputStream.write(taskJsonCache.toJson(iterator.next()));
+                    outputStream.write('\n');
+                }
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
     
     /**
      * Get task by ID.
      *
      * @param id Task ID
-     * @return Task if found, 404 otherwise
+     * @param request Current request, used for the {@code If-None-Match} check and to pick the
+     *     response format
+     * @return Task if found, 304 if it has not changed, 404 otherwise
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Task> getTaskById(@PathVariable Long id) {
-        try {
-            Task task = taskService.getTaskById(id);
-            return ResponseEntity.ok(task);
-        } catch (RuntimeException e) {
-            return ResponseEntity.notFound().build();
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+        schema = @Schema(implementation = Task.class)))
+    public ResponseEntity<byte[]> getTaskById(@PathVariable Long id, WebRequest request) {
+        Optional<Task> found = taskService.findTaskById(id);
+        if (found.isEmpty()) {
+            return notFound(Operation.GET);
         }
+        Task task = found.get();
+        MediaType format = format(request);
+        String etag = TaskEtags.of(task, taskService.getIncarnation(), format);
+        if (request.checkNotModified(etag)) {
+            return notModified(etag);
+        }
+        return encoded(format, task, taskJsonCache::toJson);
     }
     
     /**
@@ -72,45 +323,56 @@ public class TaskController {
     @PostMapping
     public ResponseEntity<Task> createTask(@RequestBody Task task) {
         // Basic validation
-        if (task.getTitle() == null || task.getTitle().isEmpty()) {
-            return ResponseEntity.badRequest().build();
-        }
-        if (task.getStatus() == null || task.getStatus().isEmpty()) {
-            return ResponseEntity.badRequest().build();
-        }
-        if (task.getDueDate() == null) {
-            return ResponseEntity.badRequest().build();
+        if (!TaskValidator.isValid(task)) {
+            return rejected(Operation.CREATE);
         }
         
         Task createdTask = taskService.createTask(task);
         return ResponseEntity.status(HttpStatus.CREATED).body(createdTask);
     }
     
+    /**
+     * Apply a batch of create, update, status change and delete operations.
+     *
+     * @param operations Operations to apply, at most {@value #MAX_BATCH_SIZE}
+     * @return One result per operation, 413 if the batch is too large
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<TaskOperationResult>> applyBatch(@RequestBody List<TaskOperation> operations) {
+        if (operations.size() > MAX_BATCH_SIZE) {
+            taskMetrics.rejected(Operation.BATCH);
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+        }
+        List<TaskOperationResult> results = taskService.applyBatch(operations).stream()
+                .map(result -> result.withStatus(statusOf(result.getOutcome()).value()))
+                .toList();
+        return ResponseEntity.ok(results);
+    }
+    
     /**
      * Update an existing task.
      *
      * @param id Task ID
      * @param task Updated task details
-     * @return Updated task if found, 404 otherwise
+     * @param ifMatch Optional ETag the task must still have for the update to apply
+     * @param request Current request, used to pick the response format
+     * @return Updated task if found, 404 otherwise, 412 if it no longer matches {@code If-Match}
      */
     @PutMapping("/{id}")
-    public ResponseEntity<Task> updateTask(@PathVariable Long id, @RequestBody Task task) {
+    public ResponseEntity<Task> updateTask(@PathVariable Long id, @RequestBody Task task,
+                                           @RequestHeader(value = HttpHeaders.IF_MATCH, required = false)
+                                           String ifMatch,
+                                           WebRequest request) {
+        // Basic validation
+        if (!TaskValidator.isValid(task)) {
+            return rejected(Operation.UPDATE);
+        }
+        
         try {
-            // Basic validation
-            if (task.getTitle() == null || task.getTitle().isEmpty()) {
-                return ResponseEntity.badRequest().build();
-            }
-            if (task.getStatus() == null || task.getStatus().isEmpty()) {
-                return ResponseEntity.badRequest().build();
-            }
-            if (task.getDueDate() == null) {
-                return ResponseEntity.badRequest().build();
-            }
-            
-            Task updatedTask = taskService.updateTask(id, task);
-            return ResponseEntity.ok(updatedTask);
-        } catch (RuntimeException e) {
-            return ResponseEntity.notFound().build();
+            return updated(Operation.UPDATE,
+                           taskService.tryUpdateTask(id, task, expectedVersion(ifMatch)), request);
+        } catch (TaskVersionConflictException e) {
+            return preconditionFailed();
         }
     }
     
@@ -119,20 +381,25 @@ public class TaskController {
      *
      * @param id Task ID
      * @param statusUpdate Status update object containing new status
-     * @return Updated task if found, 404 otherwise
+     * @param ifMatch Optional ETag the task must still have for the update to apply
+     * @param request Current request, used to pick the response format
+     * @return Updated task if found, 404 otherwise, 412 if it no longer matches {@code If-Match}
      */
-    @PutMapping("/{id}/status")
-    public ResponseEntity<Task> updateTaskStatus(@PathVariable Long id, @RequestBody Map<String, String> statusUpdate) {
+    @RequestMapping(value = "/{id}/status", method = {RequestMethod.PUT, RequestMethod.PATCH})
+    public ResponseEntity<Task> updateTaskStatus(@PathVariable Long id, @RequestBody Map<String, String> statusUpdate,
+                                                 @RequestHeader(value = HttpHeaders.IF_MATCH, required = false)
+                                                 String ifMatch,
+                                                 WebRequest request) {
+        String status = statusUpdate.get("status");
+        if (!TaskValidator.isValidStatus(status)) {
+            return rejected(Operation.UPDATE_STATUS);
+        }
+        
         try {
-            String status = statusUpdate.get("status");
-            if (status == null) {
-                return ResponseEntity.badRequest().build();
-            }
-            
-            Task updatedTask = taskService.updateTaskStatus(id, status);
-            return ResponseEntity.ok(updatedTask);
-        } catch (RuntimeException e) {
-            return ResponseEntity.notFound().build();
+            return updated(Operation.UPDATE_STATUS,
+                           taskService.tryUpdateTaskStatus(id, status, expectedVersion(ifMatch)), request);
+        } catch (TaskVersionConflictException e) {
+            return preconditionFailed();
         }
     }
     
@@ -144,11 +411,91 @@ public class TaskController {
      */
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteTask(@PathVariable Long id) {
-        try {
-            taskService.deleteTask(id);
-            return ResponseEntity.noContent().build();
-        } catch (RuntimeException e) {
-            return ResponseEntity.notFound().build();
+        if (!taskService.tryDeleteTask(id)) {
+            return notFound(Operation.DELETE);
         }
+        return ResponseEntity.noContent().build();
+    }
+    
+    /**
+     * The updated task is written in the format its ETag names, so that the tag can later
+     * revalidate a read of the same format.
+     */
+    private ResponseEntity<Task> updated(Operation operation, Optional<Task> updated, WebRequest request) {
+        if (updated.isEmpty()) {
+            return notFound(operation);
+        }
+        Task task = updated.get();
+        MediaType format = format(request);
+        return ResponseEntity.ok()
+                .eTag(TaskEtags.of(task, taskService.getIncarnation(), format))
+                .contentType(format == null ? MediaType.APPLICATION_JSON : format)
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(task);
+    }
+    
+    private Long expectedVersion(String ifMatch) {
+        return TaskEtags.expectedVersion(ifMatch, taskService.getIncarnation());
+    }
+    
+    private MediaType format(WebRequest request) {
+        return taskBinaryEncoder.negotiate(request.getHeader(HttpHeaders.ACCEPT));
+    }
+    
+    private <T> ResponseEntity<byte[]> encoded(WebRequest request, T body, Function<T, byte[]> json) {
+        return encoded(format(request), body, json);
+    }
+    
+    private <T> ResponseEntity<byte[]> encoded(MediaType format, T body, Function<T, byte[]> json) {
+        if (format == null) {
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).varyBy(HttpHeaders.ACCEPT)
+                    .body(json.apply(body));
+        }
+        return ResponseEntity.ok().contentType(format).varyBy(HttpHeaders.ACCEPT)
+                .body(taskBinaryEncoder.encode(body, format));
+    }
+    
+    private static HttpStatus statusOf(Outcome outcome) {
+        return switch (outcome) {
+            case CREATED -> HttpStatus.CREATED;
+            case UPDATED -> HttpStatus.OK;
+            case DELETED -> HttpStatus.NO_CONTENT;
+            case INVALID -> HttpStatus.BAD_REQUEST;
+            case NOT_FOUND -> HttpStatus.NOT_FOUND;
+        };
+    }
+    
+    private <T> ResponseEntity<T> rejected(Operation operation) {
+        taskMetrics.rejected(operation);
+        return bodiless(BAD_REQUEST);
+    }
+    
+    private <T> ResponseEntity<T> notFound(Operation operation) {
+        taskMetrics.notFound(operation);
+        return bodiless(NOT_FOUND);
+    }
+    
+    private static <T> ResponseEntity<T> preconditionFailed() {
+        return bodiless(PRECONDITION_FAILED);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static <T> ResponseEntity<T> bodiless(ResponseEntity<?> response) {
+        return (ResponseEntity<T>) response;
+    }
+    
+    /**
+     * The 304 for a tag in a given format still varies by {@code Accept}, so that a cache does
+     * not answer a request for another format from it.
+     */
+    private static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).varyBy(HttpHeaders.ACCEPT).build();
+    }
+    
+    private String listEtag(MediaType format) {
+        OptionalLong modificationCount = taskService.getModificationCount();
+        return modificationCount.isPresent()
+                ? TaskEtags.ofModificationCount(modificationCount.getAsLong(), format)
+                : null;
     }
 }
\ No newline at end of file
@@ -0,0 +1,92 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import org.springframework.http.MediaType;
+import uk.gov.hmcts.reform.dev.models.Task;
+
+/**
+ * ETag formatting and {@code If-Match} parsing shared by the servlet and reactive controllers.
+ *
+ * <p>Tags are weak, because the container will not compress a response that carries a strong
+ * tag, and a binary response has its format in the tag, so a tag held for the JSON form never
+ * revalidates the CBOR or Smile form. Weak tags never match under the strong comparison that
+ * {@code If-Match} calls for, so {@link #expectedVersion} compares the version in the tag
+ * instead, which is exact whichever format it was sent with.
+ */
+final class TaskEtags {
+
+    private static final long NO_VERSION = -1;
+
+    private TaskEtags() {
+    }
+
+    /**
+     * ETag for a single task in JSON, taken from the store's incarnation and the task's version.
+     * The incarnation keeps a task given an ID that an earlier task had, for instance after an
+     * in-memory store restarts, from matching the earlier task's ETag.
+     *
+     * @param task Task
+     * @param incarnation Store incarnation
+     * @return Weak ETag
+     */
+    static String of(Task task, long incarnation) {
+        return of(task, incarnation, null);
+    }
+
+    /**
+     * ETag for a single task in a response format.
+     *
+     * @param task Task
+     * @param incarnation Store incarnation
+     * @param format Binary format of the response, or null for JSON
+     * @return Weak ETag
+     */
+    static String of(Task task, long incarnation, MediaType format) {
+        return weak(Long.toHexString(incarnation) + "-" + task.getVersion(), format);
+    }
+
+    /**
+     * ETag for the task list in a response format, taken from the repository's modification
+     * count.
+     *
+     * @param modificationCount Modification count
+     * @param format Binary format of the response, or null for JSON
+     * @return Weak ETag
+     */
+    static String ofModificationCount(long modificationCount, MediaType format) {
+        return weak(Long.toHexString(modificationCount), format);
+    }
+
+    /**
+     * Read the version out of an {@code If-Match} header. Only a single task ETag from the
+     * current incarnation can match, in any format; a malformed tag, a tag from another
+     * incarnation, or a list of tags, is mapped to a version no task has.
+     *
+     * @param ifMatch Header value, or null if absent
+     * @param incarnation Store incarnation
+     * @return Expected version, or null if any version is acceptable
+     */
+    static Long expectedVersion(String ifMatch, long incarnation) {
+        if (ifMatch == null || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        String prefix = "\"" + Long.toHexString(incarnation) + "-";
+        if (!tag.startsWith(prefix) || tag.length() < prefix.length() + 2 || tag.charAt(tag.length() - 1) != '"') {
+            return NO_VERSION;
+        }
+        String version = tag.substring(prefix.length(), tag.length() - 1);
+        int format = version.indexOf('-');
+        try {
+            return Long.parseLong(format < 0 ? version : version.substring(0, format));
+        } catch (NumberFormatException e) {
+            return NO_VERSION;
+        }
+    }
+
+    private static String weak(String value, MediaType format) {
+        return "W/\"" + value + (format == null ? "" : "-" + format.getSubtype()) + "\"";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,67 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import uk.gov.hmcts.reform.dev.models.TaskStats;
+import uk.gov.hmcts.reform.dev.services.TaskService;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Task statistics for the management dashboard: counts by status, and counts of open tasks that
+ * are overdue, due today and due this week.
+ *
+ * <p>Days and weeks are taken in {@code tasks.stats.zone}. Tasks in one of
+ * {@code tasks.overdue.final-statuses} are finished and left out of the due date counts. The
+ * in-memory stores keep the counts up to date as tasks are written, so a request does not read
+ * any tasks.
+ */
+@RestController
+@RequestMapping("/api/tasks")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class TaskStatsController {
+    
+    private final TaskService taskService;
+    
+    private final Set<String> closedStatuses;
+    
+    private final Clock clock;
+    
+    /**
+     * Constructor with TaskService dependency and the statistics settings.
+     *
+     * @param taskService Task service
+     * @param zone Zone that days and weeks are taken in
+     * @param closedStatuses Statuses of finished tasks
+     */
+    @Autowired
+    public TaskStatsController(TaskService taskService,
+                               @Value("${tasks.stats.zone:Europe/London}") ZoneId zone,
+                               @Value("${tasks.overdue.final-statuses:COMPLETED}") List<String> closedStatuses) {
+        this(taskService, Clock.system(zone), closedStatuses);
+    }
+    
+    TaskStatsController(TaskService taskService, Clock clock, List<String> closedStatuses) {
+        this.taskService = taskService;
+        this.clock = clock;
+        this.closedStatuses = Set.copyOf(closedStatuses);
+    }
+    
+    /**
+     * Get task statistics for today.
+     *
+     * @return Task counts
+     */
+    @GetMapping("/stats")
+    public TaskStats getStats() {
+        return taskService.getStats(LocalDate.now(clock), clock.getZone(), closedStatuses);
+    }
+}
\ No newline at end of file
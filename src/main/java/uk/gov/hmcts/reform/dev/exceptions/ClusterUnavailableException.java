@@ -0,0 +1,27 @@
+package uk.gov.hmcts.reform.dev.exceptions;
+
+/**
+ * Thrown in cluster mode when a request could not be answered because another member of the
+ * cluster could not be reached or did not answer as expected.
+ */
+public class ClusterUnavailableException extends RuntimeException {
+
+    /**
+     * Constructor with a message.
+     *
+     * @param message What could not be done
+     */
+    public ClusterUnavailableException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructor with a message and the failure that caused it.
+     *
+     * @param message What could not be done
+     * @param cause Underlying failure
+     */
+    public ClusterUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,38 @@
+package uk.gov.hmcts.reform.dev.exceptions;
+
+/**
+ * Thrown when a task that must exist does not.
+ *
+ * <p>Missing tasks are an expected outcome of client input rather than a fault, so the
+ * exception records no stack trace and builds its message only if it is asked for. Callers that
+ * can handle a missing task directly should use the {@code Optional} lookups on
+ * {@link uk.gov.hmcts.reform.dev.services.TaskService} instead.
+ */
+public class TaskNotFoundException extends RuntimeException {
+
+    private final Long id;
+
+    /**
+     * Constructor with the ID that was not found.
+     *
+     * @param id Task ID
+     */
+    public TaskNotFoundException(Long id) {
+        super(null, null, false, false);
+        this.id = id;
+    }
+
+    /**
+     * Get task ID.
+     *
+     * @return Task ID
+     */
+    public Long getId() {
+        return id;
+    }
+
+    @Override
+    public String getMessage() {
+        return "Task not found with id: " + id;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,49 @@
+package uk.gov.hmcts.reform.dev.exceptions;
+
+/**
+ * Thrown when a task was changed since the version a conditional update expected.
+ *
+ * <p>Like {@link TaskNotFoundException} it reports a client-side condition, so it records no
+ * stack trace and builds its message lazily.
+ */
+public class TaskVersionConflictException extends RuntimeException {
+
+    private final Long id;
+
+    private final long expectedVersion;
+
+    /**
+     * Constructor with the task and the version the caller expected it to be at.
+     *
+     * @param id Task ID
+     * @param expectedVersion Version the caller expected
+     */
+    public TaskVersionConflictException(Long id, long expectedVersion) {
+        super(null, null, false, false);
+        this.id = id;
+        this.expectedVersion = expectedVersion;
+    }
+
+    /**
+     * Get task ID.
+     *
+     * @return Task ID
+     */
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * Get the version the caller expected.
+     *
+     * @return Expected version
+     */
+    public long getExpectedVersion() {
+        return expectedVersion;
+    }
+
+    @Override
+    public String getMessage() {
+        return "Task " + id + " is no longer at version " + expectedVersion;
+    }
+}
\ No newline at end of file
@@ -1,24 +1,66 @@
 package uk.gov.hmcts.reform.dev.models;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.time.OffsetDateTime;
 
 /**
  * Task entity for caseworker task management.
+ *
+ * <p>When the {@code jpa} profile is active, IDs come from {@code task_id_seq}. Its increment
+ * matches the allocation size, so Hibernate's pooled optimizer reserves a block of IDs per
+ * sequence call instead of making one round trip per insert.
+ *
+ * <p>The version starts at 0 and is incremented by the repository each time the task is saved.
+ * It is read-only in JSON.
+ *
+ * <p>The column lengths are also enforced by {@code TaskValidator}, so every store accepts the
+ * same tasks.
  */
+@Entity
+@Table(name = "task", indexes = {
+    @Index(name = "idx_task_status", columnList = "status"),
+    @Index(name = "idx_task_due_date", columnList = "due_date")
+})
 public class Task {
     
+    public static final int MAX_TITLE_LENGTH = 255;
+    
+    public static final int MAX_DESCRIPTION_LENGTH = 4000;
+    
+    public static final int MAX_STATUS_LENGTH = 64;
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_id_seq")
+    @SequenceGenerator(name = "task_id_seq", sequenceName = "task_id_seq", allocationSize = 50)
     private Long id;
     
+    @Column(nullable = false, length = MAX_TITLE_LENGTH)
     private String title;
     
+    @Column(length = MAX_DESCRIPTION_LENGTH)
     private String description;
     
+    @Column(nullable = false, length = MAX_STATUS_LENGTH)
     private String status;
     
+    @Column(name = "due_date", nullable = false)
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX", shape = JsonFormat.Shape.STRING)
     private OffsetDateTime dueDate;
     
+    @Version
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private long version;
+    
     /**
      * Default constructor.
      */
@@ -40,6 +82,20 @@ public class Task {
         this.dueDate = dueDate;
     }
     
+    /**
+     * Copy constructor.
+     *
+     * @param other Task to copy
+     */
+    public Task(Task other) {
+        this.id = other.id;
+        this.title = other.title;
+        this.description = other.description;
+        this.status = other.status;
+        this.dueDate = other.dueDate;
+        this.version = other.version;
+    }
+    
     /**
      * Get task ID.
      *
@@ -129,4 +185,22 @@ public class Task {
     public void setDueDate(OffsetDateTime dueDate) {
         this.dueDate = dueDate;
     }
+    
+    /**
+     * Get task version.
+     *
+     * @return Task version
+     */
+    public long getVersion() {
+        return version;
+    }
+    
+    /**
+     * Set task version.
+     *
+     * @param version Task version
+     */
+    public void setVersion(long version) {
+        this.version = version;
+    }
 }
\ No newline at end of file
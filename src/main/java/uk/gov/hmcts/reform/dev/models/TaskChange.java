@@ -0,0 +1,67 @@
+package uk.gov.hmcts.reform.dev.models;
+
+/**
+ * A create, update, status change or delete of a task, as sent on the change stream.
+ */
+public class TaskChange {
+    
+    private final long sequence;
+    
+    private final TaskOperation.Type type;
+    
+    private final Long id;
+    
+    private final Task task;
+    
+    /**
+     * Constructor with change details.
+     *
+     * @param sequence Position of the change in the change feed
+     * @param type Kind of change
+     * @param id ID of the changed task
+     * @param task Task as saved, or null if it was deleted
+     */
+    public TaskChange(long sequence, TaskOperation.Type type, Long id, Task task) {
+        this.sequence = sequence;
+        this.type = type;
+        this.id = id;
+        this.task = task;
+    }
+    
+    /**
+     * Get the position of the change in the change feed. Later changes have higher sequence
+     * numbers.
+     *
+     * @return Sequence number
+     */
+    public long getSequence() {
+        return sequence;
+    }
+    
+    /**
+     * Get the kind of change.
+     *
+     * @return Change type
+     */
+    public TaskOperation.Type getType() {
+        return type;
+    }
+    
+    /**
+     * Get the ID of the changed task.
+     *
+     * @return Task ID
+     */
+    public Long getId() {
+        return id;
+    }
+    
+    /**
+     * Get the task as saved.
+     *
+     * @return Task, or null for a delete
+     */
+    public Task getTask() {
+        return task;
+    }
+}
\ No newline at end of file
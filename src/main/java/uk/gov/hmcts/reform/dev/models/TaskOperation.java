@@ -0,0 +1,118 @@
+package uk.gov.hmcts.reform.dev.models;
+
+/**
+ * A single create, update, status change or delete within a batch request.
+ */
+public class TaskOperation {
+    
+    /**
+     * Kind of batch operation.
+     */
+    public enum Type {
+        CREATE,
+        UPDATE,
+        STATUS,
+        DELETE
+    }
+    
+    private Type op;
+    
+    private Long id;
+    
+    private Task task;
+    
+    private String status;
+    
+    /**
+     * Default constructor.
+     */
+    public TaskOperation() {
+    }
+    
+    /**
+     * Constructor with all operation details.
+     *
+     * @param op Operation type
+     * @param id Target task ID, required for everything except CREATE
+     * @param task Task details, required for CREATE and UPDATE
+     * @param status New status, required for STATUS
+     */
+    public TaskOperation(Type op, Long id, Task task, String status) {
+        this.op = op;
+        this.id = id;
+        this.task = task;
+        this.status = status;
+    }
+    
+    /**
+     * Get operation type.
+     *
+     * @return Operation type
+     */
+    public Type getOp() {
+        return op;
+    }
+    
+    /**
+     * Set operation type.
+     *
+     * @param op Operation type
+     */
+    public void setOp(Type op) {
+        this.op = op;
+    }
+    
+    /**
+     * Get target task ID.
+     *
+     * @return Target task ID
+     */
+    public Long getId() {
+        return id;
+    }
+    
+    /**
+     * Set target task ID.
+     *
+     * @param id Target task ID
+     */
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    /**
+     * Get task details.
+     *
+     * @return Task details
+     */
+    public Task getTask() {
+        return task;
+    }
+    
+    /**
+     * Set task details.
+     *
+     * @param task Task details
+     */
+    public void setTask(Task task) {
+        this.task = task;
+    }
+    
+    /**
+     * Get new status.
+     *
+     * @return New status
+     */
+    public String getStatus() {
+        return status;
+    }
+    
+    /**
+     * Set new status.
+     *
+     * @param status New status
+     */
+    public void setStatus(String status) {
+        this.status = status;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,121 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Outcome of one operation in a batch request.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TaskOperationResult {
+    
+    /**
+     * What happened to the task, which the controller turns into an HTTP status.
+     */
+    public enum Outcome {
+        CREATED,
+        UPDATED,
+        DELETED,
+        INVALID,
+        NOT_FOUND
+    }
+    
+    private final int index;
+    
+    private final Outcome outcome;
+    
+    private final int status;
+    
+    private final Long id;
+    
+    private final Task task;
+    
+    private final String error;
+    
+    /**
+     * Constructor with all result details, before the HTTP status is known.
+     *
+     * @param index Position of the operation in the request
+     * @param outcome What happened to the task
+     * @param id ID of the affected task, if known
+     * @param task Resulting task for creates and updates
+     * @param error Reason the operation was rejected
+     */
+    public TaskOperationResult(int index, Outcome outcome, Long id, Task task, String error) {
+        this(index, outcome, 0, id, task, error);
+    }
+    
+    private TaskOperationResult(int index, Outcome outcome, int status, Long id, Task task, String error) {
+        this.index = index;
+        this.outcome = outcome;
+        this.status = status;
+        this.id = id;
+        this.task = task;
+        this.error = error;
+    }
+    
+    /**
+     * Get position of the operation in the request.
+     *
+     * @return Zero-based index
+     */
+    public int getIndex() {
+        return index;
+    }
+    
+    /**
+     * Copy this result with the HTTP status code the equivalent single request would have returned.
+     *
+     * @param status Status code
+     * @return Result with the status set
+     */
+    public TaskOperationResult withStatus(int status) {
+        return new TaskOperationResult(index, outcome, status, id, task, error);
+    }
+    
+    /**
+     * Get what happened to the task.
+     *
+     * @return Outcome
+     */
+    @JsonIgnore
+    public Outcome getOutcome() {
+        return outcome;
+    }
+    
+    /**
+     * Get HTTP status code for this operation.
+     *
+     * @return Status code, 0 until the controller sets it
+     */
+    public int getStatus() {
+        return status;
+    }
+    
+    /**
+     * Get ID of the affected task.
+     *
+     * @return Task ID
+     */
+    public Long getId() {
+        return id;
+    }
+    
+    /**
+     * Get resulting task.
+     *
+     * @return Task after the operation
+     */
+    public Task getTask() {
+        return task;
+    }
+    
+    /**
+     * Get rejection reason.
+     *
+     * @return Error message
+     */
+    public String getError() {
+        return error;
+    }
+}
\ No newline at end of file
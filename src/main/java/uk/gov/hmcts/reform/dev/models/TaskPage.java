@@ -0,0 +1,42 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import java.util.List;
+
+/**
+ * A page of tasks returned by keyset pagination.
+ */
+public class TaskPage {
+    
+    private final List<Task> tasks;
+    
+    private final Long nextCursor;
+    
+    /**
+     * Constructor with page contents.
+     *
+     * @param tasks Tasks on this page, in ascending ID order
+     * @param nextCursor Cursor to pass as {@code after} for the next page, or null on the last page
+     */
+    public TaskPage(List<Task> tasks, Long nextCursor) {
+        this.tasks = tasks;
+        this.nextCursor = nextCursor;
+    }
+    
+    /**
+     * Get tasks on this page.
+     *
+     * @return Tasks in ascending ID order
+     */
+    public List<Task> getTasks() {
+        return tasks;
+    }
+    
+    /**
+     * Get the cursor for the next page.
+     *
+     * @return ID of the last task on this page, or null if there are no further pages
+     */
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,55 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import java.util.List;
+
+/**
+ * A page of full-text search results, best match first.
+ */
+public class TaskSearchPage {
+    
+    private final List<Task> tasks;
+    
+    private final long total;
+    
+    private final Integer nextOffset;
+    
+    /**
+     * Constructor with page contents.
+     *
+     * @param tasks Matching tasks on this page, best match first
+     * @param total Number of tasks matching the query
+     * @param nextOffset Offset to pass for the next page, or null on the last page
+     */
+    public TaskSearchPage(List<Task> tasks, long total, Integer nextOffset) {
+        this.tasks = tasks;
+        this.total = total;
+        this.nextOffset = nextOffset;
+    }
+    
+    /**
+     * Get tasks on this page.
+     *
+     * @return Tasks, best match first
+     */
+    public List<Task> getTasks() {
+        return tasks;
+    }
+    
+    /**
+     * Get the number of tasks matching the query across all pages.
+     *
+     * @return Number of matching tasks
+     */
+    public long getTotal() {
+        return total;
+    }
+    
+    /**
+     * Get the offset of the next page.
+     *
+     * @return Offset of the next page, or null if there are no further pages
+     */
+    public Integer getNextOffset() {
+        return nextOffset;
+    }
+}
\ No newline at end of file
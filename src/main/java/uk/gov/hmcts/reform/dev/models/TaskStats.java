@@ -0,0 +1,98 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Task counts for the management dashboard: all tasks by status, and open tasks by when they
+ * are due relative to a given day.
+ */
+public class TaskStats {
+    
+    private final LocalDate date;
+    
+    private final long total;
+    
+    private final Map<String, Long> byStatus;
+    
+    private final long overdue;
+    
+    private final long dueToday;
+    
+    private final long dueThisWeek;
+    
+    /**
+     * Constructor with the counts.
+     *
+     * @param date Day the due date counts are relative to
+     * @param total Number of tasks
+     * @param byStatus Number of tasks with each status
+     * @param overdue Number of open tasks due before {@code date}
+     * @param dueToday Number of open tasks due on {@code date}
+     * @param dueThisWeek Number of open tasks due from {@code date} to the end of its week
+     */
+    public TaskStats(LocalDate date, long total, Map<String, Long> byStatus, long overdue, long dueToday,
+                     long dueThisWeek) {
+        this.date = date;
+        this.total = total;
+        this.byStatus = byStatus;
+        this.overdue = overdue;
+        this.dueToday = dueToday;
+        this.dueThisWeek = dueThisWeek;
+    }
+    
+    /**
+     * Get the day the due date counts are relative to.
+     *
+     * @return Day
+     */
+    public LocalDate getDate() {
+        return date;
+    }
+    
+    /**
+     * Get the number of tasks.
+     *
+     * @return Number of tasks
+     */
+    public long getTotal() {
+        return total;
+    }
+    
+    /**
+     * Get the number of tasks with each status.
+     *
+     * @return Number of tasks by status
+     */
+    public Map<String, Long> getByStatus() {
+        return byStatus;
+    }
+    
+    /**
+     * Get the number of open tasks due before the day.
+     *
+     * @return Number of overdue tasks
+     */
+    public long getOverdue() {
+        return overdue;
+    }
+    
+    /**
+     * Get the number of open tasks due on the day.
+     *
+     * @return Number of tasks due today
+     */
+    public long getDueToday() {
+        return dueToday;
+    }
+    
+    /**
+     * Get the number of open tasks due from the day until the end of its week, Monday to Sunday.
+     * Includes the tasks due today.
+     *
+     * @return Number of tasks due this week
+     */
+    public long getDueThisWeek() {
+        return dueThisWeek;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,114 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link TaskIdGenerator} handing out IDs from blocks leased from a file, enabled with
+ * {@code tasks.ids.generator=block}.
+ *
+ * <p>The file holds the first ID not yet leased. A lease takes {@code tasks.ids.block.size} IDs
+ * by advancing it under an exclusive file lock and syncing it to disk before any of the IDs are
+ * used, so a lease is never handed out twice: not after a restart, and not to another process
+ * sharing the file. IDs within a block are handed out from memory with one atomic increment;
+ * only the request that finds the block used up waits for the next lease. IDs left in a block
+ * when the application stops are skipped, so IDs have gaps but stay small and increasing.
+ *
+ * <p>Several instances can share one file on a shared volume to get IDs that are unique across
+ * all of them.
+ */
+@Component
+@ConditionalOnProperty(prefix = "tasks.ids", name = "generator", havingValue = "block")
+public class BlockLeasedIdGenerator implements TaskIdGenerator {
+
+    private static final int RECORD_LENGTH = 20;
+
+    private final Path file;
+    private final int blockSize;
+    private volatile Block block = new Block(new AtomicLong(), 0);
+
+    /**
+     * Constructor with the lease file and block size.
+     *
+     * @param file File holding the first ID not yet leased, created starting from 1 if missing
+     * @param blockSize Number of IDs taken with each lease
+     */
+    @Autowired
+    public BlockLeasedIdGenerator(@Value("${tasks.ids.block.file}") String file,
+                                  @Value("${tasks.ids.block.size:1000}") int blockSize) {
+        this(Paths.get(file), blockSize);
+    }
+
+    BlockLeasedIdGenerator(Path file, int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("tasks.ids.block.size must be at least 1");
+        }
+        this.file = file;
+        this.blockSize = blockSize;
+    }
+
+    @Override
+    public long nextId() {
+        while (true) {
+            Block current = block;
+            long id = current.next().getAndIncrement();
+            if (id < current.end()) {
+                return id;
+            }
+            renew(current);
+        }
+    }
+
+    @Override
+    public long lastId() {
+        Block current = block;
+        return Math.max(0, Math.min(current.next().get(), current.end()) - 1);
+    }
+
+    private synchronized void renew(Block exhausted) {
+        if (block == exhausted) {
+            long start = lease();
+            block = new Block(new AtomicLong(start), start + blockSize);
+        }
+    }
+
+    private long lease() {
+        try {
+            Path directory = file.toAbsolutePath().getParent();
+            if (directory != null) {
+                Files.createDirectories(directory);
+            }
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                                                        StandardOpenOption.WRITE);
+                 FileLock lock = channel.lock()) {
+                ByteBuffer record = ByteBuffer.allocate(RECORD_LENGTH);
+                channel.read(record, 0);
+                String text = new String(record.array(), 0, record.position(), StandardCharsets.US_ASCII).trim();
+                long start = text.isEmpty() ? 1 : Long.parseLong(text);
+                // Fixed width, so the new value overwrites the old one in place without truncating
+                String next = String.format("%0" + (RECORD_LENGTH - 1) + "d\n", start + blockSize);
+                channel.write(ByteBuffer.wrap(next.getBytes(StandardCharsets.US_ASCII)), 0);
+                channel.force(true);
+                return start;
+            }
+        } catch (IOException | NumberFormatException e) {
+            throw new IllegalStateException("Could not lease task IDs from " + file, e);
+        }
+    }
+
+    private record Block(AtomicLong next, long end) {
+    }
+}
\ No newline at end of file
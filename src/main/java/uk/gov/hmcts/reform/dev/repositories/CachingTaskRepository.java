@@ -0,0 +1,202 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskPage;
+import uk.gov.hmcts.reform.dev.models.TaskStats;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+/**
+ * Read-through cache of tasks by ID in front of the underlying task store, enabled with
+ * {@code tasks.cache.enabled}.
+ *
+ * <p>The cache is a Caffeine cache bounded by size (W-TinyLFU admission and eviction) and by
+ * time since the entry was written. Only single-task lookups are cached; pages, queries and
+ * streams always go to the store.
+ *
+ * <p>The cache holds futures. A miss installs a placeholder future and then loads from the
+ * store on the calling thread, outside the map's bin lock, so a slow store never blocks lookups
+ * of unrelated keys and a virtual thread waiting on the store is not pinned to its carrier.
+ *
+ * <p>New tasks are written through to the cache. Updates and deletes invalidate the entry once
+ * the store has accepted the change, rather than writing the new value: invalidation removes any
+ * in-flight load's placeholder, so a lookup that read the old value from the store returns it to
+ * its own caller but cannot put it back into the cache after the write. Missing IDs are not
+ * cached.
+ *
+ * <p>Hit, miss, eviction and size metrics are published under the {@code tasks} cache name.
+ *
+ * <p>Not used in cluster mode: a member could not invalidate entries for tasks written through
+ * another member.
+ */
+@Repository
+@Primary
+@ConditionalOnExpression("${tasks.cache.enabled:false} and !${tasks.cluster.enabled:false}")
+public class CachingTaskRepository implements TaskRepository {
+
+    static final String CACHE_NAME = "tasks";
+
+    private final TaskRepository store;
+    private final AsyncCache<Long, Task> cache;
+
+    /**
+     * Constructor with the store to cache and the cache bounds.
+     *
+     * @param store Underlying task store
+     * @param maximumSize Maximum number of cached tasks
+     * @param expireAfterWrite Time after which a cached task is reloaded from the store
+     * @param registry Registry to publish cache metrics to
+     */
+    @Autowired
+    public CachingTaskRepository(@Qualifier("taskStore") TaskRepository store,
+                                 @Value("${tasks.cache.maximum-size:100000}") long maximumSize,
+                                 @Value("${tasks.cache.expire-after-write:10m}") Duration expireAfterWrite,
+                                 MeterRegistry registry) {
+        this(store, Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(expireAfterWrite), registry);
+    }
+
+    CachingTaskRepository(TaskRepository store, Caffeine<Object, Object> builder, MeterRegistry registry) {
+        this.store = store;
+        this.cache = builder.recordStats().buildAsync();
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public List<Task> findAll() {
+        return store.findAll();
+    }
+
+    @Override
+    public Stream<Task> stream() {
+        return store.stream();
+    }
+
+    /**
+     * Find task by ID, loading it from the store on a miss. Concurrent misses for the same ID
+     * share one load.
+     *
+     * @param id Task ID
+     * @return Optional containing task if found
+     */
+    @Override
+    public Optional<Task> findById(Long id) {
+        CompletableFuture<Task> load = new CompletableFuture<>();
+        CompletableFuture<Task> cached = cache.get(id, (key, executor) -> load);
+        if (cached == load) {
+            try {
+                load.complete(store.findById(id).orElse(null));
+            } catch (RuntimeException e) {
+                load.completeExceptionally(e);
+                throw e;
+            }
+        }
+        return Optional.ofNullable(cached.join());
+    }
+
+    @Override
+    public TaskPage findPage(Long after, int limit) {
+        return store.findPage(after, limit);
+    }
+
+    @Override
+    public List<Task> findByQuery(String status, OffsetDateTime dueFrom, OffsetDateTime dueTo, int limit) {
+        return store.findByQuery(status, dueFrom, dueTo, limit);
+    }
+
+    @Override
+    public Task save(Task task) {
+        boolean created = task.getId() == null;
+        Task saved = store.save(task);
+        refresh(saved, created);
+        return saved;
+    }
+
+    /**
+     * Compare-and-set through the store. The entry is invalidated whether or not the write
+     * succeeds, so a caller retrying after a conflict re-reads the current task from the store
+     * rather than the stale cached copy.
+     *
+     * @param task Task to save, carrying the version it was read at
+     * @return Saved task, or empty if it was changed or deleted since it was read
+     */
+    @Override
+    public Optional<Task> compareAndSet(Task task) {
+        Optional<Task> saved = store.compareAndSet(task);
+        cache.synchronous().invalidate(task.getId());
+        return saved;
+    }
+
+    @Override
+    public List<Task> saveAll(List<Task> batch) {
+        List<Boolean> created = new ArrayList<>(batch.size());
+        for (Task task : batch) {
+            created.add(task.getId() == null);
+        }
+        List<Task> saved = store.saveAll(batch);
+        for (int i = 0; i < saved.size(); i++) {
+            refresh(saved.get(i), created.get(i));
+        }
+        return saved;
+    }
+
+    @Override
+    public boolean delete(Task task) {
+        boolean deleted = store.delete(task);
+        cache.synchronous().invalidate(task.getId());
+        return deleted;
+    }
+
+    @Override
+    public long count() {
+        return store.count();
+    }
+
+    @Override
+    public Map<String, Long> countByStatus() {
+        return store.countByStatus();
+    }
+    
+    @Override
+    public TaskStats stats(LocalDate today, ZoneId zone, Set<String> closedStatuses) {
+        return store.stats(today, zone, closedStatuses);
+    }
+
+    @Override
+    public OptionalLong modificationCount() {
+        return store.modificationCount();
+    }
+
+    @Override
+    public long incarnation() {
+        return store.incarnation();
+    }
+
+    private void refresh(Task saved, boolean created) {
+        if (created) {
+            cache.put(saved.getId(), CompletableFuture.completedFuture(new Task(saved)));
+        } else {
+            cache.synchronous().invalidate(saved.getId());
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,416 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.dev.exceptions.ClusterUnavailableException;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskPage;
+import uk.gov.hmcts.reform.dev.models.TaskStats;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * HTTP client for the internal API that cluster members serve to each other under
+ * {@code /internal}, used by {@link PartitionedTaskRepository} to reach tasks owned by other
+ * members.
+ *
+ * <p>Tasks are exchanged as the same JSON as the public API, except that the version is also
+ * read back, so a compare-and-set forwarded to the owner carries the version it was read at.
+ * Calls that fail, time out after {@code tasks.cluster.request-timeout}, or get an unexpected
+ * status raise {@link ClusterUnavailableException}. Every call carries the cluster's shared
+ * {@code tasks.cluster.secret} in the {@value #SECRET_HEADER} header, which the receiving member
+ * checks before serving it.
+ */
+@Component
+@ConditionalOnProperty(prefix = "tasks.cluster", name = "enabled", havingValue = "true")
+public class ClusterClient {
+
+    /**
+     * Header counting how many times a request has been forwarded between members.
+     */
+    public static final String HOPS_HEADER = "X-Cluster-Hops";
+
+    /**
+     * Header carrying the shared secret that the internal API requires.
+     */
+    public static final String SECRET_HEADER = "X-Cluster-Secret";
+
+    private static final String JSON = "application/json";
+
+    private static final TypeReference<List<Task>> TASK_LIST = new TypeReference<>() { };
+
+    private final HttpClient http;
+    private final ObjectMapper mapper;
+    private final Duration timeout;
+    private final String secret;
+
+    /**
+     * Constructor with the application's ObjectMapper, the time to wait for another member and
+     * the cluster's shared secret.
+     *
+     * @param objectMapper Application ObjectMapper, copied so its date formats are kept
+     * @param timeout Time to wait for a connection and for each response
+     * @param secret Shared secret sent to the other members
+     */
+    @Autowired
+    public ClusterClient(ObjectMapper objectMapper,
+                         @Value("${tasks.cluster.request-timeout:5s}") Duration timeout,
+                         @Value("${tasks.cluster.secret:}") String secret) {
+        this.http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).connectTimeout(timeout).build();
+        this.mapper = objectMapper.copy()
+            .addMixIn(Task.class, TaskMixin.class)
+            .addMixIn(TaskPage.class, TaskPageMixin.class)
+            .addMixIn(TaskStats.class, TaskStatsMixin.class);
+        this.timeout = timeout;
+        this.secret = secret;
+    }
+
+    /**
+     * Find a task on the member that owns it.
+     *
+     * @param node Member base URL
+     * @param id Task ID
+     * @param hops Number of times the request has been forwarded, including this call
+     * @return Task if found
+     */
+    public Optional<Task> findById(String node, long id, int hops) {
+        HttpRequest request = request(node, "/internal/tasks/" + id, hops).GET().build();
+        return await(send(request, response -> response.statusCode() == 404
+            ? Optional.empty() : Optional.of(read(request, response, Task.class))));
+    }
+
+    /**
+     * Save a task on the member that owns it.
+     *
+     * @param node Member base URL
+     * @param task Task to save, with its ID assigned
+     * @param hops Number of times the request has been forwarded, including this call
+     * @return Task as stored
+     */
+    public Task save(String node, Task task, int hops) {
+        HttpRequest request = request(node, "/internal/tasks/" + task.getId(), hops).PUT(json(task)).build();
+        return await(send(request, response -> read(request, response, Task.class)));
+    }
+
+    /**
+     * Compare-and-set a task on the member that owns it.
+     *
+     * @param node Member base URL
+     * @param task Task to save, carrying the version it was read at
+     * @param hops Number of times the request has been forwarded, including this call
+     * @return Task as stored, or empty if it was changed or deleted since it was read
+     */
+    public Optional<Task> compareAndSet(String node, Task task, int hops) {
+        HttpRequest request = request(node, "/internal/tasks/" + task.getId() + "/cas", hops).POST(json(task)).build();
+        return await(send(request, response -> response.statusCode() == 409
+            ? Optional.empty() : Optional.of(read(request, response, Task.class))));
+    }
+
+    /**
+     * Save a batch of tasks on the member that owns them.
+     *
+     * @param node Member base URL
+     * @param batch Tasks to save, with their IDs assigned
+     * @param hops Number of times the request has been forwarded, including this call
+     * @return Tasks as stored, in the same order as the batch
+     */
+    public List<Task> saveAll(String node, List<Task> batch, int hops) {
+        HttpRequest request = request(node, "/internal/tasks/batch", hops).POST(json(batch)).build();
+        return await(send(request, response -> read(request, response, TASK_LIST)));
+    }
+
+    /**
+     * Delete a task on the member that owns it.
+     *
+     * @param node Member base URL
+     * @param id Task ID
+     * @param hops Number of times the request has been forwarded, including this call
+     * @return true if the task was deleted, false if it did not exist
+     */
+    public boolean delete(String node, long id, int hops) {
+        HttpRequest request = request(node, "/internal/tasks/" + id, hops).DELETE().build();
+        return await(send(request, response -> {
+            if (response.statusCode() == 404) {
+                return false;
+            }
+            read(request, response, Void.class);
+            return true;
+        }));
+    }
+
+    /**
+     * Read a page of the tasks a member owns.
+     *
+     * @param node Member base URL
+     * @param after Exclusive ID cursor, or null to start from the first task
+     * @param limit Maximum number of tasks to return
+     * @return Future page of tasks
+     */
+    public CompletableFuture<TaskPage> findPage(String node, Long after, int limit) {
+        String query = after == null ? query("limit", limit) : query("limit", limit, "after", after);
+        HttpRequest request = request(node, "/internal/tasks" + query, 0).GET().build();
+        return send(request, response -> read(request, response, TaskPage.class));
+    }
+
+    /**
+     * Query the tasks a member owns.
+     *
+     * @param node Member base URL
+     * @param status Status to match, or null
+     * @param dueFrom Inclusive lower bound on the due date, or null
+     * @param dueTo Exclusive upper bound on the due date, or null
+     * @param limit Maximum number of tasks to return
+     * @return Future list of matching tasks, in the store's query order
+     */
+    public CompletableFuture<List<Task>> findByQuery(String node, String status, OffsetDateTime dueFrom,
+                                                     OffsetDateTime dueTo, int limit) {
+        String query = query("status", status, "dueFrom", dueFrom, "dueTo", dueTo, "limit", limit);
+        HttpRequest request = request(node, "/internal/tasks/query" + query, 0).GET().build();
+        return send(request, response -> read(request, response, TASK_LIST));
+    }
+
+    /**
+     * Read a member's task counts.
+     *
+     * @param node Member base URL
+     * @return Future counts
+     */
+    public CompletableFuture<Counts> counts(String node) {
+        HttpRequest request = request(node, "/internal/tasks/counts", 0).GET().build();
+        return send(request, response -> read(request, response, Counts.class));
+    }
+
+    /**
+     * Read a member's task statistics.
+     *
+     * @param node Member base URL
+     * @param today Day to count due dates against
+     * @param zone Zone the day is in
+     * @param closedStatuses Statuses of finished tasks
+     * @return Future statistics
+     */
+    public CompletableFuture<TaskStats> stats(String node, LocalDate today, ZoneId zone, Set<String> closedStatuses) {
+        String query = query("date", today, "zone", zone, "closed", closedStatuses);
+        HttpRequest request = request(node, "/internal/tasks/stats" + query, 0).GET().build();
+        return send(request, response -> read(request, response, TaskStats.class));
+    }
+
+    /**
+     * Hand tasks over to a member, keeping their IDs and versions.
+     *
+     * @param node Member base URL
+     * @param tasks Tasks to store
+     */
+    public void importAll(String node, List<Task> tasks) {
+        HttpRequest request = request(node, "/internal/tasks/import", 0).POST(json(tasks)).build();
+        await(send(request, response -> read(request, response, Void.class)));
+    }
+
+    /**
+     * Tell a member that it now owns partitions whose tasks have been handed over to it.
+     *
+     * @param node Member base URL
+     * @param partitions Partitions it owns
+     */
+    public void activate(String node, Collection<Integer> partitions) {
+        HttpRequest request = request(node, "/internal/cluster/partitions", 0).POST(json(partitions)).build();
+        await(send(request, response -> read(request, response, Void.class)));
+    }
+
+    /**
+     * Ask a member to hand over the partitions it will no longer own with a new membership.
+     *
+     * @param node Member base URL
+     * @param members New membership
+     * @return Number of tasks the member moved
+     */
+    public int rebalance(String node, Collection<String> members) {
+        HttpRequest request = request(node, "/internal/cluster/rebalance", 0).POST(json(members)).build();
+        return await(send(request, response -> read(request, response, Integer.class)));
+    }
+
+    /**
+     * Tell a member to route by a new membership.
+     *
+     * @param node Member base URL
+     * @param members New membership
+     */
+    public void commit(String node, Collection<String> members) {
+        HttpRequest request = request(node, "/internal/cluster/commit", 0).POST(json(members)).build();
+        await(send(request, response -> read(request, response, Void.class)));
+    }
+
+    /**
+     * Read a task sent by another member, including its version.
+     *
+     * @param body JSON request body
+     * @return Task
+     */
+    public Task readTask(byte[] body) {
+        return parse(body, mapper.constructType(Task.class));
+    }
+
+    /**
+     * Read a list of tasks sent by another member, including their versions.
+     *
+     * @param body JSON request body
+     * @return Tasks
+     */
+    public List<Task> readTasks(byte[] body) {
+        return parse(body, mapper.constructType(TASK_LIST));
+    }
+
+    /**
+     * Wait for a call, rethrowing its failure unwrapped.
+     */
+    static <T> T await(CompletableFuture<T> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private HttpRequest.Builder request(String node, String path, int hops) {
+        return HttpRequest.newBuilder(URI.create(node + path))
+            .timeout(timeout)
+            .header("Accept", JSON)
+            .header("Content-Type", JSON)
+            .header(HOPS_HEADER, Integer.toString(hops))
+            .header(SECRET_HEADER, secret);
+    }
+
+    private HttpRequest.BodyPublisher json(Object body) {
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(mapper.writeValueAsBytes(body));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private <T> CompletableFuture<T> send(HttpRequest request, Function<HttpResponse<byte[]>, T> handler) {
+        return http.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray()).handle((response, failure) -> {
+            if (failure != null) {
+                Throwable cause = failure instanceof CompletionException ? failure.getCause() : failure;
+                throw new ClusterUnavailableException(describe(request) + " failed: " + cause, cause);
+            }
+            return handler.apply(response);
+        });
+    }
+
+    private <T> T read(HttpRequest request, HttpResponse<byte[]> response, Class<T> type) {
+        return read(request, response, mapper.constructType(type));
+    }
+
+    private <T> T read(HttpRequest request, HttpResponse<byte[]> response, TypeReference<T> type) {
+        return read(request, response, mapper.constructType(type));
+    }
+
+    private <T> T read(HttpRequest request, HttpResponse<byte[]> response, JavaType type) {
+        if (response.statusCode() / 100 != 2) {
+            throw new ClusterUnavailableException(describe(request) + " answered " + response.statusCode());
+        }
+        if (type.getRawClass() == Void.class) {
+            return null;
+        }
+        try {
+            return mapper.readValue(response.body(), type);
+        } catch (IOException e) {
+            throw new ClusterUnavailableException(describe(request) + " answered with unreadable JSON", e);
+        }
+    }
+
+    private <T> T parse(byte[] body, JavaType type) {
+        try {
+            return mapper.readValue(body, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String describe(HttpRequest request) {
+        return request.method() + " " + request.uri();
+    }
+
+    /**
+     * Build a query string from name and value pairs, leaving out null values and repeating the
+     * name for each element of a collection.
+     */
+    private static String query(Object... pairs) {
+        StringJoiner query = new StringJoiner("&", "?", "").setEmptyValue("");
+        for (int i = 0; i < pairs.length; i += 2) {
+            Collection<?> values = pairs[i + 1] instanceof Collection<?> many ? many
+                : pairs[i + 1] == null ? List.of() : List.of(pairs[i + 1]);
+            for (Object value : values) {
+                query.add(pairs[i] + "=" + URLEncoder.encode(value.toString(), StandardCharsets.UTF_8));
+            }
+        }
+        return query.toString();
+    }
+
+    /**
+     * Task counts of one member.
+     *
+     * @param count Number of tasks
+     * @param byStatus Number of tasks for each status
+     * @param modificationCount The member's store modification count
+     */
+    public record Counts(long count, Map<String, Long> byStatus, long modificationCount) {
+    }
+
+    /**
+     * Makes the version writable, so tasks read from another member keep it.
+     */
+    private abstract static class TaskMixin {
+
+        @JsonProperty(access = JsonProperty.Access.READ_WRITE)
+        private long version;
+    }
+
+    private abstract static class TaskPageMixin {
+
+        @JsonCreator
+        TaskPageMixin(@JsonProperty("tasks") List<Task> tasks, @JsonProperty("nextCursor") Long nextCursor) {
+        }
+    }
+
+    private abstract static class TaskStatsMixin {
+
+        @JsonCreator
+        TaskStatsMixin(@JsonProperty("date") LocalDate date, @JsonProperty("total") long total,
+                       @JsonProperty("byStatus") Map<String, Long> byStatus, @JsonProperty("overdue") long overdue,
+                       @JsonProperty("dueToday") long dueToday, @JsonProperty("dueThisWeek") long dueThisWeek) {
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,702 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskPage;
+import uk.gov.hmcts.reform.dev.models.TaskStats;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Column-oriented in-memory {@link TaskRepository} for holding millions of tasks, active with the
+ * {@code columnar} profile in place of {@link InMemoryTaskRepository}.
+ *
+ * <p>Tasks are not kept as {@link Task} objects. Each field is a column, a primitive array indexed
+ * by slot, and a {@link LongIntHashMap} maps task IDs to slots. Due dates are stored as epoch
+ * milliseconds plus the offset in minutes, statuses as codes into a dictionary of the statuses
+ * seen so far, and a task's title and description share one UTF-8 byte array. Statuses are
+ * free-form, so once the dictionary holds {@value #MAX_STATUS_CODES} statuses, a task with a
+ * status not yet in it keeps its status as a string in a side map instead. A {@code Task} is
+ * only built when one is returned to a caller, and the caller's instance is never retained. Due
+ * dates keep the precision the API exposes: milliseconds and whole-minute offsets.
+ *
+ * <p>A sorted array of IDs backs pagination and ordered streams. Deleted IDs are skipped while
+ * walking it and compacted away once they make up half of it. Queries scan the status and due
+ * date columns instead of maintaining secondary indexes; only the {@link TaskStatistics} counters
+ * are updated on each write.
+ *
+ * <p>All access goes through one read-write lock, so reads run in parallel and writes are
+ * serialized. IDs, versions, the modification count and {@link TaskChangedEvent}s behave as in
+ * {@link InMemoryTaskRepository}. There is no journal: the repository starts empty.
+ */
+@Repository
+@Qualifier("taskStore")
+@Profile("columnar")
+public class ColumnarTaskRepository implements ImportableTaskRepository {
+    
+    static final int STREAM_PAGE_SIZE = 500;
+    
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final short NO_STATUS = -1;
+    private static final short OVERFLOW_STATUS = -2;
+    private static final int MAX_STATUS_CODES = Short.MAX_VALUE + 1;
+    private static final byte NULL_TITLE = 1;
+    private static final byte NULL_DESCRIPTION = 2;
+    private static final byte NULL_DUE_DATE = 4;
+    private static final byte FREE = 8;
+    private static final byte[] NO_TEXT = new byte[0];
+    
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final LongIntHashMap slots = new LongIntHashMap();
+    private final List<String> statuses = new ArrayList<>();
+    private final Map<String, Short> statusCodes = new HashMap<>();
+    private final Map<Integer, String> overflowStatuses = new HashMap<>();
+    private final AtomicLong modificationCount = new AtomicLong(System.currentTimeMillis() * 1000);
+    private final long incarnation = System.currentTimeMillis();
+    private final TaskStatistics statistics = new TaskStatistics();
+    private final ApplicationEventPublisher events;
+    private final TaskIdGenerator idGenerator;
+    
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private long[] versions = new long[INITIAL_CAPACITY];
+    private long[] dueMillis = new long[INITIAL_CAPACITY];
+    private short[] dueOffsetMinutes = new short[INITIAL_CAPACITY];
+    private short[] statusColumn = new short[INITIAL_CAPACITY];
+    private byte[] flags = new byte[INITIAL_CAPACITY];
+    private int[] titleLengths = new int[INITIAL_CAPACITY];
+    private byte[][] texts = new byte[INITIAL_CAPACITY][];
+    private int slotCount;
+    private int[] freeSlots = new int[16];
+    private int freeSlotCount;
+    private long[] order = new long[INITIAL_CAPACITY];
+    private int orderSize;
+    private int orderDeleted;
+    private final Comparator<Integer> byDueDate = (a, b) -> {
+        int compared = Long.compare(dueMillis[a], dueMillis[b]);
+        return compared != 0 ? compared : Long.compare(ids[a], ids[b]);
+    };
+    
+    /**
+     * Constructor for a repository that publishes no change events.
+     */
+    public ColumnarTaskRepository() {
+        this(null);
+    }
+    
+    /**
+     * Constructor with a publisher for change events.
+     *
+     * @param events Publisher for {@link TaskChangedEvent}s, or null to publish none
+     */
+    public ColumnarTaskRepository(ApplicationEventPublisher events) {
+        this(events, new SequentialIdGenerator());
+    }
+    
+    /**
+     * Constructor with a publisher for change events and the generator new task IDs come from.
+     *
+     * @param events Publisher for {@link TaskChangedEvent}s, or null to publish none
+     * @param idGenerator Generator for new task IDs
+     */
+    @Autowired
+    public ColumnarTaskRepository(ApplicationEventPublisher events, TaskIdGenerator idGenerator) {
+        this.events = events;
+        this.idGenerator = idGenerator;
+    }
+    
+    /**
+     * Find all tasks.
+     *
+     * @return List of all tasks in ascending ID order
+     */
+    @Override
+    public List<Task> findAll() {
+        lock.readLock().lock();
+        try {
+            List<Task> all = new ArrayList<>(slots.size());
+            for (int i = 0; i < orderSize; i++) {
+                int slot = slots.get(order[i]);
+                if (slot != LongIntHashMap.MISSING) {
+                    all.add(materialize(slot));
+                }
+            }
+            return all;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Stream all tasks by walking pages of {@value #STREAM_PAGE_SIZE}, so only one page of
+     * {@link Task} objects exists at a time and the lock is not held while the caller consumes
+     * the stream.
+     *
+     * @return Lazy stream of all tasks
+     */
+    @Override
+    public Stream<Task> stream() {
+        Iterator<Task> iterator = new Iterator<>() {
+            private List<Task> page = List.of();
+            private int position;
+            private Long cursor;
+            private boolean exhausted;
+            
+            @Override
+            public boolean hasNext() {
+                if (position < page.size()) {
+                    return true;
+                }
+                if (exhausted) {
+                    return false;
+                }
+                TaskPage next = findPage(cursor, STREAM_PAGE_SIZE);
+                page = next.getTasks();
+                position = 0;
+                cursor = next.getNextCursor();
+                exhausted = cursor == null;
+                return !page.isEmpty();
+            }
+            
+            @Override
+            public Task next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return page.get(position++);
+            }
+        };
+        return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+    
+    /**
+     * Find task by ID.
+     *
+     * @param id Task ID
+     * @return Optional containing a newly built task if found
+     */
+    @Override
+    public Optional<Task> findById(Long id) {
+        lock.readLock().lock();
+        try {
+            int slot = slots.get(id);
+            return slot == LongIntHashMap.MISSING ? Optional.empty() : Optional.of(materialize(slot));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Find a page of tasks in ascending ID order, starting from a binary search of the sorted ID
+     * array.
+     *
+     * @param after Exclusive ID cursor, or null to start from the first task
+     * @param limit Maximum number of tasks to return
+     * @return Page of tasks with the cursor for the next page
+     */
+    @Override
+    public TaskPage findPage(Long after, int limit) {
+        lock.readLock().lock();
+        try {
+            List<Task> page = new ArrayList<>(limit);
+            int i = after == null ? 0 : firstAfter(after);
+            for (; i < orderSize && page.size() < limit; i++) {
+                int slot = slots.get(order[i]);
+                if (slot != LongIntHashMap.MISSING) {
+                    page.add(materialize(slot));
+                }
+            }
+            Long nextCursor = null;
+            if (page.size() == limit && !page.isEmpty() && hasLiveId(i)) {
+                nextCursor = page.get(page.size() - 1).getId();
+            }
+            return new TaskPage(page, nextCursor);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Find tasks matching a status and/or due date range by scanning the status and due date
+     * columns.
+     *
+     * <p>When a due date bound is given, the earliest matches are kept in a heap bounded by the
+     * limit and returned in due date order; otherwise tasks are returned in ID order. Only the
+     * returned tasks are built as {@link Task} objects.
+     *
+     * @param status Status to match, or null for any status
+     * @param dueFrom Inclusive lower bound on due date, or null for no lower bound
+     * @param dueTo Exclusive upper bound on due date, or null for no upper bound
+     * @param limit Maximum number of tasks to return
+     * @return Matching tasks
+     */
+    @Override
+    public List<Task> findByQuery(String status, OffsetDateTime dueFrom, OffsetDateTime dueTo, int limit) {
+        List<Task> matches = new ArrayList<>();
+        if (status == null && dueFrom == null && dueTo == null) {
+            return matches;
+        }
+        lock.readLock().lock();
+        try {
+            short code = NO_STATUS;
+            if (status != null) {
+                Short known = statusCodes.get(status);
+                if (known == null && overflowStatuses.isEmpty()) {
+                    return matches;
+                }
+                code = known == null ? OVERFLOW_STATUS : known;
+            }
+            if (dueFrom == null && dueTo == null) {
+                for (int i = 0; i < orderSize && matches.size() < limit; i++) {
+                    int slot = slots.get(order[i]);
+                    if (slot != LongIntHashMap.MISSING && hasStatus(slot, code, status)) {
+                        matches.add(materialize(slot));
+                    }
+                }
+                return matches;
+            }
+            long from = dueFrom == null ? Long.MIN_VALUE : ceilMillis(dueFrom.toInstant());
+            long to = dueTo == null ? Long.MAX_VALUE : ceilMillis(dueTo.toInstant());
+            PriorityQueue<Integer> earliest = new PriorityQueue<>(byDueDate.reversed());
+            for (int slot = 0; slot < slotCount; slot++) {
+                if ((flags[slot] & (FREE | NULL_DUE_DATE)) != 0
+                    || code != NO_STATUS && !hasStatus(slot, code, status)
+                    || dueMillis[slot] < from || dueMillis[slot] >= to) {
+                    continue;
+                }
+                earliest.add(slot);
+                if (earliest.size() > limit) {
+                    earliest.poll();
+                }
+            }
+            Integer[] found = earliest.toArray(new Integer[0]);
+            Arrays.sort(found, byDueDate);
+            for (int slot : found) {
+                matches.add(materialize(slot));
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Save a task.
+     *
+     * @param task Task to save
+     * @return Task as stored
+     */
+    @Override
+    public Task save(Task task) {
+        Task stored;
+        lock.writeLock().lock();
+        try {
+            if (task.getId() == null) {
+                task.setId(idGenerator.nextId());
+            }
+            stored = store(task, slots.get(task.getId()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        modificationCount.incrementAndGet();
+        publish(TaskChangedEvent.saved(stored));
+        return stored;
+    }
+    
+    /**
+     * Save an existing task if its stored version still matches, checking and writing under the
+     * write lock.
+     *
+     * @param task Task to save, carrying the version it was read at
+     * @return Task as stored, or empty if it was changed or deleted since it was read
+     */
+    @Override
+    public Optional<Task> compareAndSet(Task task) {
+        Task stored;
+        lock.writeLock().lock();
+        try {
+            int slot = slots.get(task.getId());
+            if (slot == LongIntHashMap.MISSING || versions[slot] != task.getVersion()) {
+                return Optional.empty();
+            }
+            stored = store(task, slot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        modificationCount.incrementAndGet();
+        publish(TaskChangedEvent.saved(stored));
+        return Optional.of(stored);
+    }
+    
+    /**
+     * Save a batch of tasks under a single acquisition of the write lock.
+     *
+     * @param batch Tasks to save
+     * @return Tasks as stored, in the same order as the batch
+     */
+    @Override
+    public List<Task> saveAll(List<Task> batch) {
+        List<Task> saved = new ArrayList<>(batch.size());
+        lock.writeLock().lock();
+        try {
+            for (Task task : batch) {
+                if (task.getId() == null) {
+                    task.setId(idGenerator.nextId());
+                }
+                saved.add(store(task, slots.get(task.getId())));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        modificationCount.incrementAndGet();
+        for (Task stored : saved) {
+            publish(TaskChangedEvent.saved(stored));
+        }
+        return saved;
+    }
+    
+    /**
+     * Store tasks handed over from another store, keeping their IDs and versions, under a single
+     * acquisition of the write lock.
+     *
+     * @param batch Tasks to store
+     * @return Tasks as stored, in the same order as the batch
+     */
+    @Override
+    public List<Task> importAll(List<Task> batch) {
+        List<Task> stored = new ArrayList<>(batch.size());
+        lock.writeLock().lock();
+        try {
+            for (Task task : batch) {
+                stored.add(store(task, slots.get(task.getId()), task.getVersion()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        modificationCount.incrementAndGet();
+        for (Task task : stored) {
+            publish(TaskChangedEvent.saved(task));
+        }
+        return stored;
+    }
+    
+    /**
+     * Delete a task, returning its slot for reuse.
+     *
+     * @param task Task to delete
+     * @return true if the task was deleted, false if it did not exist
+     */
+    @Override
+    public boolean delete(Task task) {
+        int slot;
+        lock.writeLock().lock();
+        try {
+            slot = slots.remove(task.getId());
+            if (slot != LongIntHashMap.MISSING) {
+                release(slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (slot == LongIntHashMap.MISSING) {
+            return false;
+        }
+        modificationCount.incrementAndGet();
+        publish(TaskChangedEvent.deleted(task.getId()));
+        return true;
+    }
+    
+    /**
+     * Count stored tasks.
+     *
+     * @return Number of tasks
+     */
+    @Override
+    public long count() {
+        lock.readLock().lock();
+        try {
+            return slots.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Count stored tasks by status from counters updated on every write.
+     *
+     * @return Number of tasks for each status that has been used
+     */
+    @Override
+    public Map<String, Long> countByStatus() {
+        lock.readLock().lock();
+        try {
+            return statistics.countByStatus();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Read task statistics from counters updated on every write, under the read lock so they
+     * describe a single point between writes.
+     *
+     * @param today Day to count due dates against
+     * @param zone Zone the day is in
+     * @param closedStatuses Statuses of finished tasks, left out of the due date counts
+     * @return Task statistics
+     */
+    @Override
+    public TaskStats stats(LocalDate today, ZoneId zone, Set<String> closedStatuses) {
+        lock.readLock().lock();
+        try {
+            return statistics.snapshot(today, zone, closedStatuses);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Get the modification count, seeded from the clock at startup.
+     *
+     * @return Modification count
+     */
+    @Override
+    public OptionalLong modificationCount() {
+        return OptionalLong.of(modificationCount.get());
+    }
+    
+    /**
+     * Get the incarnation, taken from the clock at startup since the store starts empty and its
+     * IDs may be handed out again.
+     *
+     * @return Incarnation
+     */
+    @Override
+    public long incarnation() {
+        return incarnation;
+    }
+    
+    private Task store(Task task, int slot) {
+        return store(task, slot, slot == LongIntHashMap.MISSING ? 0 : versions[slot] + 1);
+    }
+    
+    private Task store(Task task, int slot, long version) {
+        if (slot == LongIntHashMap.MISSING) {
+            slot = allocate();
+            slots.put(task.getId(), slot);
+            addToOrder(task.getId());
+        } else {
+            uncount(slot);
+        }
+        byte nullFields = 0;
+        ids[slot] = task.getId();
+        versions[slot] = version;
+        statusColumn[slot] = encodeStatus(task.getStatus());
+        if (statusColumn[slot] == OVERFLOW_STATUS) {
+            overflowStatuses.put(slot, task.getStatus());
+        } else {
+            overflowStatuses.remove(slot);
+        }
+        OffsetDateTime dueDate = task.getDueDate();
+        statistics.update(task.getStatus(), dueDate == null ? null : dueDate.toInstant(), 1);
+        if (dueDate == null) {
+            nullFields |= NULL_DUE_DATE;
+        } else {
+            dueMillis[slot] = dueDate.toInstant().toEpochMilli();
+            dueOffsetMinutes[slot] = (short) (dueDate.getOffset().getTotalSeconds() / 60);
+        }
+        byte[] title = task.getTitle() == null ? NO_TEXT : task.getTitle().getBytes(StandardCharsets.UTF_8);
+        byte[] description = task.getDescription() == null
+            ? NO_TEXT : task.getDescription().getBytes(StandardCharsets.UTF_8);
+        if (task.getTitle() == null) {
+            nullFields |= NULL_TITLE;
+        }
+        if (task.getDescription() == null) {
+            nullFields |= NULL_DESCRIPTION;
+        }
+        byte[] text = NO_TEXT;
+        if (title.length + description.length > 0) {
+            text = Arrays.copyOf(title, title.length + description.length);
+            System.arraycopy(description, 0, text, title.length, description.length);
+        }
+        titleLengths[slot] = title.length;
+        texts[slot] = text;
+        flags[slot] = nullFields;
+        return materialize(slot);
+    }
+    
+    private Task materialize(int slot) {
+        byte[] text = texts[slot];
+        int titleLength = titleLengths[slot];
+        String title = (flags[slot] & NULL_TITLE) != 0
+            ? null : new String(text, 0, titleLength, StandardCharsets.UTF_8);
+        String description = (flags[slot] & NULL_DESCRIPTION) != 0
+            ? null : new String(text, titleLength, text.length - titleLength, StandardCharsets.UTF_8);
+        String status = status(slot);
+        OffsetDateTime dueDate = null;
+        if ((flags[slot] & NULL_DUE_DATE) == 0) {
+            dueDate = OffsetDateTime.ofInstant(Instant.ofEpochMilli(dueMillis[slot]),
+                                               ZoneOffset.ofTotalSeconds(dueOffsetMinutes[slot] * 60));
+        }
+        Task task = new Task(title, description, status, dueDate);
+        task.setId(ids[slot]);
+        task.setVersion(versions[slot]);
+        return task;
+    }
+    
+    private short encodeStatus(String status) {
+        if (status == null) {
+            return NO_STATUS;
+        }
+        Short code = statusCodes.get(status);
+        if (code != null) {
+            return code;
+        }
+        if (statuses.size() == MAX_STATUS_CODES) {
+            return OVERFLOW_STATUS;
+        }
+        short added = (short) statuses.size();
+        statuses.add(status);
+        statusCodes.put(status, added);
+        return added;
+    }
+    
+    private String status(int slot) {
+        return switch (statusColumn[slot]) {
+            case NO_STATUS -> null;
+            case OVERFLOW_STATUS -> overflowStatuses.get(slot);
+            default -> statuses.get(statusColumn[slot]);
+        };
+    }
+    
+    private boolean hasStatus(int slot, short code, String status) {
+        return statusColumn[slot] == code && (code != OVERFLOW_STATUS || status.equals(overflowStatuses.get(slot)));
+    }
+    
+    private void uncount(int slot) {
+        statistics.update(status(slot),
+                          (flags[slot] & NULL_DUE_DATE) != 0 ? null : Instant.ofEpochMilli(dueMillis[slot]), -1);
+    }
+    
+    private int allocate() {
+        if (freeSlotCount > 0) {
+            return freeSlots[--freeSlotCount];
+        }
+        if (slotCount == ids.length) {
+            int capacity = ids.length + (ids.length >> 1);
+            ids = Arrays.copyOf(ids, capacity);
+            versions = Arrays.copyOf(versions, capacity);
+            dueMillis = Arrays.copyOf(dueMillis, capacity);
+            dueOffsetMinutes = Arrays.copyOf(dueOffsetMinutes, capacity);
+            statusColumn = Arrays.copyOf(statusColumn, capacity);
+            flags = Arrays.copyOf(flags, capacity);
+            titleLengths = Arrays.copyOf(titleLengths, capacity);
+            texts = Arrays.copyOf(texts, capacity);
+        }
+        return slotCount++;
+    }
+    
+    private void release(int slot) {
+        uncount(slot);
+        overflowStatuses.remove(slot);
+        texts[slot] = null;
+        flags[slot] = FREE;
+        if (freeSlotCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeSlotCount * 2);
+        }
+        freeSlots[freeSlotCount++] = slot;
+        if (++orderDeleted > orderSize / 2) {
+            compactOrder();
+        }
+    }
+    
+    /**
+     * Adds a new ID to the sorted ID array. IDs normally arrive in ascending order and are
+     * appended; an ID that is still in the array from before it was deleted is reused.
+     */
+    private void addToOrder(long id) {
+        if (orderSize == 0 || id > order[orderSize - 1]) {
+            if (orderSize == order.length) {
+                order = Arrays.copyOf(order, orderSize + (orderSize >> 1));
+            }
+            order[orderSize++] = id;
+            return;
+        }
+        int position = Arrays.binarySearch(order, 0, orderSize, id);
+        if (position >= 0) {
+            orderDeleted--;
+            return;
+        }
+        position = -(position + 1);
+        if (orderSize == order.length) {
+            order = Arrays.copyOf(order, orderSize + (orderSize >> 1));
+        }
+        System.arraycopy(order, position, order, position + 1, orderSize - position);
+        order[position] = id;
+        orderSize++;
+    }
+    
+    private void compactOrder() {
+        int live = 0;
+        for (int i = 0; i < orderSize; i++) {
+            if (slots.get(order[i]) != LongIntHashMap.MISSING) {
+                order[live++] = order[i];
+            }
+        }
+        orderSize = live;
+        orderDeleted = 0;
+    }
+    
+    private int firstAfter(long id) {
+        int position = Arrays.binarySearch(order, 0, orderSize, id);
+        return position >= 0 ? position + 1 : -(position + 1);
+    }
+    
+    private boolean hasLiveId(int from) {
+        for (int i = from; i < orderSize; i++) {
+            if (slots.get(order[i]) != LongIntHashMap.MISSING) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private void publish(TaskChangedEvent event) {
+        if (events != null) {
+            events.publishEvent(event);
+        }
+    }
+    
+    private static long ceilMillis(Instant instant) {
+        long millis = instant.toEpochMilli();
+        return instant.getNano() % 1_000_000 == 0 ? millis : millis + 1;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,106 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Assignment of the cluster's partitions to its members by consistent hashing.
+ *
+ * <p>A task ID hashes to one of {@value #PARTITIONS} partitions, and that never changes. Each
+ * member is placed on a 64-bit hash ring at {@value #VIRTUAL_NODES} points, and a partition
+ * belongs to the member at the first point at or after the partition's own position. Adding or
+ * removing a member only moves the partitions next to its points, about 1/N of them, and the
+ * virtual nodes keep the members' shares close to even.
+ *
+ * <p>The assignment depends only on the set of member names, so every member computes the same
+ * one. Instances are immutable.
+ */
+final class ConsistentHashRing {
+    
+    static final int PARTITIONS = 256;
+    
+    static final int VIRTUAL_NODES = 128;
+    
+    private final List<String> members;
+    private final String[] owners = new String[PARTITIONS];
+    
+    ConsistentHashRing(Collection<String> members) {
+        if (members.isEmpty()) {
+            throw new IllegalArgumentException("A cluster needs at least one member");
+        }
+        this.members = List.copyOf(new TreeSet<>(members));
+        TreeMap<Long, String> ring = new TreeMap<>();
+        for (String member : this.members) {
+            for (int i = 0; i < VIRTUAL_NODES; i++) {
+                ring.putIfAbsent(hash(member + "#" + i), member);
+            }
+        }
+        for (int partition = 0; partition < PARTITIONS; partition++) {
+            Map.Entry<Long, String> point = ring.ceilingEntry(mix(partition * 0x9E3779B97F4A7C15L));
+            owners[partition] = (point == null ? ring.firstEntry() : point).getValue();
+        }
+    }
+    
+    /**
+     * Get the partition a task belongs to.
+     *
+     * @param id Task ID
+     * @return Partition, from 0 to {@value #PARTITIONS} - 1
+     */
+    static int partition(long id) {
+        return (int) (mix(id) >>> 56) & (PARTITIONS - 1);
+    }
+    
+    /**
+     * Get the members, sorted by name.
+     *
+     * @return Members
+     */
+    List<String> members() {
+        return members;
+    }
+    
+    /**
+     * Get the member a partition belongs to.
+     *
+     * @param partition Partition
+     * @return Owning member
+     */
+    String owner(int partition) {
+        return owners[partition];
+    }
+    
+    /**
+     * Get the owner of every partition.
+     *
+     * @return New array of owners indexed by partition
+     */
+    String[] owners() {
+        return owners.clone();
+    }
+    
+    /**
+     * FNV-1a over the UTF-8 bytes, finished with {@link #mix} so that names differing only in
+     * their last characters still land far apart.
+     */
+    private static long hash(String value) {
+        long hash = 0xCBF29CE484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash = (hash ^ (b & 0xFF)) * 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+    
+    /**
+     * The MurmurHash3 64-bit finalizer, so sequential IDs spread evenly over the partitions.
+     */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xFF51AFD7ED558CCDL;
+        value = (value ^ (value >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return value ^ (value >>> 33);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,25 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import uk.gov.hmcts.reform.dev.models.Task;
+
+import java.util.List;
+
+/**
+ * Task store that can take over tasks from another store with their IDs and versions kept, as
+ * {@link PartitionedTaskRepository} needs when partitions move between cluster members.
+ *
+ * <p>Implemented by {@link InMemoryTaskRepository} and {@link ColumnarTaskRepository}. The JPA
+ * store is not importable, since the database assigns IDs and versions itself, so cluster mode
+ * refuses to start on it.
+ */
+public interface ImportableTaskRepository extends TaskRepository {
+    
+    /**
+     * Store tasks handed over from another store, keeping their IDs and versions and replacing
+     * any task already stored under the same ID.
+     *
+     * @param batch Tasks to store
+     * @return Tasks as stored, in the same order as the batch
+     */
+    List<Task> importAll(List<Task> batch);
+}
\ No newline at end of file
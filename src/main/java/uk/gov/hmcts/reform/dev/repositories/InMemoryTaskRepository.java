@@ -0,0 +1,547 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskPage;
+import uk.gov.hmcts.reform.dev.models.TaskStats;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
+
+/**
+ * In-memory {@link TaskRepository}, used unless the {@code jpa} or {@code columnar} profile is
+ * active.
+ *
+ * <p>Tasks are held in a {@link ConcurrentHashMap}, so request threads can read and write
+ * without a global lock: lookups are lock-free and writes only contend when they land in the
+ * same hash bin. Iteration is weakly consistent and never throws
+ * {@link java.util.ConcurrentModificationException}.
+ *
+ * <p>Alongside the map, an ordered index of ids backs keyset pagination. The index is only
+ * touched inside the map's per-key {@code compute} so it never disagrees with the map about
+ * which ids exist.
+ *
+ * <p>Two secondary indexes are maintained the same way: ids grouped by status, and a sorted
+ * index on due date. So are the {@link TaskStatistics} counters. The repository stores its own
+ * copy of each saved task so that callers mutating their instance afterwards cannot leave the
+ * indexes describing stale values.
+ *
+ * <p>When a {@link TaskJournal} is configured, every change is appended to it inside the same
+ * {@code compute} and the write returns only once the journal has synced it. The repository is
+ * rebuilt from the journal on startup.
+ *
+ * <p>New tasks get their IDs from the configured {@link TaskIdGenerator}. Each save increments
+ * the task's version, and a repository-wide modification count is
+ * advanced after every write once the new value is visible. A {@link TaskChangedEvent} is then
+ * published for each saved or deleted task.
+ */
+@Repository
+@Qualifier("taskStore")
+@Profile("!jpa & !columnar")
+public class InMemoryTaskRepository implements ImportableTaskRepository {
+    
+    private final ConcurrentMap<Long, Task> tasks = new ConcurrentHashMap<>();
+    private final NavigableSet<Long> idIndex = new ConcurrentSkipListSet<>();
+    private final ConcurrentMap<String, NavigableSet<Long>> statusIndex = new ConcurrentHashMap<>();
+    private final TaskStatistics statistics = new TaskStatistics();
+    private final NavigableSet<DueDateKey> dueDateIndex = new ConcurrentSkipListSet<>();
+    private final AtomicLong modificationCount = new AtomicLong(System.currentTimeMillis() * 1000);
+    private final long incarnation = System.currentTimeMillis();
+    private final TaskJournal journal;
+    private final ApplicationEventPublisher events;
+    private final TaskIdGenerator idGenerator;
+    
+    /**
+     * Constructor for a purely in-memory repository.
+     */
+    public InMemoryTaskRepository() {
+        this(Optional.empty());
+    }
+    
+    /**
+     * Constructor with an optional journal to recover from and persist to.
+     *
+     * @param journal Journal, present when {@code tasks.journal.enabled} is true
+     */
+    public InMemoryTaskRepository(Optional<TaskJournal> journal) {
+        this(journal, null);
+    }
+    
+    /**
+     * Constructor with an optional journal and a publisher for change events.
+     *
+     * @param journal Journal, present when {@code tasks.journal.enabled} is true
+     * @param events Publisher for {@link TaskChangedEvent}s, or null to publish none
+     */
+    public InMemoryTaskRepository(Optional<TaskJournal> journal, ApplicationEventPublisher events) {
+        this(journal, events, new SequentialIdGenerator());
+    }
+    
+    /**
+     * Constructor with an optional journal, a publisher for change events and the generator
+     * new task IDs come from.
+     *
+     * @param journal Journal, present when {@code tasks.journal.enabled} is true
+     * @param events Publisher for {@link TaskChangedEvent}s, or null to publish none
+     * @param idGenerator Generator for new task IDs, told about every ID recovered from the journal
+     */
+    @Autowired
+    public InMemoryTaskRepository(Optional<TaskJournal> journal, ApplicationEventPublisher events,
+                                  TaskIdGenerator idGenerator) {
+        this.journal = journal.orElse(null);
+        this.events = events;
+        this.idGenerator = idGenerator;
+        if (this.journal != null) {
+            long nextId = this.journal.recover(this::restore, this::restoreDelete);
+            idGenerator.observe(nextId - 1);
+            this.journal.start(this::stream, () -> idGenerator.lastId() + 1);
+        }
+    }
+    
+    /**
+     * Find all tasks.
+     *
+     * @return List of all tasks
+     */
+    @Override
+    public List<Task> findAll() {
+        return new ArrayList<>(tasks.values());
+    }
+    
+    /**
+     * Stream all tasks in ascending ID order without copying them into a list.
+     *
+     * <p>The stream is lazy and weakly consistent: tasks saved or deleted while it is being
+     * consumed may or may not be included.
+     *
+     * @return Stream of all tasks
+     */
+    @Override
+    public Stream<Task> stream() {
+        return idIndex.stream()
+                .map(tasks::get)
+                .filter(Objects::nonNull);
+    }
+    
+    /**
+     * Find task by ID.
+     *
+     * @param id Task ID
+     * @return Optional containing task if found
+     */
+    @Override
+    public Optional<Task> findById(Long id) {
+        return Optional.ofNullable(tasks.get(id));
+    }
+    
+    /**
+     * Find a page of tasks in ascending ID order.
+     *
+     * <p>Walks the ordered ID index from the cursor, so the cost is proportional to the page
+     * size rather than to the number of stored tasks.
+     *
+     * @param after Exclusive ID cursor, or null to start from the first task
+     * @param limit Maximum number of tasks to return
+     * @return Page of tasks with the cursor for the next page
+     */
+    @Override
+    public TaskPage findPage(Long after, int limit) {
+        NavigableSet<Long> ids = after == null ? idIndex : idIndex.tailSet(after, false);
+        List<Task> page = new ArrayList<>(limit);
+        for (Long id : ids) {
+            if (page.size() == limit) {
+                break;
+            }
+            Task task = tasks.get(id);
+            if (task != null) {
+                page.add(task);
+            }
+        }
+        Long nextCursor = null;
+        if (page.size() == limit && !page.isEmpty()) {
+            Long lastId = page.get(page.size() - 1).getId();
+            if (idIndex.higher(lastId) != null) {
+                nextCursor = lastId;
+            }
+        }
+        return new TaskPage(page, nextCursor);
+    }
+    
+    /**
+     * Find tasks matching a status and/or due date range using the secondary indexes.
+     *
+     * <p>When a due date bound is given the sorted due date index is walked over that range and
+     * results come back in due date order; otherwise the status index is walked in ID order.
+     * Only index entries inside the requested range are visited.
+     *
+     * @param status Status to match, or null for any status
+     * @param dueFrom Inclusive lower bound on due date, or null for no lower bound
+     * @param dueTo Exclusive upper bound on due date, or null for no upper bound
+     * @param limit Maximum number of tasks to return
+     * @return Matching tasks
+     */
+    @Override
+    public List<Task> findByQuery(String status, OffsetDateTime dueFrom, OffsetDateTime dueTo, int limit) {
+        List<Task> matches = new ArrayList<>();
+        if (dueFrom != null || dueTo != null) {
+            NavigableSet<DueDateKey> range = dueDateIndex;
+            if (dueFrom != null) {
+                range = range.tailSet(DueDateKey.lowerBound(dueFrom.toInstant()), true);
+            }
+            if (dueTo != null) {
+                range = range.headSet(DueDateKey.lowerBound(dueTo.toInstant()), false);
+            }
+            for (DueDateKey key : range) {
+                if (matches.size() == limit) {
+                    break;
+                }
+                addIfMatches(matches, key.id(), status, dueFrom, dueTo);
+            }
+        } else if (status != null) {
+            for (Long id : statusIndex.getOrDefault(status, Collections.emptyNavigableSet())) {
+                if (matches.size() == limit) {
+                    break;
+                }
+                addIfMatches(matches, id, status, null, null);
+            }
+        }
+        return matches;
+    }
+    
+    /**
+     * Save a task.
+     *
+     * @param task Task to save
+     * @return Saved copy of the task
+     */
+    @Override
+    public Task save(Task task) {
+        Task stored = put(task);
+        awaitDurable();
+        publish(TaskChangedEvent.saved(stored));
+        return stored;
+    }
+    
+    /**
+     * Save an existing task if its stored version still matches. The version check and the
+     * write happen in the same per-key {@code compute}, so no lock is held beyond that entry and
+     * writers to other tasks are never blocked.
+     *
+     * @param task Task to save, carrying the version it was read at
+     * @return Saved copy of the task, or empty if it was changed or deleted since it was read
+     */
+    @Override
+    public Optional<Task> compareAndSet(Task task) {
+        Task stored = new Task(task);
+        boolean[] applied = new boolean[1];
+        write(stored.getId(), (id, previous) -> {
+            if (previous == null || previous.getVersion() != task.getVersion()) {
+                return previous;
+            }
+            applied[0] = true;
+            return store(previous, stored);
+        });
+        if (!applied[0]) {
+            return Optional.empty();
+        }
+        awaitDurable();
+        publish(TaskChangedEvent.saved(stored));
+        return Optional.of(stored);
+    }
+    
+    /**
+     * Save a batch of tasks.
+     *
+     * <p>With a journal configured the whole batch shares one durability wait.
+     *
+     * @param batch Tasks to save
+     * @return Saved copies, in the same order as the batch
+     */
+    @Override
+    public List<Task> saveAll(List<Task> batch) {
+        List<Task> saved = new ArrayList<>(batch.size());
+        for (Task task : batch) {
+            saved.add(put(task));
+        }
+        awaitDurable();
+        for (Task stored : saved) {
+            publish(TaskChangedEvent.saved(stored));
+        }
+        return saved;
+    }
+    
+    /**
+     * Store tasks handed over from another store, keeping their IDs and versions. With a journal
+     * configured the whole batch shares one durability wait.
+     *
+     * @param batch Tasks to store
+     * @return Stored copies, in the same order as the batch
+     */
+    @Override
+    public List<Task> importAll(List<Task> batch) {
+        List<Task> stored = new ArrayList<>(batch.size());
+        for (Task task : batch) {
+            Task copy = new Task(task);
+            write(copy.getId(), (id, previous) -> {
+                if (journal != null) {
+                    journal.appendSave(copy);
+                }
+                replace(previous, copy);
+                return copy;
+            });
+            stored.add(copy);
+        }
+        awaitDurable();
+        for (Task copy : stored) {
+            publish(TaskChangedEvent.saved(copy));
+        }
+        return stored;
+    }
+    
+    /**
+     * Delete a task.
+     *
+     * @param task Task to delete
+     * @return true if the task was deleted, false if it did not exist
+     */
+    @Override
+    public boolean delete(Task task) {
+        boolean[] deleted = new boolean[1];
+        write(task.getId(), (id, previous) -> {
+            if (previous != null) {
+                if (journal != null) {
+                    journal.appendDelete(id);
+                }
+                unindex(previous);
+                idIndex.remove(id);
+                deleted[0] = true;
+            }
+            return null;
+        });
+        awaitDurable();
+        if (deleted[0]) {
+            publish(TaskChangedEvent.deleted(task.getId()));
+        }
+        return deleted[0];
+    }
+    
+    private Task put(Task task) {
+        if (task.getId() == null) {
+            task.setId(idGenerator.nextId());
+        }
+        Task stored = new Task(task);
+        write(stored.getId(), (id, previous) -> store(previous, stored));
+        return stored;
+    }
+    
+    private Task store(Task previous, Task stored) {
+        stored.setVersion(previous == null ? 0 : previous.getVersion() + 1);
+        if (journal != null) {
+            journal.appendSave(stored);
+        }
+        replace(previous, stored);
+        return stored;
+    }
+    
+    private void replace(Task previous, Task stored) {
+        if (previous == null) {
+            idIndex.add(stored.getId());
+        } else {
+            unindex(previous);
+        }
+        index(stored);
+    }
+    
+    /**
+     * Applies a change to one task's entry, bracketed for the journal so a snapshot can wait for
+     * writes that were journaled before it started.
+     */
+    private void write(Long id, BiFunction<Long, Task, Task> change) {
+        if (journal == null) {
+            tasks.compute(id, change);
+        } else {
+            int token = journal.beginWrite();
+            try {
+                tasks.compute(id, change);
+            } finally {
+                journal.endWrite(token);
+            }
+        }
+        modificationCount.incrementAndGet();
+    }
+    
+    /**
+     * Count stored tasks.
+     *
+     * @return Number of tasks
+     */
+    @Override
+    public long count() {
+        return tasks.size();
+    }
+    
+    /**
+     * Count stored tasks by status from counters kept alongside the status index, so the cost
+     * does not grow with the number of tasks.
+     *
+     * @return Number of tasks for each status that has been used
+     */
+    @Override
+    public Map<String, Long> countByStatus() {
+        return statistics.countByStatus();
+    }
+    
+    /**
+     * Read task statistics from counters kept alongside the indexes, so the cost does not grow
+     * with the number of tasks.
+     *
+     * @param today Day to count due dates against
+     * @param zone Zone the day is in
+     * @param closedStatuses Statuses of finished tasks, left out of the due date counts
+     * @return Task statistics
+     */
+    @Override
+    public TaskStats stats(LocalDate today, ZoneId zone, Set<String> closedStatuses) {
+        return statistics.snapshot(today, zone, closedStatuses);
+    }
+    
+    /**
+     * Get the modification count. It is seeded from the clock at startup so that counts handed
+     * out before a restart are not reused for different contents.
+     *
+     * @return Modification count
+     */
+    @Override
+    public OptionalLong modificationCount() {
+        return OptionalLong.of(modificationCount.get());
+    }
+    
+    /**
+     * Get the incarnation, taken from the clock at startup: without a journal IDs start again
+     * from 1, and even with one the highest IDs can be handed out again if their tasks were
+     * deleted before the restart.
+     *
+     * @return Incarnation
+     */
+    @Override
+    public long incarnation() {
+        return incarnation;
+    }
+    
+    private void publish(TaskChangedEvent event) {
+        if (events != null) {
+            events.publishEvent(event);
+        }
+    }
+    
+    private void awaitDurable() {
+        if (journal != null) {
+            journal.awaitDurable();
+        }
+    }
+    
+    private void restore(Task task) {
+        tasks.compute(task.getId(), (id, previous) -> {
+            replace(previous, task);
+            return task;
+        });
+        idGenerator.observe(task.getId());
+    }
+    
+    private void restoreDelete(long id) {
+        tasks.computeIfPresent(id, (key, previous) -> {
+            unindex(previous);
+            idIndex.remove(key);
+            return null;
+        });
+        idGenerator.observe(id);
+    }
+    
+    private void index(Task task) {
+        statistics.add(task);
+        if (task.getStatus() != null) {
+            statusIndex.computeIfAbsent(task.getStatus(), status -> new ConcurrentSkipListSet<>()).add(task.getId());
+        }
+        if (task.getDueDate() != null) {
+            dueDateIndex.add(new DueDateKey(task.getDueDate().toInstant(), task.getId()));
+        }
+    }
+    
+    private void unindex(Task task) {
+        statistics.remove(task);
+        if (task.getStatus() != null) {
+            NavigableSet<Long> ids = statusIndex.get(task.getStatus());
+            if (ids != null) {
+                ids.remove(task.getId());
+            }
+        }
+        if (task.getDueDate() != null) {
+            dueDateIndex.remove(new DueDateKey(task.getDueDate().toInstant(), task.getId()));
+        }
+    }
+    
+    /**
+     * Re-checks a candidate from an index against the stored task, since a concurrent save can
+     * publish an index entry a moment before or after the task it describes.
+     */
+    private void addIfMatches(List<Task> matches, Long id, String status,
+                              OffsetDateTime dueFrom, OffsetDateTime dueTo) {
+        Task task = tasks.get(id);
+        if (task == null) {
+            return;
+        }
+        if (status != null && !status.equals(task.getStatus())) {
+            return;
+        }
+        if (dueFrom != null || dueTo != null) {
+            if (task.getDueDate() == null) {
+                return;
+            }
+            Instant dueDate = task.getDueDate().toInstant();
+            if (dueFrom != null && dueDate.isBefore(dueFrom.toInstant())) {
+                return;
+            }
+            if (dueTo != null && !dueDate.isBefore(dueTo.toInstant())) {
+                return;
+            }
+        }
+        matches.add(task);
+    }
+    
+    /**
+     * Due date index entry, ordered by instant and then ID so tasks sharing a due date coexist.
+     */
+    private record DueDateKey(Instant dueDate, long id) implements Comparable<DueDateKey> {
+        
+        static DueDateKey lowerBound(Instant dueDate) {
+            return new DueDateKey(dueDate, Long.MIN_VALUE);
+        }
+        
+        @Override
+        public int compareTo(DueDateKey other) {
+            int byDueDate = dueDate.compareTo(other.dueDate);
+            return byDueDate != 0 ? byDueDate : Long.compare(id, other.id);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,287 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Repository;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskPage;
+import uk.gov.hmcts.reform.dev.models.TaskStats;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Relational {@link TaskRepository} backed by JPA, active with the {@code jpa} profile.
+ *
+ * <p>Writes go through Hibernate with JDBC batching enabled, and IDs come from a database
+ * sequence with a pooled optimizer so most inserts need no extra round trip for their ID (see
+ * {@code application-jpa.yaml} and the mapping on {@link Task}).
+ *
+ * <p>A {@link TaskChangedEvent} is published after each committed save or delete made through
+ * this instance.
+ */
+@Repository
+@Qualifier("taskStore")
+@Profile("jpa")
+public class JpaTaskRepository implements TaskRepository {
+
+    static final int STREAM_PAGE_SIZE = 500;
+
+    private static final Sort BY_DUE_DATE = Sort.by("dueDate", "id");
+
+    private final TaskEntityRepository entities;
+    private final ApplicationEventPublisher events;
+
+    /**
+     * Constructor with TaskEntityRepository and ApplicationEventPublisher dependencies.
+     *
+     * @param entities Spring Data repository for task entities
+     * @param events Publisher for {@link TaskChangedEvent}s
+     */
+    @Autowired
+    public JpaTaskRepository(TaskEntityRepository entities, ApplicationEventPublisher events) {
+        this.entities = entities;
+        this.events = events;
+    }
+
+    @Override
+    public List<Task> findAll() {
+        return entities.findAll(Sort.by("id"));
+    }
+
+    /**
+     * Stream all tasks by walking keyset pages of {@value #STREAM_PAGE_SIZE}, so no long-lived
+     * transaction or cursor is held while the caller consumes the stream.
+     *
+     * @return Lazy stream of all tasks
+     */
+    @Override
+    public Stream<Task> stream() {
+        Iterator<Task> iterator = new Iterator<>() {
+            private List<Task> page = List.of();
+            private int position;
+            private long cursor;
+            private boolean exhausted;
+
+            @Override
+            public boolean hasNext() {
+                if (position < page.size()) {
+                    return true;
+                }
+                if (exhausted) {
+                    return false;
+                }
+                page = entities.findByIdGreaterThanOrderByIdAsc(cursor, Limit.of(STREAM_PAGE_SIZE));
+                position = 0;
+                exhausted = page.size() < STREAM_PAGE_SIZE;
+                if (!page.isEmpty()) {
+                    cursor = page.get(page.size() - 1).getId();
+                }
+                return !page.isEmpty();
+            }
+
+            @Override
+            public Task next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return page.get(position++);
+            }
+        };
+        return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    @Override
+    public Optional<Task> findById(Long id) {
+        return entities.findById(id);
+    }
+
+    /**
+     * Find a page of tasks with an {@code id > :after ... limit} query on the primary key index.
+     * One extra row is fetched to tell whether a further page exists.
+     *
+     * @param after Exclusive ID cursor, or null to start from the first task
+     * @param limit Maximum number of tasks to return
+     * @return Page of tasks with the cursor for the next page
+     */
+    @Override
+    public TaskPage findPage(Long after, int limit) {
+        List<Task> rows = entities.findByIdGreaterThanOrderByIdAsc(after == null ? 0 : after, Limit.of(limit + 1));
+        if (rows.size() <= limit) {
+            return new TaskPage(rows, null);
+        }
+        List<Task> page = rows.subList(0, limit);
+        return new TaskPage(page, page.get(limit - 1).getId());
+    }
+
+    @Override
+    public List<Task> findByQuery(String status, OffsetDateTime dueFrom, OffsetDateTime dueTo, int limit) {
+        Specification<Task> query = (root, criteria, builder) -> builder.conjunction();
+        if (status != null) {
+            query = query.and((root, criteria, builder) -> builder.equal(root.get("status"), status));
+        }
+        if (dueFrom != null) {
+            query = query.and((root, criteria, builder) ->
+                builder.greaterThanOrEqualTo(root.<OffsetDateTime>get("dueDate"), dueFrom));
+        }
+        if (dueTo != null) {
+            query = query.and((root, criteria, builder) ->
+                builder.lessThan(root.<OffsetDateTime>get("dueDate"), dueTo));
+        }
+        Sort sort = dueFrom != null || dueTo != null ? BY_DUE_DATE : Sort.by("id");
+        return entities.findBy(query, fluent -> fluent.sortBy(sort).limit(limit).all());
+    }
+
+    @Override
+    public Task save(Task task) {
+        Task saved = entities.save(task);
+        events.publishEvent(TaskChangedEvent.saved(saved));
+        return saved;
+    }
+
+    /**
+     * Save an existing task through the entity's {@code @Version} column: Hibernate compares the
+     * version on merge and issues {@code update ... where id = ? and version = ?}, so a task
+     * changed or deleted since it was read is rejected by the database without holding a lock.
+     *
+     * @param task Task to save, carrying the version it was read at
+     * @return Saved task, or empty if it was changed or deleted since it was read
+     */
+    @Override
+    public Optional<Task> compareAndSet(Task task) {
+        try {
+            Task saved = entities.save(task);
+            events.publishEvent(TaskChangedEvent.saved(saved));
+            return Optional.of(saved);
+        } catch (OptimisticLockingFailureException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Save a batch of tasks in one transaction, so Hibernate can send the inserts and updates
+     * to the database as JDBC batches. The transaction is the one {@code saveAll} opens itself,
+     * so it has committed before the change events are published.
+     *
+     * @param batch Tasks to save
+     * @return Saved tasks, in the same order as the batch
+     */
+    @Override
+    public List<Task> saveAll(List<Task> batch) {
+        List<Task> saved = entities.saveAll(batch);
+        saved.forEach(task -> events.publishEvent(TaskChangedEvent.saved(task)));
+        return saved;
+    }
+
+    @Override
+    public boolean delete(Task task) {
+        if (entities.deleteByIdReturningCount(task.getId()) == 0) {
+            return false;
+        }
+        events.publishEvent(TaskChangedEvent.deleted(task.getId()));
+        return true;
+    }
+
+    @Override
+    public long count() {
+        return entities.count();
+    }
+    
+    /**
+     * Count tasks by status with a single {@code group by} query.
+     *
+     * @return Number of tasks for each status
+     */
+    @Override
+    public Map<String, Long> countByStatus() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (TaskEntityRepository.StatusCount row : entities.countGroupedByStatus()) {
+            if (row.getStatus() != null) {
+                counts.put(row.getStatus(), row.getTotal());
+            }
+        }
+        return counts;
+    }
+    
+    /**
+     * Count tasks with the status {@code group by} and one count query per due date range.
+     * Unlike the in-memory stores, the database counts the rows on each call; the status and
+     * due date columns should be indexed for large tables.
+     *
+     * @param today Day to count due dates against
+     * @param zone Zone the day is in
+     * @param closedStatuses Statuses of finished tasks, left out of the due date counts
+     * @return Task statistics
+     */
+    @Override
+    public TaskStats stats(LocalDate today, ZoneId zone, Set<String> closedStatuses) {
+        OffsetDateTime todayStart = utc(TaskStatistics.startOfDay(today, zone));
+        OffsetDateTime tomorrowStart = utc(TaskStatistics.startOfDay(today.plusDays(1), zone));
+        OffsetDateTime weekEnd = utc(TaskStatistics.startOfWeekAfter(today, zone));
+        Specification<Task> open = (root, criteria, builder) -> builder.isNotNull(root.get("status"));
+        if (!closedStatuses.isEmpty()) {
+            open = open.and((root, criteria, builder) -> builder.not(root.get("status").in(closedStatuses)));
+        }
+        long overdue = entities.count(open.and(dueBefore(todayStart)));
+        long dueToday = entities.count(open.and(dueFrom(todayStart)).and(dueBefore(tomorrowStart)));
+        long dueThisWeek = entities.count(open.and(dueFrom(todayStart)).and(dueBefore(weekEnd)));
+        return new TaskStats(today, entities.count(), countByStatus(), overdue, dueToday, dueThisWeek);
+    }
+    
+    /**
+     * Give no modification count: other application instances can write to the same database
+     * without this one seeing it, so a count kept here could claim the list had not changed when
+     * it had.
+     *
+     * @return Empty
+     */
+    @Override
+    public OptionalLong modificationCount() {
+        return OptionalLong.empty();
+    }
+
+    /**
+     * Get the incarnation, which never changes: IDs come from a database sequence, which never
+     * hands out an ID twice.
+     *
+     * @return Incarnation
+     */
+    @Override
+    public long incarnation() {
+        return 0;
+    }
+
+    private static Specification<Task> dueFrom(OffsetDateTime from) {
+        return (root, criteria, builder) -> builder.greaterThanOrEqualTo(root.<OffsetDateTime>get("dueDate"), from);
+    }
+
+    private static Specification<Task> dueBefore(OffsetDateTime to) {
+        return (root, criteria, builder) -> builder.lessThan(root.<OffsetDateTime>get("dueDate"), to);
+    }
+
+    private static OffsetDateTime utc(Instant instant) {
+        return instant.atOffset(ZoneOffset.UTC);
+    }
+}
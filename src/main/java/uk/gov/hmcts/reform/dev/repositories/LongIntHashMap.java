@@ -0,0 +1,127 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+/**
+ * Open-addressing hash map from {@code long} keys to {@code int} values, with no boxing and no
+ * entry objects: keys and values sit in two parallel arrays probed linearly. Removal shifts
+ * later entries of the same probe run back rather than leaving tombstones.
+ *
+ * <p>Not thread-safe; callers synchronize externally.
+ */
+final class LongIntHashMap {
+    
+    static final int MISSING = -1;
+    
+    private static final long EMPTY = 0;
+    private static final int MIN_CAPACITY = 16;
+    
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+    private boolean hasEmptyKey;
+    private int emptyKeyValue;
+    
+    LongIntHashMap() {
+        allocate(MIN_CAPACITY);
+    }
+    
+    int size() {
+        return size;
+    }
+    
+    int get(long key) {
+        if (key == EMPTY) {
+            return hasEmptyKey ? emptyKeyValue : MISSING;
+        }
+        for (int i = slot(key); ; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                return values[i];
+            }
+            if (keys[i] == EMPTY) {
+                return MISSING;
+            }
+        }
+    }
+    
+    void put(long key, int value) {
+        if (key == EMPTY) {
+            if (!hasEmptyKey) {
+                hasEmptyKey = true;
+                size++;
+            }
+            emptyKeyValue = value;
+            return;
+        }
+        int i = slot(key);
+        while (keys[i] != EMPTY) {
+            if (keys[i] == key) {
+                values[i] = value;
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        values[i] = value;
+        if (++size > keys.length * 3 / 4) {
+            rehash(keys.length * 2);
+        }
+    }
+    
+    int remove(long key) {
+        if (key == EMPTY) {
+            if (!hasEmptyKey) {
+                return MISSING;
+            }
+            hasEmptyKey = false;
+            size--;
+            return emptyKeyValue;
+        }
+        int gap = slot(key);
+        while (keys[gap] != key) {
+            if (keys[gap] == EMPTY) {
+                return MISSING;
+            }
+            gap = (gap + 1) & mask;
+        }
+        int removed = values[gap];
+        for (int i = (gap + 1) & mask; keys[i] != EMPTY; i = (i + 1) & mask) {
+            int home = slot(keys[i]);
+            boolean reachable = gap < i ? home <= gap || home > i : home <= gap && home > i;
+            if (reachable) {
+                keys[gap] = keys[i];
+                values[gap] = values[i];
+                gap = i;
+            }
+        }
+        keys[gap] = EMPTY;
+        size--;
+        return removed;
+    }
+    
+    private int slot(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+    
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int j = slot(oldKeys[i]);
+                while (keys[j] != EMPTY) {
+                    j = (j + 1) & mask;
+                }
+                keys[j] = oldKeys[i];
+                values[j] = oldValues[i];
+            }
+        }
+    }
+    
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,725 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import uk.gov.hmcts.reform.dev.exceptions.ClusterUnavailableException;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskPage;
+import uk.gov.hmcts.reform.dev.models.TaskStats;
+import uk.gov.hmcts.reform.dev.repositories.ClusterClient.Counts;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * {@link TaskRepository} for cluster mode, enabled with {@code tasks.cluster.enabled}. Tasks are
+ * spread over the members listed in {@code tasks.cluster.nodes}, and each member keeps only the
+ * tasks it owns in its own task store.
+ *
+ * <p>A task's ID decides its partition and a {@link ConsistentHashRing} over the members decides
+ * which member owns each partition. Reads and writes of one task are served from the local store
+ * when this member owns it and are otherwise forwarded to the owner through the internal API
+ * ({@link ClusterClient}). Lists, pages, queries and counts are scatter-gathered: every member is
+ * asked in parallel for the tasks it owns, and the answers are merged into the order a single
+ * store would return.
+ *
+ * <p>New IDs come from the {@link TaskIdGenerator}, which must give IDs unique across the
+ * cluster without coordination: {@code snowflake} with a different {@code tasks.ids.node-id} on
+ * each member, or {@code block} with a lease file shared by all members. The ID is assigned
+ * before the task is routed, since its owner depends on it.
+ *
+ * <p>Membership is changed through {@link #changeMembers} in two steps. First each current member
+ * hands over the partitions it will no longer own: reads and writes of those partitions wait
+ * while it copies their tasks, with their versions, to the new owners, tells them they own the
+ * partitions, starts forwarding requests for them and deletes its copies. Then every member
+ * switches to routing by the new membership. A member that has not switched yet still routes to
+ * the old owner, which forwards the request on; no request is forwarded more than
+ * {@value #MAX_HOPS} times. Lists and counts taken while partitions are moving may miss or
+ * repeat some of their tasks.
+ */
+@Repository
+@Primary
+@ConditionalOnProperty(prefix = "tasks.cluster", name = "enabled", havingValue = "true")
+public class PartitionedTaskRepository implements TaskRepository {
+
+    static final int MAX_HOPS = 2;
+
+    static final int PAGE_SIZE = 500;
+
+    private static final Comparator<Task> BY_ID = Comparator.comparing(Task::getId);
+
+    private static final Comparator<Task> BY_DUE_DATE =
+        Comparator.comparing((Task task) -> task.getDueDate().toInstant()).thenComparing(Task::getId);
+
+    private final ImportableTaskRepository local;
+    private final ClusterClient client;
+    private final String self;
+    private final TaskIdGenerator idGenerator;
+    private final ReadWriteLock[] locks = new ReadWriteLock[ConsistentHashRing.PARTITIONS];
+    private final Object handover = new Object();
+    private final Object changes = new Object();
+    private volatile List<String> members;
+    private volatile String[] owners;
+
+    /**
+     * Constructor with the local store, the client for other members and this member's place in
+     * the cluster.
+     *
+     * @param local Store for the tasks this member owns, which must be importable
+     * @param client Client for the other members' internal API
+     * @param self Base URL other members reach this member on
+     * @param nodes Base URLs of the current members
+     * @param idGenerator Generator for new task IDs, unique across the members
+     * @param webApplicationType Web stack of this member, which must be the servlet stack the
+     *                           internal API is served on
+     */
+    @Autowired
+    public PartitionedTaskRepository(@Qualifier("taskStore") TaskRepository local, ClusterClient client,
+                                     @Value("${tasks.cluster.self}") String self,
+                                     @Value("${tasks.cluster.nodes}") List<String> nodes,
+                                     TaskIdGenerator idGenerator,
+                                     @Value("${spring.main.web-application-type:servlet}")
+                                     String webApplicationType) {
+        if (!"servlet".equalsIgnoreCase(webApplicationType)) {
+            throw new IllegalStateException("Cluster mode requires the servlet stack, not the "
+                + webApplicationType + " web application type");
+        }
+        if (idGenerator instanceof SequentialIdGenerator) {
+            throw new IllegalStateException("tasks.ids.generator must be snowflake or block in cluster mode");
+        }
+        if (!(local instanceof ImportableTaskRepository importable)) {
+            throw new IllegalStateException("The in-memory or columnar task store is required in cluster mode");
+        }
+        this.local = importable;
+        this.client = client;
+        this.self = self;
+        this.idGenerator = idGenerator;
+        for (int partition = 0; partition < locks.length; partition++) {
+            locks[partition] = new ReentrantReadWriteLock();
+        }
+        commit(nodes);
+    }
+
+    @Override
+    public List<Task> findAll() {
+        try (Stream<Task> tasks = stream()) {
+            return tasks.toList();
+        }
+    }
+
+    /**
+     * Stream all tasks in ascending ID order, merging pages of {@value #PAGE_SIZE} read from
+     * every member as the stream is consumed.
+     *
+     * @return Lazy stream of all tasks
+     */
+    @Override
+    public Stream<Task> stream() {
+        Iterator<Task> iterator = new Iterator<>() {
+            private PriorityQueue<Cursor> cursors;
+
+            @Override
+            public boolean hasNext() {
+                if (cursors == null) {
+                    cursors = new PriorityQueue<>(Comparator.comparing(Cursor::head, BY_ID));
+                    gather(() -> new Cursor(self, ownedPage(null, PAGE_SIZE)),
+                        node -> client.findPage(node, null, PAGE_SIZE).thenApply(page -> new Cursor(node, page)))
+                        .stream()
+                        .filter(cursor -> !cursor.page.getTasks().isEmpty())
+                        .forEach(cursors::add);
+                }
+                return !cursors.isEmpty();
+            }
+
+            @Override
+            public Task next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Cursor cursor = cursors.poll();
+                Task task = cursor.head();
+                if (cursor.advance()) {
+                    cursors.add(cursor);
+                }
+                return task;
+            }
+        };
+        return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    @Override
+    public Optional<Task> findById(Long id) {
+        return findById(id, 0);
+    }
+
+    /**
+     * Find a task, forwarding the lookup if another member owns it.
+     *
+     * @param id Task ID
+     * @param hops Number of times the lookup has already been forwarded
+     * @return Optional containing task if found
+     */
+    public Optional<Task> findById(Long id, int hops) {
+        return route(id, hops, store -> store.findById(id), (node, next) -> client.findById(node, id, next));
+    }
+
+    /**
+     * Find a page of tasks by asking every member for a page of the same size from the same
+     * cursor and keeping the lowest IDs.
+     *
+     * @param after Exclusive ID cursor, or null to start from the first task
+     * @param limit Maximum number of tasks to return
+     * @return Page of tasks with the cursor for the next page
+     */
+    @Override
+    public TaskPage findPage(Long after, int limit) {
+        List<Task> tasks = new ArrayList<>();
+        boolean more = false;
+        for (TaskPage page : gather(() -> ownedPage(after, limit), node -> client.findPage(node, after, limit))) {
+            tasks.addAll(page.getTasks());
+            more |= page.getNextCursor() != null;
+        }
+        tasks.sort(BY_ID);
+        if (tasks.size() > limit) {
+            tasks = new ArrayList<>(tasks.subList(0, limit));
+            more = true;
+        }
+        return new TaskPage(tasks, more && !tasks.isEmpty() ? tasks.get(tasks.size() - 1).getId() : null);
+    }
+
+    /**
+     * Query every member with the same limit and keep the first matches in the stores' order:
+     * by due date when a due date bound is given, otherwise by ID.
+     *
+     * @param status Status to match, or null
+     * @param dueFrom Inclusive lower bound on the due date, or null
+     * @param dueTo Exclusive upper bound on the due date, or null
+     * @param limit Maximum number of tasks to return
+     * @return Matching tasks
+     */
+    @Override
+    public List<Task> findByQuery(String status, OffsetDateTime dueFrom, OffsetDateTime dueTo, int limit) {
+        Comparator<Task> order = dueFrom != null || dueTo != null ? BY_DUE_DATE : BY_ID;
+        return gather(() -> ownedQuery(status, dueFrom, dueTo, limit),
+                      node -> client.findByQuery(node, status, dueFrom, dueTo, limit))
+            .stream()
+            .flatMap(List::stream)
+            .sorted(order)
+            .limit(limit)
+            .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    @Override
+    public Task save(Task task) {
+        if (task.getId() == null) {
+            task.setId(idGenerator.nextId());
+        }
+        return save(task, 0);
+    }
+
+    /**
+     * Save a task that has an ID, forwarding the write if another member owns it.
+     *
+     * @param task Task to save
+     * @param hops Number of times the write has already been forwarded
+     * @return Task as stored
+     */
+    public Task save(Task task, int hops) {
+        return route(task.getId(), hops, store -> store.save(task), (node, next) -> client.save(node, task, next));
+    }
+
+    @Override
+    public Optional<Task> compareAndSet(Task task) {
+        return compareAndSet(task, 0);
+    }
+
+    /**
+     * Compare-and-set a task, forwarding the write if another member owns it.
+     *
+     * @param task Task to save, carrying the version it was read at
+     * @param hops Number of times the write has already been forwarded
+     * @return Task as stored, or empty if it was changed or deleted since it was read
+     */
+    public Optional<Task> compareAndSet(Task task, int hops) {
+        return route(task.getId(), hops, store -> store.compareAndSet(task),
+                     (node, next) -> client.compareAndSet(node, task, next));
+    }
+
+    @Override
+    public List<Task> saveAll(List<Task> batch) {
+        for (Task task : batch) {
+            if (task.getId() == null) {
+                task.setId(idGenerator.nextId());
+            }
+        }
+        return saveAll(batch, 0);
+    }
+
+    /**
+     * Save a batch of tasks that have IDs: the ones this member owns in one batch to the local
+     * store and the rest in one batch per owner.
+     *
+     * @param batch Tasks to save
+     * @param hops Number of times the batch has already been forwarded
+     * @return Tasks as stored, in the same order as the batch
+     */
+    public List<Task> saveAll(List<Task> batch, int hops) {
+        String[] table = owners;
+        Map<String, List<Integer>> positionsByOwner = new LinkedHashMap<>();
+        for (int i = 0; i < batch.size(); i++) {
+            String owner = table[ConsistentHashRing.partition(batch.get(i).getId())];
+            positionsByOwner.computeIfAbsent(owner, node -> new ArrayList<>()).add(i);
+        }
+        Task[] saved = new Task[batch.size()];
+        for (Map.Entry<String, List<Integer>> group : positionsByOwner.entrySet()) {
+            List<Task> tasks = group.getValue().stream().map(batch::get).toList();
+            List<Task> stored;
+            if (group.getKey().equals(self)) {
+                stored = saveOwned(tasks, hops);
+            } else {
+                checkHops(hops, tasks.get(0).getId());
+                stored = client.saveAll(group.getKey(), tasks, hops + 1);
+            }
+            for (int i = 0; i < stored.size(); i++) {
+                saved[group.getValue().get(i)] = stored.get(i);
+            }
+        }
+        return Arrays.asList(saved);
+    }
+
+    @Override
+    public boolean delete(Task task) {
+        return delete(task, 0);
+    }
+
+    /**
+     * Delete a task, forwarding the delete if another member owns it.
+     *
+     * @param task Task to delete
+     * @param hops Number of times the delete has already been forwarded
+     * @return true if the task was deleted, false if it did not exist
+     */
+    public boolean delete(Task task, int hops) {
+        return route(task.getId(), hops, store -> store.delete(task),
+            (node, next) -> client.delete(node, task.getId(), next));
+    }
+
+    /**
+     * Store tasks handed over by another member in the local store, whichever member owns them.
+     *
+     * @param batch Tasks to store
+     * @return Tasks as stored
+     */
+    public List<Task> importAll(List<Task> batch) {
+        return local.importAll(batch);
+    }
+
+    @Override
+    public long count() {
+        return counts().stream().mapToLong(Counts::count).sum();
+    }
+
+    @Override
+    public Map<String, Long> countByStatus() {
+        Map<String, Long> total = new LinkedHashMap<>();
+        for (Counts counts : counts()) {
+            counts.byStatus().forEach((status, count) -> total.merge(status, count, Long::sum));
+        }
+        return total;
+    }
+
+    @Override
+    public TaskStats stats(LocalDate today, ZoneId zone, Set<String> closedStatuses) {
+        long total = 0;
+        Map<String, Long> byStatus = new LinkedHashMap<>();
+        long overdue = 0;
+        long dueToday = 0;
+        long dueThisWeek = 0;
+        for (TaskStats stats : gather(() -> local.stats(today, zone, closedStatuses),
+                                      node -> client.stats(node, today, zone, closedStatuses))) {
+            total += stats.getTotal();
+            stats.getByStatus().forEach((status, count) -> byStatus.merge(status, count, Long::sum));
+            overdue += stats.getOverdue();
+            dueToday += stats.getDueToday();
+            dueThisWeek += stats.getDueThisWeek();
+        }
+        return new TaskStats(today, total, byStatus, overdue, dueToday, dueThisWeek);
+    }
+
+    /**
+     * Get the sum of the members' modification counts, which changes whenever any of them does.
+     *
+     * @return Modification count
+     */
+    @Override
+    public OptionalLong modificationCount() {
+        return OptionalLong.of(counts().stream().mapToLong(Counts::modificationCount).sum());
+    }
+
+    /**
+     * Get the incarnation, which is the same on every member and never changes: the ID generators
+     * allowed in cluster mode never hand out an ID twice, so any member can check any task's ETag.
+     *
+     * @return Incarnation
+     */
+    @Override
+    public long incarnation() {
+        return 0;
+    }
+
+    /**
+     * Read a page of the tasks this member owns, leaving out tasks of partitions it has handed
+     * over but not yet deleted.
+     *
+     * @param after Exclusive ID cursor, or null to start from the first task
+     * @param limit Maximum number of tasks to return
+     * @return Page of owned tasks
+     */
+    public TaskPage ownedPage(Long after, int limit) {
+        String[] table = owners;
+        List<Task> tasks = new ArrayList<>(limit);
+        Long cursor = after;
+        while (true) {
+            TaskPage page = local.findPage(cursor, limit);
+            for (Task task : page.getTasks()) {
+                if (self.equals(table[ConsistentHashRing.partition(task.getId())])) {
+                    if (tasks.size() == limit) {
+                        return new TaskPage(tasks, tasks.get(limit - 1).getId());
+                    }
+                    tasks.add(task);
+                }
+            }
+            if (page.getNextCursor() == null) {
+                return new TaskPage(tasks, null);
+            }
+            cursor = page.getNextCursor();
+        }
+    }
+
+    /**
+     * Query the tasks this member owns, leaving out tasks of partitions it has handed over but
+     * not yet deleted.
+     *
+     * @param status Status to match, or null
+     * @param dueFrom Inclusive lower bound on the due date, or null
+     * @param dueTo Exclusive upper bound on the due date, or null
+     * @param limit Maximum number of tasks to return
+     * @return Matching owned tasks, in the store's order
+     */
+    public List<Task> ownedQuery(String status, OffsetDateTime dueFrom, OffsetDateTime dueTo, int limit) {
+        String[] table = owners;
+        int fetch = limit;
+        while (true) {
+            List<Task> matches = local.findByQuery(status, dueFrom, dueTo, fetch);
+            List<Task> owned = matches.stream()
+                .filter(task -> self.equals(table[ConsistentHashRing.partition(task.getId())]))
+                .limit(limit)
+                .toList();
+            if (owned.size() == limit || matches.size() < fetch) {
+                return owned;
+            }
+            fetch = (int) Math.min(2L * fetch, Integer.MAX_VALUE);
+        }
+    }
+
+    /**
+     * Get this member's own counts from the local store.
+     *
+     * @return Counts
+     */
+    public Counts localCounts() {
+        return new Counts(local.count(), local.countByStatus(), local.modificationCount().orElseThrow());
+    }
+
+    /**
+     * Get this member's own statistics from the local store.
+     *
+     * @param today Day to count due dates against
+     * @param zone Zone the day is in
+     * @param closedStatuses Statuses of finished tasks, left out of the due date counts
+     * @return Task statistics
+     */
+    public TaskStats localStats(LocalDate today, ZoneId zone, Set<String> closedStatuses) {
+        return local.stats(today, zone, closedStatuses);
+    }
+
+    /**
+     * Get the base URL of this member.
+     *
+     * @return Base URL
+     */
+    public String self() {
+        return self;
+    }
+
+    /**
+     * Get the members this member routes by.
+     *
+     * @return Base URLs, sorted
+     */
+    public List<String> members() {
+        return members;
+    }
+
+    /**
+     * Get the partitions this member owns.
+     *
+     * @return Owned partitions, in ascending order
+     */
+    public List<Integer> ownedPartitions() {
+        String[] table = owners;
+        List<Integer> owned = new ArrayList<>();
+        for (int partition = 0; partition < table.length; partition++) {
+            if (self.equals(table[partition])) {
+                owned.add(partition);
+            }
+        }
+        return owned;
+    }
+
+    /**
+     * Change the membership of the cluster, coordinated from this member: every current member
+     * hands over the partitions it will no longer own, then every old and new member switches
+     * to routing by the new membership. A new member must already be running, configured with
+     * the current membership. Changes should be made one at a time.
+     *
+     * @param newMembers Base URLs of the new members
+     * @return Number of tasks each current member handed over
+     */
+    public Map<String, Integer> changeMembers(Collection<String> newMembers) {
+        List<String> next = new ConsistentHashRing(newMembers).members();
+        synchronized (changes) {
+            List<String> current = members;
+            Map<String, Integer> moved = new LinkedHashMap<>();
+            for (String node : current) {
+                moved.put(node, node.equals(self) ? rebalance(next) : client.rebalance(node, next));
+            }
+            Set<String> everyone = new LinkedHashSet<>(current);
+            everyone.addAll(next);
+            for (String node : everyone) {
+                if (node.equals(self)) {
+                    commit(next);
+                } else {
+                    client.commit(node, next);
+                }
+            }
+            return moved;
+        }
+    }
+
+    /**
+     * Hand over the partitions this member owns that another member owns in a new membership,
+     * one new owner at a time. Reads and writes of a partition wait while it is handed over.
+     *
+     * @param newMembers Base URLs of the new members
+     * @return Number of tasks handed over
+     */
+    public int rebalance(Collection<String> newMembers) {
+        ConsistentHashRing target = new ConsistentHashRing(newMembers);
+        synchronized (handover) {
+            Map<String, List<Integer>> partitionsByOwner = new LinkedHashMap<>();
+            for (int partition : ownedPartitions()) {
+                String owner = target.owner(partition);
+                if (!owner.equals(self)) {
+                    partitionsByOwner.computeIfAbsent(owner, node -> new ArrayList<>()).add(partition);
+                }
+            }
+            int moved = 0;
+            for (Map.Entry<String, List<Integer>> handedTo : partitionsByOwner.entrySet()) {
+                moved += handOver(handedTo.getValue(), handedTo.getKey());
+            }
+            return moved;
+        }
+    }
+
+    /**
+     * Take ownership of partitions whose tasks another member has handed over.
+     *
+     * @param partitions Partitions this member now owns
+     */
+    public void activate(Collection<Integer> partitions) {
+        assign(partitions, self);
+    }
+
+    /**
+     * Route by a membership.
+     *
+     * @param newMembers Base URLs of the members
+     */
+    public synchronized void commit(Collection<String> newMembers) {
+        ConsistentHashRing ring = new ConsistentHashRing(newMembers);
+        members = ring.members();
+        owners = ring.owners();
+    }
+
+    private int handOver(List<Integer> partitions, String owner) {
+        boolean[] moving = new boolean[ConsistentHashRing.PARTITIONS];
+        partitions.forEach(partition -> moving[partition] = true);
+        partitions.forEach(partition -> locks[partition].writeLock().lock());
+        try {
+            List<Task> tasks;
+            try (Stream<Task> stored = local.stream()) {
+                tasks = stored.filter(task -> moving[ConsistentHashRing.partition(task.getId())]).toList();
+            }
+            for (int from = 0; from < tasks.size(); from += PAGE_SIZE) {
+                client.importAll(owner, tasks.subList(from, Math.min(from + PAGE_SIZE, tasks.size())));
+            }
+            client.activate(owner, partitions);
+            assign(partitions, owner);
+            tasks.forEach(local::delete);
+            return tasks.size();
+        } finally {
+            partitions.forEach(partition -> locks[partition].writeLock().unlock());
+        }
+    }
+
+    private synchronized void assign(Collection<Integer> partitions, String owner) {
+        String[] table = owners.clone();
+        for (int partition : partitions) {
+            table[partition] = owner;
+        }
+        owners = table;
+    }
+
+    private List<Task> saveOwned(List<Task> tasks, int hops) {
+        int[] partitions = tasks.stream().mapToInt(task -> ConsistentHashRing.partition(task.getId()))
+            .distinct().sorted().toArray();
+        for (int partition : partitions) {
+            locks[partition].readLock().lock();
+        }
+        try {
+            String[] table = owners;
+            if (Arrays.stream(partitions).allMatch(partition -> self.equals(table[partition]))) {
+                return local.saveAll(tasks);
+            }
+        } finally {
+            for (int partition : partitions) {
+                locks[partition].readLock().unlock();
+            }
+        }
+        return saveAll(tasks, hops);
+    }
+
+    private <T> T route(long id, int hops, Function<TaskRepository, T> locally,
+                        BiFunction<String, Integer, T> remotely) {
+        int partition = ConsistentHashRing.partition(id);
+        String owner;
+        Lock lock = locks[partition].readLock();
+        lock.lock();
+        try {
+            owner = owners[partition];
+            if (owner.equals(self)) {
+                return locally.apply(local);
+            }
+        } finally {
+            lock.unlock();
+        }
+        checkHops(hops, id);
+        return remotely.apply(owner, hops + 1);
+    }
+
+    private void checkHops(int hops, long id) {
+        if (hops >= MAX_HOPS) {
+            throw new ClusterUnavailableException("Task " + id + " was forwarded " + hops
+                + " times without reaching its owner");
+        }
+    }
+
+    /**
+     * Ask every member that owns a partition, in parallel, answering for this member from the
+     * local store.
+     */
+    private <T> List<T> gather(Supplier<T> locally, Function<String, CompletableFuture<T>> remotely) {
+        List<CompletableFuture<T>> calls = new ArrayList<>();
+        boolean owner = false;
+        for (String node : new LinkedHashSet<>(Arrays.asList(owners))) {
+            if (node.equals(self)) {
+                owner = true;
+            } else {
+                calls.add(remotely.apply(node));
+            }
+        }
+        List<T> answers = new ArrayList<>(calls.size() + 1);
+        if (owner) {
+            answers.add(locally.get());
+        }
+        for (CompletableFuture<T> call : calls) {
+            answers.add(ClusterClient.await(call));
+        }
+        return answers;
+    }
+
+    private List<Counts> counts() {
+        return gather(this::localCounts, client::counts);
+    }
+
+    private TaskPage page(String node, Long after) {
+        if (node.equals(self)) {
+            return ownedPage(after, PAGE_SIZE);
+        }
+        return ClusterClient.await(client.findPage(node, after, PAGE_SIZE));
+    }
+
+    /**
+     * Position in the pages of one member's tasks while merging them into a stream.
+     */
+    private final class Cursor {
+
+        private final String node;
+        private TaskPage page;
+        private int position;
+
+        Cursor(String node, TaskPage page) {
+            this.node = node;
+            this.page = page;
+        }
+
+        Task head() {
+            return page.getTasks().get(position);
+        }
+
+        boolean advance() {
+            if (++position < page.getTasks().size()) {
+                return true;
+            }
+            if (page.getNextCursor() == null) {
+                return false;
+            }
+            page = page(node, page.getNextCursor());
+            position = 0;
+            return !page.getTasks().isEmpty();
+        }
+    }
+}
\ No newline at end of file
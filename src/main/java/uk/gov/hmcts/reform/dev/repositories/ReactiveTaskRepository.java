@@ -0,0 +1,60 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import uk.gov.hmcts.reform.dev.models.Task;
+
+/**
+ * Non-blocking repository for Task entity operations, used by the reactive API.
+ */
+public interface ReactiveTaskRepository {
+    
+    /**
+     * Find all tasks in ascending ID order. Tasks are read from the store as the subscriber
+     * requests them, so a slow subscriber holds back reading rather than buffering the list.
+     *
+     * @return Tasks in ascending ID order
+     */
+    Flux<Task> findAll();
+    
+    /**
+     * Find task by ID.
+     *
+     * @param id Task ID
+     * @return Task, or empty if not found
+     */
+    Mono<Task> findById(Long id);
+    
+    /**
+     * Save a task.
+     *
+     * @param task Task to save
+     * @return Saved task
+     */
+    Mono<Task> save(Task task);
+    
+    /**
+     * Save changes to an existing task only if the stored version still equals the given
+     * task's version.
+     *
+     * @param task Task to save, carrying the version it was read at
+     * @return Saved task, or empty if it was changed or deleted since it was read
+     */
+    Mono<Task> compareAndSet(Task task);
+    
+    /**
+     * Delete a task.
+     *
+     * @param task Task to delete
+     * @return true if the task was deleted, false if it did not exist
+     */
+    Mono<Boolean> delete(Task task);
+    
+    /**
+     * Get the store's incarnation, which changes whenever task IDs may be handed out again. It is
+     * read without blocking.
+     *
+     * @return Incarnation
+     */
+    long incarnation();
+}
\ No newline at end of file
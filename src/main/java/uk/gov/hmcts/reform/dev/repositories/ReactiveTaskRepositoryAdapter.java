@@ -0,0 +1,74 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import uk.gov.hmcts.reform.dev.models.Task;
+
+/**
+ * {@link ReactiveTaskRepository} over the configured {@link TaskRepository}, active when the
+ * application runs as a reactive web application.
+ *
+ * <p>The task stores block: JDBC round trips with the {@code jpa} profile, and journal syncs for
+ * in-memory writes. Every call is therefore subscribed on a bounded elastic scheduler so the
+ * event loop never waits on the store. {@link #findAll()} pulls from the store's lazy stream one
+ * element per unit of demand, so for JPA a further keyset page is only read once the subscriber
+ * has consumed the previous one.
+ */
+@Repository
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveTaskRepositoryAdapter implements ReactiveTaskRepository {
+
+    private final TaskRepository repository;
+
+    private final Scheduler scheduler;
+
+    /**
+     * Constructor with the TaskRepository to adapt.
+     *
+     * @param repository Blocking task repository
+     */
+    @Autowired
+    public ReactiveTaskRepositoryAdapter(TaskRepository repository) {
+        this(repository, Schedulers.boundedElastic());
+    }
+
+    ReactiveTaskRepositoryAdapter(TaskRepository repository, Scheduler scheduler) {
+        this.repository = repository;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public Flux<Task> findAll() {
+        return Flux.fromStream(repository::stream).subscribeOn(scheduler);
+    }
+
+    @Override
+    public Mono<Task> findById(Long id) {
+        return Mono.fromCallable(() -> repository.findById(id).orElse(null)).subscribeOn(scheduler);
+    }
+
+    @Override
+    public Mono<Task> save(Task task) {
+        return Mono.fromCallable(() -> repository.save(task)).subscribeOn(scheduler);
+    }
+
+    @Override
+    public Mono<Task> compareAndSet(Task task) {
+        return Mono.fromCallable(() -> repository.compareAndSet(task).orElse(null)).subscribeOn(scheduler);
+    }
+
+    @Override
+    public Mono<Boolean> delete(Task task) {
+        return Mono.fromCallable(() -> repository.delete(task)).subscribeOn(scheduler);
+    }
+
+    @Override
+    public long incarnation() {
+        return repository.incarnation();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,34 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link TaskIdGenerator} counting up from 1, used unless {@code tasks.ids.generator} says
+ * otherwise. The count is only kept in memory: IDs are unique across restarts only when the
+ * journal is enabled, since recovery passes every recovered ID to {@link #observe}, and they are
+ * never unique across instances.
+ */
+@Component
+@ConditionalOnProperty(prefix = "tasks.ids", name = "generator", havingValue = "sequential", matchIfMissing = true)
+public class SequentialIdGenerator implements TaskIdGenerator {
+
+    private final AtomicLong next = new AtomicLong(1);
+
+    @Override
+    public long nextId() {
+        return next.getAndIncrement();
+    }
+
+    @Override
+    public void observe(long id) {
+        next.accumulateAndGet(id + 1, Math::max);
+    }
+
+    @Override
+    public long lastId() {
+        return next.get() - 1;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,89 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link TaskIdGenerator} building IDs from the time, a node ID and a sequence, like Twitter's
+ * Snowflake, enabled with {@code tasks.ids.generator=snowflake}.
+ *
+ * <p>From the high bits down, an ID holds the milliseconds since {@link #EPOCH} (41 bits, enough
+ * until 2094), {@code tasks.ids.node-id} ({@value #NODE_BITS} bits) and a sequence within the
+ * millisecond ({@value #SEQUENCE_BITS} bits). Instances with different node IDs never hand out
+ * the same ID, and IDs from one instance increase.
+ *
+ * <p>The time and sequence are kept together in one atomic value that only moves forward. When
+ * more than 4096 IDs are needed in one millisecond, or the clock goes back, IDs carry on from the
+ * last one instead of waiting for the clock, and the clock catches up later. IDs are unique
+ * across restarts as long as the clock at startup is past the last ID handed out; with the
+ * journal enabled, recovered IDs are passed to {@link #observe} so this holds even if it is not.
+ *
+ * <p>IDs are larger than 2<sup>53</sup>, so JavaScript clients must not parse them as numbers.
+ */
+@Component
+@ConditionalOnProperty(prefix = "tasks.ids", name = "generator", havingValue = "snowflake")
+public class SnowflakeIdGenerator implements TaskIdGenerator {
+
+    static final Instant EPOCH = Instant.parse("2025-01-01T00:00:00Z");
+
+    static final int NODE_BITS = 10;
+
+    static final int SEQUENCE_BITS = 12;
+
+    static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private static final int TIMESTAMP_SHIFT = NODE_BITS + SEQUENCE_BITS;
+
+    private final long nodeId;
+    private final Clock clock;
+    private final long epochMillis = EPOCH.toEpochMilli();
+    private final AtomicLong state = new AtomicLong();
+
+    /**
+     * Constructor with this instance's node ID.
+     *
+     * @param nodeId Number from 0 to 1023 that no other instance uses
+     */
+    @Autowired
+    public SnowflakeIdGenerator(@Value("${tasks.ids.node-id:0}") int nodeId) {
+        this(nodeId, Clock.systemUTC());
+    }
+
+    SnowflakeIdGenerator(int nodeId, Clock clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("tasks.ids.node-id must be from 0 to " + MAX_NODE_ID);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    @Override
+    public long nextId() {
+        long now = (clock.millis() - epochMillis) << SEQUENCE_BITS;
+        return id(state.accumulateAndGet(now, (last, time) -> Math.max(time, last + 1)));
+    }
+
+    @Override
+    public void observe(long id) {
+        state.accumulateAndGet(id >>> TIMESTAMP_SHIFT << SEQUENCE_BITS | id & SEQUENCE_MASK, Math::max);
+    }
+
+    @Override
+    public long lastId() {
+        long last = state.get();
+        return last == 0 ? 0 : id(last);
+    }
+
+    private long id(long timeAndSequence) {
+        return timeAndSequence >>> SEQUENCE_BITS << TIMESTAMP_SHIFT | nodeId << SEQUENCE_BITS
+            | timeAndSequence & SEQUENCE_MASK;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,45 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import uk.gov.hmcts.reform.dev.models.Task;
+
+/**
+ * Published by the task stores after a task has been saved or deleted and the change is
+ * visible to readers (and, with a journal, durable).
+ *
+ * <p>Events are published synchronously on the writing thread, so listeners should be quick.
+ * The task is the store's own copy and must not be modified.
+ *
+ * @param id ID of the changed task
+ * @param task Task as saved, or null if it was deleted
+ */
+public record TaskChangedEvent(Long id, Task task) {
+
+    /**
+     * Create an event for a saved task.
+     *
+     * @param task Task as saved
+     * @return Event
+     */
+    public static TaskChangedEvent saved(Task task) {
+        return new TaskChangedEvent(task.getId(), task);
+    }
+
+    /**
+     * Create an event for a deleted task.
+     *
+     * @param id ID of the deleted task
+     * @return Event
+     */
+    public static TaskChangedEvent deleted(Long id) {
+        return new TaskChangedEvent(id, null);
+    }
+
+    /**
+     * Check whether the task was deleted.
+     *
+     * @return true if the task was deleted
+     */
+    public boolean isDeleted() {
+        return task == null;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,57 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.dev.models.Task;
+
+import java.util.List;
+
+/**
+ * Spring Data repository for {@link Task} entities, used by {@link JpaTaskRepository}.
+ */
+public interface TaskEntityRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
+    
+    /**
+     * Find tasks with an ID greater than the cursor, in ascending ID order.
+     *
+     * @param after Exclusive ID cursor
+     * @param limit Maximum number of rows to fetch
+     * @return Tasks after the cursor
+     */
+    List<Task> findByIdGreaterThanOrderByIdAsc(long after, Limit limit);
+    
+    /**
+     * Delete a task with a single {@code delete} statement, so that only one of two racing
+     * deletes sees the row go.
+     *
+     * @param id Task ID
+     * @return Number of rows deleted, 0 or 1
+     */
+    @Modifying
+    @Transactional
+    @Query("delete from Task t where t.id = :id")
+    int deleteByIdReturningCount(@Param("id") long id);
+    
+    /**
+     * Count tasks grouped by status.
+     *
+     * @return One row per status
+     */
+    @Query("select t.status as status, count(t) as total from Task t group by t.status")
+    List<StatusCount> countGroupedByStatus();
+    
+    /**
+     * Projection of a {@link #countGroupedByStatus()} row.
+     */
+    interface StatusCount {
+        
+        String getStatus();
+        
+        long getTotal();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,37 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+/**
+ * Source of IDs for new tasks, chosen with {@code tasks.ids.generator}: {@code sequential}
+ * ({@link SequentialIdGenerator}, the default), {@code snowflake} ({@link SnowflakeIdGenerator})
+ * or {@code block} ({@link BlockLeasedIdGenerator}).
+ *
+ * <p>Implementations are thread-safe and hand out IDs from local state, so assigning an ID never
+ * waits on another instance. The JPA store does not use a generator: its IDs come from a database
+ * sequence.
+ */
+public interface TaskIdGenerator {
+
+    /**
+     * Get an ID that has not been handed out before.
+     *
+     * @return New positive task ID
+     */
+    long nextId();
+
+    /**
+     * Note an ID that is already in use, such as one recovered from the journal, so that an ID
+     * generator whose state does not survive a restart does not hand it out again.
+     *
+     * @param id ID in use
+     */
+    default void observe(long id) {
+    }
+
+    /**
+     * Get the highest ID handed out or observed so far, recorded in journal snapshots so that
+     * {@link #observe} can be given it after a restart.
+     *
+     * @return Highest ID, or 0 if there is none
+     */
+    long lastId();
+}
\ No newline at end of file
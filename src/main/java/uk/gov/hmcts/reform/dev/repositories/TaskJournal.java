@@ -0,0 +1,644 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.dev.models.Task;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Write-ahead journal and snapshot store for the {@link InMemoryTaskRepository}.
+ *
+ * <p>Every save and delete is appended as a length-prefixed, CRC-checked record. A single
+ * flusher thread writes whatever has accumulated since its last pass and issues one
+ * {@code fsync} for the lot, so concurrent writers share the cost of each sync (group commit).
+ *
+ * <p>After a configurable number of records the flusher rotates to a new journal segment and a
+ * background thread writes a compact snapshot of the repository. Because records carry the full
+ * task state and deletes are idempotent, a snapshot taken while writes continue is still correct
+ * once the newer segments are replayed over it. Older segments and snapshots are then removed.
+ *
+ * <p>On startup the latest snapshot is memory-mapped and loaded, and the journal segments
+ * written after it are replayed. A torn record at the end of a segment ends replay of that
+ * segment. Files in format 1, written before tasks had versions, are read with version 0.
+ */
+@Component
+@Profile("!jpa & !columnar")
+@ConditionalOnProperty(prefix = "tasks.journal", name = "enabled", havingValue = "true")
+public class TaskJournal implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TaskJournal.class);
+
+    static final int JOURNAL_MAGIC = 0x544a524e;
+    static final int SNAPSHOT_MAGIC = 0x54534e50;
+    static final int FORMAT_VERSION = 2;
+    private static final int UNVERSIONED_FORMAT = 1;
+
+    private static final byte PUT = 1;
+    private static final byte DELETE = 2;
+    private static final int FRAME_HEADER = 8;
+    private static final int MAX_RECORD = 16 << 20;
+    private static final Pattern SEGMENT = Pattern.compile("journal-(\\d+)\\.log");
+    private static final Pattern SNAPSHOT = Pattern.compile("snapshot-(\\d+)\\.snap");
+
+    private final Path directory;
+    private final long snapshotEvery;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition workAvailable = lock.newCondition();
+    private final Condition flushed = lock.newCondition();
+    private ByteArrayOutputStream pending = new ByteArrayOutputStream(64 * 1024);
+    private int pendingRecords;
+    private long appendedSequence;
+    private long durableSequence;
+    private IOException failure;
+    private boolean closed;
+
+    private final AtomicLong[] writersInFlight = {new AtomicLong(), new AtomicLong()};
+    private volatile int epoch;
+    private final AtomicBoolean snapshotRunning = new AtomicBoolean();
+
+    private FileChannel segment;
+    private long generation;
+    private Thread flusher;
+    private ExecutorService snapshotter;
+    private Supplier<Stream<Task>> snapshotSource;
+    private LongSupplier nextIdSource;
+
+    /**
+     * Constructor with journal settings.
+     *
+     * @param directory Directory holding journal segments and snapshots
+     * @param snapshotEvery Number of journal records between snapshots
+     */
+    @Autowired
+    public TaskJournal(@Value("${tasks.journal.directory}") String directory,
+                       @Value("${tasks.journal.snapshot-every:100000}") long snapshotEvery) {
+        this.directory = Paths.get(directory);
+        this.snapshotEvery = snapshotEvery;
+    }
+
+    /**
+     * Load the latest snapshot and replay the journal written after it.
+     *
+     * @param onPut Receives every task restored from the snapshot or a journal save record
+     * @param onDelete Receives the ID of every journal delete record
+     * @return Next unused task ID recorded in the snapshot, or 1 if there is no snapshot
+     */
+    public long recover(Consumer<Task> onPut, LongConsumer onDelete) {
+        try {
+            Files.createDirectories(directory);
+            long started = System.nanoTime();
+            long snapshotGeneration = 0;
+            long nextId = 1;
+            Path snapshot = latest(SNAPSHOT);
+            if (snapshot != null) {
+                snapshotGeneration = generationOf(snapshot, SNAPSHOT);
+                nextId = loadSnapshot(snapshot, onPut);
+            }
+            long records = 0;
+            generation = snapshotGeneration;
+            for (Path journal : list(SEGMENT)) {
+                long segmentGeneration = generationOf(journal, SEGMENT);
+                generation = Math.max(generation, segmentGeneration);
+                if (segmentGeneration >= snapshotGeneration) {
+                    records += replaySegment(journal, onPut, onDelete);
+                }
+            }
+            LOG.info("Recovered tasks from {} (snapshot generation {}, {} journal records) in {} ms",
+                     directory, snapshotGeneration, records,
+                     TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+            return nextId;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to recover task journal from " + directory, e);
+        }
+    }
+
+    /**
+     * Open a fresh journal segment and start the flusher and snapshot threads.
+     *
+     * @param source Supplies the repository contents when a snapshot is taken
+     * @param nextId Supplies the repository's next unused task ID
+     */
+    public void start(Supplier<Stream<Task>> source, LongSupplier nextId) {
+        this.snapshotSource = source;
+        this.nextIdSource = nextId;
+        try {
+            segment = openSegment(++generation);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to open task journal in " + directory, e);
+        }
+        snapshotter = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "task-journal-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher = new Thread(this::flushLoop, "task-journal-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    /**
+     * Mark the start of a repository write. Must be paired with {@link #endWrite(int)}.
+     *
+     * @return Token to pass to {@link #endWrite(int)}
+     */
+    public int beginWrite() {
+        int current = epoch;
+        writersInFlight[current & 1].incrementAndGet();
+        return current;
+    }
+
+    /**
+     * Mark the end of a repository write, once its change is visible in the repository.
+     *
+     * @param token Value returned by {@link #beginWrite()}
+     */
+    public void endWrite(int token) {
+        writersInFlight[token & 1].decrementAndGet();
+    }
+
+    /**
+     * Append a save record. Called while the repository holds the task's entry.
+     *
+     * @param task Saved task
+     */
+    public void appendSave(Task task) {
+        append(encode(PUT, task.getId(), task));
+    }
+
+    /**
+     * Append a delete record. Called while the repository holds the task's entry.
+     *
+     * @param id Deleted task ID
+     */
+    public void appendDelete(long id) {
+        append(encode(DELETE, id, null));
+    }
+
+    /**
+     * Block until every record appended so far has been written and synced to disk.
+     *
+     * @throws UncheckedIOException if the journal can no longer be written
+     */
+    public void awaitDurable() {
+        lock.lock();
+        try {
+            long target = appendedSequence;
+            while (durableSequence < target && failure == null) {
+                flushed.awaitUninterruptibly();
+            }
+            if (failure != null) {
+                throw new UncheckedIOException("Task journal write failed", failure);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Flush outstanding records and stop the journal threads.
+     */
+    @PreDestroy
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            workAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            if (flusher != null) {
+                flusher.join();
+            }
+            if (snapshotter != null) {
+                snapshotter.shutdown();
+                snapshotter.awaitTermination(1, TimeUnit.MINUTES);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            if (segment != null) {
+                segment.close();
+            }
+        } catch (IOException e) {
+            LOG.warn("Unable to close task journal segment", e);
+        }
+    }
+
+    private void append(byte[] record) {
+        lock.lock();
+        try {
+            if (failure != null) {
+                throw new UncheckedIOException("Task journal write failed", failure);
+            }
+            if (closed) {
+                throw new IllegalStateException("Task journal is closed");
+            }
+            pending.write(record, 0, record.length);
+            pendingRecords++;
+            appendedSequence++;
+            workAvailable.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void flushLoop() {
+        ByteArrayOutputStream writing = new ByteArrayOutputStream(64 * 1024);
+        long recordsSinceSnapshot = 0;
+        while (true) {
+            long batchEnd;
+            int batchRecords;
+            lock.lock();
+            try {
+                while (pending.size() == 0 && !closed) {
+                    workAvailable.awaitUninterruptibly();
+                }
+                if (pending.size() == 0) {
+                    return;
+                }
+                ByteArrayOutputStream full = pending;
+                pending = writing;
+                writing = full;
+                batchEnd = appendedSequence;
+                batchRecords = pendingRecords;
+                pendingRecords = 0;
+            } finally {
+                lock.unlock();
+            }
+
+            try {
+                writing.writeTo(Channels.newOutputStream(segment));
+                segment.force(false);
+                writing.reset();
+            } catch (IOException e) {
+                LOG.error("Task journal write failed; further writes will be rejected", e);
+                lock.lock();
+                try {
+                    failure = e;
+                    flushed.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+                return;
+            }
+
+            lock.lock();
+            try {
+                durableSequence = batchEnd;
+                flushed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+
+            recordsSinceSnapshot += batchRecords;
+            if (recordsSinceSnapshot >= snapshotEvery && snapshotRunning.compareAndSet(false, true)) {
+                recordsSinceSnapshot = 0;
+                rotateAndSnapshot();
+            }
+        }
+    }
+
+    /**
+     * Switches to a new segment and snapshots the repository in the background. Runs on the
+     * flusher thread between batches, so every record in the old segment is already synced.
+     */
+    private void rotateAndSnapshot() {
+        int previousEpoch = epoch;
+        long snapshotGeneration;
+        try {
+            FileChannel next = openSegment(generation + 1);
+            segment.close();
+            segment = next;
+            snapshotGeneration = ++generation;
+            epoch = previousEpoch + 1;
+        } catch (IOException e) {
+            LOG.warn("Unable to rotate task journal; snapshot skipped", e);
+            snapshotRunning.set(false);
+            return;
+        }
+        snapshotter.execute(() -> {
+            try {
+                // Writers that appended to the old segment must have published their change
+                // before the snapshot reads the repository
+                while (writersInFlight[previousEpoch & 1].get() != 0) {
+                    LockSupport.parkNanos(100_000);
+                }
+                writeSnapshot(snapshotGeneration);
+            } catch (IOException e) {
+                LOG.warn("Unable to write task snapshot {}", snapshotGeneration, e);
+            } finally {
+                snapshotRunning.set(false);
+            }
+        });
+    }
+
+    private void writeSnapshot(long snapshotGeneration) throws IOException {
+        long started = System.nanoTime();
+        Path target = directory.resolve(String.format("snapshot-%020d.snap", snapshotGeneration));
+        Path temporary = directory.resolve(target.getFileName() + ".tmp");
+        long count = 0;
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+             OutputStream output = new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16);
+             Stream<Task> tasks = snapshotSource.get()) {
+            DataOutputStream header = new DataOutputStream(output);
+            header.writeInt(SNAPSHOT_MAGIC);
+            header.writeInt(FORMAT_VERSION);
+            header.writeLong(snapshotGeneration);
+            header.writeLong(nextIdSource.getAsLong());
+            Iterator<Task> iterator = tasks.iterator();
+            while (iterator.hasNext()) {
+                Task task = iterator.next();
+                output.write(encode(PUT, task.getId(), task));
+                count++;
+            }
+            output.flush();
+            channel.force(true);
+        }
+        Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+        for (Path old : list(SNAPSHOT)) {
+            if (generationOf(old, SNAPSHOT) < snapshotGeneration) {
+                Files.deleteIfExists(old);
+            }
+        }
+        for (Path old : list(SEGMENT)) {
+            if (generationOf(old, SEGMENT) < snapshotGeneration) {
+                Files.deleteIfExists(old);
+            }
+        }
+        LOG.info("Wrote task snapshot {} with {} tasks in {} ms", snapshotGeneration, count,
+                 TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    private long loadSnapshot(Path snapshot, Consumer<Task> onPut) throws IOException {
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+            MappedRecordReader reader = new MappedRecordReader(channel);
+            ByteBuffer header = reader.header(24);
+            if (header == null || header.getInt() != SNAPSHOT_MAGIC) {
+                throw new IOException("Unrecognised task snapshot " + snapshot);
+            }
+            int format = readFormat(header, snapshot);
+            header.getLong();
+            long nextId = header.getLong();
+            ByteBuffer payload;
+            while ((payload = reader.next()) != null) {
+                payload.get();
+                onPut.accept(decodeTask(payload.getLong(), payload, format));
+            }
+            if (reader.position != channel.size()) {
+                throw new IOException("Corrupt task snapshot " + snapshot + " at offset " + reader.position);
+            }
+            return nextId;
+        }
+    }
+
+    private long replaySegment(Path journal, Consumer<Task> onPut, LongConsumer onDelete) throws IOException {
+        long records = 0;
+        try (FileChannel channel = FileChannel.open(journal, StandardOpenOption.READ)) {
+            MappedRecordReader reader = new MappedRecordReader(channel);
+            ByteBuffer header = reader.header(8);
+            if (header == null) {
+                return 0;
+            }
+            if (header.getInt() != JOURNAL_MAGIC) {
+                throw new IOException("Unrecognised task journal segment " + journal);
+            }
+            int format = readFormat(header, journal);
+            ByteBuffer payload;
+            while ((payload = reader.next()) != null) {
+                byte type = payload.get();
+                long id = payload.getLong();
+                if (type == PUT) {
+                    onPut.accept(decodeTask(id, payload, format));
+                } else {
+                    onDelete.accept(id);
+                }
+                records++;
+            }
+            if (reader.position != channel.size()) {
+                LOG.warn("Ignoring torn tail of {} after offset {}", journal, reader.position);
+            }
+        }
+        return records;
+    }
+
+    private static int readFormat(ByteBuffer header, Path path) throws IOException {
+        int format = header.getInt();
+        if (format < UNVERSIONED_FORMAT || format > FORMAT_VERSION) {
+            throw new IOException("Unsupported format " + format + " in " + path);
+        }
+        return format;
+    }
+
+    private FileChannel openSegment(long segmentGeneration) throws IOException {
+        Path path = directory.resolve(String.format("journal-%020d.log", segmentGeneration));
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        ByteBuffer header = ByteBuffer.allocate(8).putInt(JOURNAL_MAGIC).putInt(FORMAT_VERSION).flip();
+        while (header.hasRemaining()) {
+            channel.write(header);
+        }
+        channel.force(true);
+        return channel;
+    }
+
+    private Path latest(Pattern pattern) throws IOException {
+        List<Path> paths = list(pattern);
+        return paths.isEmpty() ? null : paths.get(paths.size() - 1);
+    }
+
+    private List<Path> list(Pattern pattern) throws IOException {
+        List<Path> paths = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(path -> pattern.matcher(path.getFileName().toString()).matches()).forEach(paths::add);
+        }
+        paths.sort(null);
+        return paths;
+    }
+
+    private static long generationOf(Path path, Pattern pattern) {
+        Matcher matcher = pattern.matcher(path.getFileName().toString());
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Not a journal file: " + path);
+        }
+        return Long.parseLong(matcher.group(1));
+    }
+
+    static byte[] encode(byte type, long id, Task task) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+            DataOutputStream payload = new DataOutputStream(bytes);
+            payload.writeInt(0);
+            payload.writeInt(0);
+            payload.writeByte(type);
+            payload.writeLong(id);
+            if (task != null) {
+                payload.writeLong(task.getVersion());
+                writeString(payload, task.getTitle());
+                writeString(payload, task.getDescription());
+                writeString(payload, task.getStatus());
+                OffsetDateTime dueDate = task.getDueDate();
+                payload.writeBoolean(dueDate != null);
+                if (dueDate != null) {
+                    payload.writeLong(dueDate.toEpochSecond());
+                    payload.writeInt(dueDate.getNano());
+                    payload.writeInt(dueDate.getOffset().getTotalSeconds());
+                }
+            }
+            byte[] record = bytes.toByteArray();
+            int length = record.length - FRAME_HEADER;
+            CRC32 crc = new CRC32();
+            crc.update(record, FRAME_HEADER, length);
+            ByteBuffer.wrap(record).putInt(length).putInt((int) crc.getValue());
+            return record;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Task decodeTask(long id, ByteBuffer payload, int format) {
+        long version = format == UNVERSIONED_FORMAT ? 0 : payload.getLong();
+        Task task = new Task(readString(payload), readString(payload), readString(payload), null);
+        task.setId(id);
+        task.setVersion(version);
+        if (payload.get() != 0) {
+            long epochSecond = payload.getLong();
+            int nano = payload.getInt();
+            ZoneOffset offset = ZoneOffset.ofTotalSeconds(payload.getInt());
+            task.setDueDate(OffsetDateTime.ofInstant(Instant.ofEpochSecond(epochSecond, nano), offset));
+        }
+        return task;
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        if (value == null) {
+            output.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(ByteBuffer input) {
+        int length = input.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        input.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads framed records from a file through read-only memory-mapped windows, remapping when a
+     * record crosses the end of the current window.
+     */
+    private static final class MappedRecordReader {
+
+        private static final long WINDOW = 256L << 20;
+
+        private final FileChannel channel;
+        private final long size;
+        private MappedByteBuffer window;
+        private long windowStart;
+        private long position;
+
+        MappedRecordReader(FileChannel channel) throws IOException {
+            this.channel = channel;
+            this.size = channel.size();
+        }
+
+        ByteBuffer header(int length) throws IOException {
+            if (size < length) {
+                return null;
+            }
+            ensure(0, length);
+            position = length;
+            return window.slice(0, length);
+        }
+
+        ByteBuffer next() throws IOException {
+            if (size - position < FRAME_HEADER) {
+                return null;
+            }
+            ensure(position, FRAME_HEADER);
+            int offset = (int) (position - windowStart);
+            int length = window.getInt(offset);
+            int checksum = window.getInt(offset + 4);
+            if (length < 0 || length > MAX_RECORD || size - position - FRAME_HEADER < length) {
+                return null;
+            }
+            ensure(position, FRAME_HEADER + length);
+            offset = (int) (position - windowStart);
+            ByteBuffer payload = window.slice(offset + FRAME_HEADER, length);
+            CRC32 crc = new CRC32();
+            crc.update(payload.duplicate());
+            if ((int) crc.getValue() != checksum) {
+                return null;
+            }
+            position += FRAME_HEADER + length;
+            return payload;
+        }
+
+        private void ensure(long from, int length) throws IOException {
+            if (window != null && from >= windowStart && from + length <= windowStart + window.capacity()) {
+                return;
+            }
+            windowStart = from;
+            window = channel.map(FileChannel.MapMode.READ_ONLY, from, Math.min(WINDOW, size - from));
+        }
+    }
+}
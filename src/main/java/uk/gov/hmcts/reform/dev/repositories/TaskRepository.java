@@ -1,32 +1,45 @@
 package uk.gov.hmcts.reform.dev.repositories;
 
-import org.springframework.stereotype.Repository;
 import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskPage;
+import uk.gov.hmcts.reform.dev.models.TaskStats;
 
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Repository for Task entity operations.
+ *
+ * <p>Implemented by {@link InMemoryTaskRepository} (the default), by {@link JpaTaskRepository}
+ * when the {@code jpa} profile is active and by {@link ColumnarTaskRepository} when the
+ * {@code columnar} profile is active. All are qualified as {@code taskStore}; when
+ * {@code tasks.cache.enabled} is set, the primary {@code TaskRepository} is a
+ * {@link CachingTaskRepository} in front of that store, and when {@code tasks.cluster.enabled} is
+ * set it is a {@link PartitionedTaskRepository} routing each task to the cluster member that
+ * owns it.
  */
-@Repository
-public class TaskRepository {
-    
-    private final Map<Long, Task> tasks = new HashMap<>();
-    private final AtomicLong idCounter = new AtomicLong(1);
+public interface TaskRepository {
     
     /**
      * Find all tasks.
      *
      * @return List of all tasks
      */
-    public List<Task> findAll() {
-        return new ArrayList<>(tasks.values());
-    }
+    List<Task> findAll();
+    
+    /**
+     * Stream all tasks in ascending ID order without loading them all into memory at once.
+     *
+     * @return Lazy stream of all tasks
+     */
+    Stream<Task> stream();
     
     /**
      * Find task by ID.
@@ -34,9 +47,27 @@ public class TaskRepository {
      * @param id Task ID
      * @return Optional containing task if found
      */
-    public Optional<Task> findById(Long id) {
-        return Optional.ofNullable(tasks.get(id));
-    }
+    Optional<Task> findById(Long id);
+    
+    /**
+     * Find a page of tasks in ascending ID order.
+     *
+     * @param after Exclusive ID cursor, or null to start from the first task
+     * @param limit Maximum number of tasks to return
+     * @return Page of tasks with the cursor for the next page
+     */
+    TaskPage findPage(Long after, int limit);
+    
+    /**
+     * Find tasks matching a status and/or due date range.
+     *
+     * @param status Status to match, or null for any status
+     * @param dueFrom Inclusive lower bound on due date, or null for no lower bound
+     * @param dueTo Exclusive upper bound on due date, or null for no upper bound
+     * @param limit Maximum number of tasks to return
+     * @return Matching tasks
+     */
+    List<Task> findByQuery(String status, OffsetDateTime dueFrom, OffsetDateTime dueTo, int limit);
     
     /**
      * Save a task.
@@ -44,20 +75,74 @@ public class TaskRepository {
      * @param task Task to save
      * @return Saved task
      */
-    public Task save(Task task) {
-        if (task.getId() == null) {
-            task.setId(idCounter.getAndIncrement());
-        }
-        tasks.put(task.getId(), task);
-        return task;
-    }
+    Task save(Task task);
+    
+    /**
+     * Save changes to an existing task only if it has not been changed since it was read, that
+     * is if the stored version still equals the given task's version.
+     *
+     * @param task Task to save, carrying the version it was read at
+     * @return Saved task with its new version, or empty if the task was changed or deleted
+     */
+    Optional<Task> compareAndSet(Task task);
+    
+    /**
+     * Save a batch of tasks.
+     *
+     * @param batch Tasks to save
+     * @return Saved tasks, in the same order as the batch
+     */
+    List<Task> saveAll(List<Task> batch);
     
     /**
      * Delete a task.
      *
      * @param task Task to delete
+     * @return true if the task was deleted, false if it did not exist
+     */
+    boolean delete(Task task);
+    
+    /**
+     * Count stored tasks.
+     *
+     * @return Number of tasks
+     */
+    long count();
+    
+    /**
+     * Count stored tasks grouped by status.
+     *
+     * @return Number of tasks for each status
+     */
+    Map<String, Long> countByStatus();
+    
+    /**
+     * Count tasks by status and, leaving out finished tasks, by due date relative to a day:
+     * due before it, due on it, and due from it to the end of its Monday-to-Sunday week.
+     *
+     * @param today Day to count due dates against
+     * @param zone Zone the day is in
+     * @param closedStatuses Statuses of finished tasks, left out of the due date counts
+     * @return Task statistics
+     */
+    TaskStats stats(LocalDate today, ZoneId zone, Set<String> closedStatuses);
+    
+    /**
+     * Get a counter that changes whenever a task is saved or deleted. It is only advanced once
+     * the change is visible to readers, so a value read before a query is never newer than the
+     * query's results.
+     *
+     * @return Modification count, or empty if the store cannot see every write, as when other
+     *     instances share its database
+     */
+    OptionalLong modificationCount();
+    
+    /**
+     * Get a value that changes whenever task IDs may start being handed out again, such as when
+     * an in-memory store restarts its IDs from 1. Together with a task's ID and version it tells
+     * apart two tasks given the same ID, so their ETags never match.
+     *
+     * @return Incarnation of the store's IDs
      */
-    public void delete(Task task) {
-        tasks.remove(task.getId());
-    }
+    long incarnation();
 }
\ No newline at end of file
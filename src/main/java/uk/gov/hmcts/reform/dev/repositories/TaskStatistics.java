@@ -0,0 +1,203 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskStats;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.TemporalAdjusters;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Task counts kept up to date by the in-memory stores as tasks are saved and deleted, so that
+ * {@link TaskRepository#stats} never has to look at the tasks themselves.
+ *
+ * <p>For each status there is a count of tasks, a count per hour of due date, and a count of
+ * the tasks due before the hours still kept. The task counts are {@link LongAdder}s, so
+ * concurrent writers to different tasks update them without contending on a shared cache line.
+ * An hour's count is merged into its map entry and the entry is removed when it reaches zero. A
+ * store must apply a task's {@link #remove} and {@link #add} in the same critical section as the
+ * write itself, so the counts always describe the stored tasks once writes have finished.
+ *
+ * <p>Due date counts relative to a day are sums over the hourly counters between the day's
+ * boundaries, so their cost depends on the number of distinct due hours in use, not on the
+ * number of tasks. Day boundaries are rounded down to the hour, which is exact for zones whose
+ * offset is a whole number of hours, such as the UK's.
+ *
+ * <p>Each snapshot folds the hours more than {@value #KEPT_DAYS} days before its day into the
+ * count of earlier due dates, which only ever counts as overdue, so the hours kept are bounded
+ * by the days ahead that have tasks due plus that week. A snapshot of a day earlier than that
+ * still counts the folded tasks as overdue.
+ *
+ * <p>Tasks without a status are only counted in the total. Counters for a status are kept once
+ * created, at zero if their tasks are gone.
+ */
+public class TaskStatistics {
+    
+    private static final long SECONDS_PER_HOUR = 3600;
+    
+    /**
+     * Days before a snapshot's day whose due hours are kept apart.
+     */
+    static final int KEPT_DAYS = 7;
+    
+    private final LongAdder total = new LongAdder();
+    private final ConcurrentMap<String, StatusCounts> byStatus = new ConcurrentHashMap<>();
+    
+    /**
+     * First due hour kept apart. Earlier hours are counted in {@link StatusCounts#before}.
+     */
+    private volatile long horizon = Long.MIN_VALUE;
+    
+    /**
+     * Count a stored task.
+     *
+     * @param task Task as stored
+     */
+    public void add(Task task) {
+        update(task.getStatus(), task.getDueDate() == null ? null : task.getDueDate().toInstant(), 1);
+    }
+    
+    /**
+     * Stop counting a task that is being replaced or deleted.
+     *
+     * @param task Task as it was stored
+     */
+    public void remove(Task task) {
+        update(task.getStatus(), task.getDueDate() == null ? null : task.getDueDate().toInstant(), -1);
+    }
+    
+    /**
+     * Add a task's fields to the counts, or take them away.
+     *
+     * @param status Task status, or null
+     * @param dueDate Task due date, or null
+     * @param delta 1 to count the task, -1 to stop counting it
+     */
+    void update(String status, Instant dueDate, int delta) {
+        total.add(delta);
+        if (status == null) {
+            return;
+        }
+        StatusCounts counts = byStatus.computeIfAbsent(status, key -> new StatusCounts());
+        counts.total.add(delta);
+        if (dueDate == null) {
+            return;
+        }
+        long hour = hour(dueDate);
+        if (hour < horizon) {
+            counts.before.add(delta);
+        } else {
+            // If the hour is folded after the check above, this lands in a new entry that the next snapshot folds
+            counts.byDueHour.merge(hour, (long) delta, (count, change) -> count + change == 0 ? null : count + change);
+        }
+    }
+    
+    /**
+     * Count tasks by status.
+     *
+     * @return Number of tasks for each status that has been used
+     */
+    public Map<String, Long> countByStatus() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        byStatus.forEach((status, statusCounts) -> counts.put(status, statusCounts.total.sum()));
+        return counts;
+    }
+    
+    /**
+     * Read the counts relative to a day.
+     *
+     * @param today Day to count due dates against
+     * @param zone Zone the day is in
+     * @param closedStatuses Statuses of finished tasks, left out of the due date counts
+     * @return Task statistics
+     */
+    public synchronized TaskStats snapshot(LocalDate today, ZoneId zone, Set<String> closedStatuses) {
+        long todayStart = hour(startOfDay(today, zone));
+        long tomorrowStart = hour(startOfDay(today.plusDays(1), zone));
+        long weekEnd = hour(startOfWeekAfter(today, zone));
+        horizon = Math.max(horizon, hour(startOfDay(today.minusDays(KEPT_DAYS), zone)));
+        long overdue = 0;
+        long dueToday = 0;
+        long dueThisWeek = 0;
+        for (Map.Entry<String, StatusCounts> entry : byStatus.entrySet()) {
+            fold(entry.getValue());
+            if (closedStatuses.contains(entry.getKey())) {
+                continue;
+            }
+            NavigableMap<Long, Long> byDueHour = entry.getValue().byDueHour;
+            overdue += entry.getValue().before.sum() + sum(byDueHour.headMap(todayStart, false));
+            dueToday += sum(byDueHour.subMap(todayStart, true, tomorrowStart, false));
+            dueThisWeek += sum(byDueHour.subMap(todayStart, true, weekEnd, false));
+        }
+        return new TaskStats(today, total.sum(), countByStatus(), overdue, dueToday, dueThisWeek);
+    }
+    
+    /**
+     * Get the instant a day starts in a zone.
+     *
+     * @param day Day
+     * @param zone Zone
+     * @return Start of the day
+     */
+    static Instant startOfDay(LocalDate day, ZoneId zone) {
+        return day.atStartOfDay(zone).toInstant();
+    }
+    
+    /**
+     * Get the instant the week after a day's week starts, that is the start of the following
+     * Monday.
+     *
+     * @param day Day
+     * @param zone Zone
+     * @return End of the day's week
+     */
+    static Instant startOfWeekAfter(LocalDate day, ZoneId zone) {
+        return startOfDay(day.with(TemporalAdjusters.next(DayOfWeek.MONDAY)), zone);
+    }
+    
+    /**
+     * Move the counts for hours before the horizon into the count of earlier due dates. Each
+     * entry is taken out with an atomic remove, so a change merged into it concurrently is either
+     * moved with it or left in a new entry for the next fold.
+     *
+     * @param counts Counts for one status
+     */
+    private void fold(StatusCounts counts) {
+        NavigableMap<Long, Long> folded = counts.byDueHour.headMap(horizon, false);
+        for (Long hour : folded.keySet()) {
+            Long count = folded.remove(hour);
+            if (count != null) {
+                counts.before.add(count);
+            }
+        }
+    }
+    
+    private static long hour(Instant instant) {
+        return Math.floorDiv(instant.getEpochSecond(), SECONDS_PER_HOUR);
+    }
+    
+    private static long sum(Map<Long, Long> counters) {
+        long sum = 0;
+        for (long counter : counters.values()) {
+            sum += counter;
+        }
+        return sum;
+    }
+    
+    private static final class StatusCounts {
+        
+        private final LongAdder total = new LongAdder();
+        private final LongAdder before = new LongAdder();
+        private final NavigableMap<Long, Long> byDueHour = new ConcurrentSkipListMap<>();
+    }
+}
\ No newline at end of file
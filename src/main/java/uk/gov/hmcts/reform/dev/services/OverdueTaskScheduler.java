@@ -0,0 +1,232 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.dev.exceptions.TaskVersionConflictException;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.repositories.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.repositories.TaskRepository;
+
+import java.io.Closeable;
+import java.time.Clock;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Moves tasks to the {@value #OVERDUE} status when their due date passes, enabled with
+ * {@code tasks.overdue.enabled}.
+ *
+ * <p>Pending deadlines are kept in a skip list ordered by due date, with a map from task ID to
+ * its entry so that a create, update or delete replaces or removes the entry in O(log n). The
+ * entries are loaded from the task store on startup and then maintained from
+ * {@link TaskChangedEvent}s, so in cluster mode each member schedules the tasks it owns. Tasks
+ * already overdue, without a due date, or in one of the {@code tasks.overdue.final-statuses}
+ * have no entry.
+ *
+ * <p>A single timer thread sleeps until the earliest deadline, takes every entry that has come
+ * due, and moves each task with a compare-and-set against the version the entry was made from,
+ * so a task changed in the meantime is left alone and rescheduled by its own change event. A new
+ * deadline earlier than the one the timer is waiting for brings the wake-up forward. The work
+ * per transition is independent of the number of tasks, and nothing is scanned while no
+ * deadline is due.
+ */
+@Component
+@ConditionalOnProperty(prefix = "tasks.overdue", name = "enabled", havingValue = "true")
+public class OverdueTaskScheduler implements Closeable {
+    
+    public static final String OVERDUE = "OVERDUE";
+    
+    private static final Logger LOG = LoggerFactory.getLogger(OverdueTaskScheduler.class);
+    
+    private final TaskService taskService;
+    private final Set<String> finalStatuses;
+    private final Clock clock;
+    private final NavigableSet<Deadline> deadlines = new ConcurrentSkipListSet<>();
+    private final ConcurrentMap<Long, Deadline> deadlinesById = new ConcurrentHashMap<>();
+    private final ScheduledThreadPoolExecutor timer;
+    private final ReentrantLock wakeUpLock = new ReentrantLock();
+    private ScheduledFuture<?> wakeUp;
+    private long wakeUpAt = Long.MAX_VALUE;
+    
+    /**
+     * Constructor with the service used to move tasks, the repository to load deadlines from and
+     * the statuses that are never made overdue.
+     *
+     * @param taskService Task service
+     * @param taskRepository Local task store
+     * @param finalStatuses Statuses of finished tasks, which are never made overdue
+     */
+    @Autowired
+    public OverdueTaskScheduler(TaskService taskService, @Qualifier("taskStore") TaskRepository taskRepository,
+                                @Value("${tasks.overdue.final-statuses:COMPLETED}") List<String> finalStatuses) {
+        this(taskService, taskRepository, finalStatuses, Clock.systemUTC());
+    }
+    
+    OverdueTaskScheduler(TaskService taskService, TaskRepository taskRepository, List<String> finalStatuses,
+                         Clock clock) {
+        this.taskService = taskService;
+        this.finalStatuses = Set.copyOf(finalStatuses);
+        this.clock = clock;
+        this.timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "overdue-tasks");
+            thread.setDaemon(true);
+            return thread;
+        });
+        timer.setRemoveOnCancelPolicy(true);
+        try (Stream<Task> tasks = taskRepository.stream()) {
+            tasks.forEach(this::track);
+        }
+        Deadline first = deadlines.isEmpty() ? null : deadlines.first();
+        if (first != null) {
+            wakeUpBy(first.dueMillis());
+        }
+    }
+    
+    /**
+     * Add, move or drop the deadline of a task that has been saved or deleted.
+     *
+     * @param event Change to a task
+     */
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.isDeleted()) {
+            deadlinesById.computeIfPresent(event.id(), (id, previous) -> {
+                deadlines.remove(previous);
+                return null;
+            });
+            return;
+        }
+        Deadline deadline = track(event.task());
+        if (deadline != null) {
+            wakeUpBy(deadline.dueMillis());
+        }
+    }
+    
+    /**
+     * Get the number of tasks waiting to become overdue.
+     *
+     * @return Number of pending deadlines
+     */
+    public int pending() {
+        return deadlinesById.size();
+    }
+    
+    /**
+     * Move every task whose deadline has passed to {@value #OVERDUE}, then wait for the next.
+     */
+    void fire() {
+        wakeUpLock.lock();
+        try {
+            wakeUp = null;
+            wakeUpAt = Long.MAX_VALUE;
+        } finally {
+            wakeUpLock.unlock();
+        }
+        long now = clock.millis();
+        while (!deadlines.isEmpty()) {
+            Deadline first = deadlines.first();
+            if (first.dueMillis() > now) {
+                wakeUpBy(first.dueMillis());
+                return;
+            }
+            if (deadlines.remove(first)) {
+                deadlinesById.remove(first.id(), first);
+                markOverdue(first);
+            }
+        }
+    }
+    
+    /**
+     * Stop the timer thread.
+     */
+    @PreDestroy
+    @Override
+    public void close() {
+        timer.shutdownNow();
+    }
+    
+    /**
+     * Replaces the task's deadline unless an entry from a newer version is already there, which
+     * happens when change events for the same task are delivered out of order.
+     */
+    private Deadline track(Task task) {
+        Deadline next = isPending(task)
+            ? new Deadline(task.getDueDate().toInstant().toEpochMilli(), task.getId(), task.getVersion())
+            : null;
+        Deadline[] tracked = new Deadline[1];
+        deadlinesById.compute(task.getId(), (id, previous) -> {
+            if (previous != null && previous.version() > task.getVersion()) {
+                return previous;
+            }
+            if (previous != null) {
+                deadlines.remove(previous);
+            }
+            if (next != null) {
+                deadlines.add(next);
+            }
+            tracked[0] = next;
+            return next;
+        });
+        return tracked[0];
+    }
+    
+    private boolean isPending(Task task) {
+        return task.getDueDate() != null
+            && !OVERDUE.equals(task.getStatus())
+            && !finalStatuses.contains(task.getStatus());
+    }
+    
+    private void markOverdue(Deadline deadline) {
+        try {
+            taskService.tryUpdateTaskStatus(deadline.id(), OVERDUE, deadline.version());
+        } catch (TaskVersionConflictException e) {
+            LOG.debug("Task {} changed before it became overdue", deadline.id());
+        } catch (RuntimeException e) {
+            LOG.warn("Unable to mark task {} overdue", deadline.id(), e);
+        }
+    }
+    
+    private void wakeUpBy(long dueMillis) {
+        wakeUpLock.lock();
+        try {
+            if (dueMillis >= wakeUpAt || timer.isShutdown()) {
+                return;
+            }
+            if (wakeUp != null) {
+                wakeUp.cancel(false);
+            }
+            wakeUpAt = dueMillis;
+            wakeUp = timer.schedule(this::fire, Math.max(0, dueMillis - clock.millis()), TimeUnit.MILLISECONDS);
+        } finally {
+            wakeUpLock.unlock();
+        }
+    }
+    
+    /**
+     * Pending deadline, ordered by due date and then task ID.
+     */
+    private record Deadline(long dueMillis, long id, long version) implements Comparable<Deadline> {
+        
+        @Override
+        public int compareTo(Deadline other) {
+            int byDueDate = Long.compare(dueMillis, other.dueMillis);
+            return byDueDate != 0 ? byDueDate : Long.compare(id, other.id);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,140 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import uk.gov.hmcts.reform.dev.exceptions.TaskVersionConflictException;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.repositories.ReactiveTaskRepository;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Non-blocking service for task management operations, used by the reactive API.
+ *
+ * <p>Missing tasks are reported as an empty {@link Mono} rather than an error.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveTaskService {
+    
+    private final ReactiveTaskRepository taskRepository;
+    
+    /**
+     * Constructor with ReactiveTaskRepository dependency.
+     *
+     * @param taskRepository Reactive task repository
+     */
+    @Autowired
+    public ReactiveTaskService(ReactiveTaskRepository taskRepository) {
+        this.taskRepository = taskRepository;
+    }
+    
+    /**
+     * Get all tasks, read from the repository as the subscriber requests them.
+     *
+     * @return Tasks in ascending ID order
+     */
+    public Flux<Task> getAllTasks() {
+        return taskRepository.findAll();
+    }
+    
+    /**
+     * Get the repository's incarnation, which changes whenever task IDs may be handed out again.
+     *
+     * @return Incarnation
+     */
+    public long getIncarnation() {
+        return taskRepository.incarnation();
+    }
+    
+    /**
+     * Get task by ID.
+     *
+     * @param id Task ID
+     * @return Task, or empty if not found
+     */
+    public Mono<Task> getTaskById(Long id) {
+        return taskRepository.findById(id);
+    }
+    
+    /**
+     * Create a new task.
+     *
+     * @param task Task to create
+     * @return Created task
+     */
+    public Mono<Task> createTask(Task task) {
+        return taskRepository.save(task);
+    }
+    
+    /**
+     * Update an existing task, optionally only if it is still at the expected version.
+     *
+     * @param id Task ID
+     * @param taskDetails Task details to update
+     * @param expectedVersion Version the caller last saw, or null to apply over any version
+     * @return Updated task, empty if not found, or a {@link TaskVersionConflictException} error
+     *     if the task is no longer at the expected version
+     */
+    public Mono<Task> updateTask(Long id, Task taskDetails, Long expectedVersion) {
+        return update(id, expectedVersion, task -> {
+            task.setTitle(taskDetails.getTitle());
+            task.setDescription(taskDetails.getDescription());
+            task.setStatus(taskDetails.getStatus());
+            task.setDueDate(taskDetails.getDueDate());
+        });
+    }
+    
+    /**
+     * Update task status, optionally only if the task is still at the expected version.
+     *
+     * @param id Task ID
+     * @param status New status
+     * @param expectedVersion Version the caller last saw, or null to apply over any version
+     * @return Updated task, empty if not found, or a {@link TaskVersionConflictException} error
+     *     if the task is no longer at the expected version
+     */
+    public Mono<Task> updateTaskStatus(Long id, String status, Long expectedVersion) {
+        return update(id, expectedVersion, task -> task.setStatus(status));
+    }
+    
+    /**
+     * Delete a task.
+     *
+     * @param id Task ID
+     * @return True once deleted, or empty if not found
+     */
+    public Mono<Boolean> deleteTask(Long id) {
+        return taskRepository.findById(id)
+                .flatMap(taskRepository::delete)
+                .filter(Boolean::booleanValue);
+    }
+    
+    /**
+     * Reactive form of {@link TaskService}'s compare-and-set loop. A lost race completes the
+     * compare-and-set empty, which re-subscribes to read the latest version and try again; a
+     * missing task completes with an empty Optional so that it is not retried.
+     */
+    private Mono<Task> update(Long id, Long expectedVersion, Consumer<Task> change) {
+        return Mono.defer(() -> taskRepository.findById(id))
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(current -> {
+                    if (current.isEmpty()) {
+                        return Mono.just(current);
+                    }
+                    if (expectedVersion != null && current.get().getVersion() != expectedVersion) {
+                        return Mono.<Optional<Task>>error(new TaskVersionConflictException(id, expectedVersion));
+                    }
+                    Task task = new Task(current.get());
+                    change.accept(task);
+                    return taskRepository.compareAndSet(task).map(Optional::of);
+                })
+                .repeatWhenEmpty(Integer.MAX_VALUE, repeats -> repeats)
+                .flatMap(Mono::justOrEmpty);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,102 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Binary encodings of task responses, for clients that ask for them in {@code Accept}: CBOR
+ * ({@code application/cbor}) and Smile ({@code application/x-jackson-smile}).
+ *
+ * <p>Both are written by copies of the application's {@link ObjectMapper} over the Jackson CBOR
+ * and Smile factories, so they carry the same fields, and the same {@code dueDate} strings, as
+ * the JSON. Neither repeats JSON's quotes, commas and decimal numbers. Smile also writes each
+ * property name and each short string value once per response and refers back to it afterwards,
+ * so the field names and statuses repeated across a list cost a byte or two per task.
+ *
+ * <p>Binary responses are serialized on each request rather than assembled from
+ * {@link TaskJsonCache}: Smile's back-references span the whole response, so tasks encoded on
+ * their own cannot be joined into a list.
+ */
+@Component
+public class TaskBinaryEncoder {
+    
+    public static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+    
+    private final ObjectMapper cbor;
+    private final ObjectMapper smile;
+    
+    /**
+     * Constructor with the application's mapper, whose configuration and modules are copied.
+     *
+     * @param objectMapper Object mapper
+     */
+    @Autowired
+    public TaskBinaryEncoder(ObjectMapper objectMapper) {
+        this.cbor = objectMapper.copyWith(new CBORFactory());
+        this.smile = objectMapper.copyWith(
+            SmileFactory.builder().enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES).build());
+    }
+    
+    /**
+     * Pick a binary format from an {@code Accept} header. Media types are tried from the highest
+     * quality down; JSON, or a wildcard, ahead of a binary format keeps the response as JSON.
+     *
+     * @param accept Header value, or null if absent
+     * @return {@link MediaType#APPLICATION_CBOR} or {@link #APPLICATION_SMILE}, or null to answer
+     *     with JSON
+     */
+    public MediaType negotiate(String accept) {
+        if (accept == null) {
+            return null;
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        } catch (InvalidMediaTypeException e) {
+            return null;
+        }
+        accepted.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType type : accepted) {
+            if (type.getQualityValue() == 0) {
+                break;
+            }
+            if (type.includes(MediaType.APPLICATION_JSON)) {
+                return null;
+            }
+            if (type.equalsTypeAndSubtype(MediaType.APPLICATION_CBOR)) {
+                return MediaType.APPLICATION_CBOR;
+            }
+            if (type.equalsTypeAndSubtype(APPLICATION_SMILE)) {
+                return APPLICATION_SMILE;
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Serialize a response body in a binary format.
+     *
+     * @param body Task, list of tasks or page
+     * @param format {@link MediaType#APPLICATION_CBOR} or {@link #APPLICATION_SMILE}
+     * @return Encoded bytes
+     */
+    public byte[] encode(Object body, MediaType format) {
+        try {
+            return (APPLICATION_SMILE.equals(format) ? smile : cbor).writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,199 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskChange;
+import uk.gov.hmcts.reform.dev.models.TaskOperation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded log of the most recent task changes, read by the change stream at
+ * {@code GET /api/tasks/changes}.
+ *
+ * <p>{@link TaskService} appends a {@link TaskChange} after each create, update, status change
+ * and delete it applies. Each change gets the next sequence number and goes into a ring buffer of
+ * {@code tasks.changes.capacity} slots, overwriting the oldest. Sequence numbers are seeded from
+ * the clock at startup, like the JPA store's modification count, so a sequence number from before
+ * a restart is never mistaken for one from this run.
+ *
+ * <p>Changes are appended after the store write, so two writers to the same task can reach the
+ * feed in the opposite order to the one they were saved in. The feed keeps the latest version it
+ * has appended for each task still in the buffer and drops a change that is not newer, so within
+ * one task sequence order always matches version order and nothing follows a delete. A dropped
+ * change was already superseded by the one that beat it, which carries the whole task. Consumers
+ * that also read tasks some other way should likewise ignore a change whose task version is lower
+ * than one they have already seen.
+ *
+ * <p>Writers only take a lock among themselves. Readers keep their own cursor and never hold up
+ * a writer: a reader that falls more than the capacity behind finds its next change overwritten
+ * and is told to resynchronise instead.
+ */
+@Component
+public class TaskChangeFeed {
+    
+    static final int DEFAULT_CAPACITY = 4096;
+    
+    /**
+     * Version recorded for a delete, which nothing may follow.
+     */
+    private static final long DELETED = Long.MAX_VALUE;
+    
+    private final AtomicReferenceArray<TaskChange> slots;
+    private final int capacity;
+    private final long firstSequence;
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final Map<Long, Latest> latest = new HashMap<>();
+    private final Set<Thread> waiters = ConcurrentHashMap.newKeySet();
+    private volatile long lastSequence;
+    
+    /**
+     * Constructor with the number of changes to keep.
+     *
+     * @param capacity Number of most recent changes a reader can resume from
+     */
+    @Autowired
+    public TaskChangeFeed(@Value("${tasks.changes.capacity:" + DEFAULT_CAPACITY + "}") int capacity) {
+        this(capacity, System.currentTimeMillis() * 1000);
+    }
+    
+    TaskChangeFeed(int capacity, long lastSequence) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.capacity = capacity;
+        this.firstSequence = lastSequence + 1;
+        this.lastSequence = lastSequence;
+    }
+    
+    /**
+     * Append a change and wake any readers waiting for one, unless a newer change to the same
+     * task has already been appended.
+     *
+     * @param type Kind of change
+     * @param id ID of the changed task
+     * @param task Task as saved, or null if it was deleted; a copy is kept
+     * @return Appended change, or empty if it was dropped as stale
+     */
+    public Optional<TaskChange> append(TaskOperation.Type type, Long id, Task task) {
+        Task copy = task == null ? null : new Task(task);
+        long version = task == null ? DELETED : task.getVersion();
+        TaskChange change;
+        appendLock.lock();
+        try {
+            Latest previous = id == null ? null : latest.get(id);
+            if (previous != null && previous.version() >= version) {
+                return Optional.empty();
+            }
+            long sequence = lastSequence + 1;
+            change = new TaskChange(sequence, type, id, copy);
+            TaskChange overwritten = slots.getAndSet(slot(sequence), change);
+            if (overwritten != null && overwritten.getId() != null) {
+                Latest held = latest.get(overwritten.getId());
+                if (held != null && held.sequence() == overwritten.getSequence()) {
+                    latest.remove(overwritten.getId());
+                }
+            }
+            if (id != null) {
+                latest.put(id, new Latest(sequence, version));
+            }
+            lastSequence = sequence;
+        } finally {
+            appendLock.unlock();
+        }
+        for (Thread waiter : waiters) {
+            LockSupport.unpark(waiter);
+        }
+        return Optional.of(change);
+    }
+    
+    /**
+     * Get the sequence number of the latest change. A reader starting from here sees only
+     * changes made after this call.
+     *
+     * @return Latest sequence number
+     */
+    public long lastSequence() {
+        return lastSequence;
+    }
+    
+    /**
+     * Read the changes after a sequence number, oldest first.
+     *
+     * @param after Sequence number of the last change the reader has seen
+     * @param limit Maximum number of changes to return
+     * @return Changes after {@code after}, possibly none, or empty if some of them have already
+     *     been overwritten or {@code after} is not from this run, in which case the reader must
+     *     resynchronise
+     */
+    public Optional<List<TaskChange>> readAfter(long after, int limit) {
+        long last = lastSequence;
+        if (after > last || after + 1 < Math.max(firstSequence, last - capacity + 1)) {
+            return Optional.empty();
+        }
+        int count = (int) Math.min(limit, last - after);
+        List<TaskChange> changes = new ArrayList<>(count);
+        for (long sequence = after + 1; sequence <= after + count; sequence++) {
+            TaskChange change = slots.get(slot(sequence));
+            if (change == null || change.getSequence() != sequence) {
+                return Optional.empty();
+            }
+            changes.add(change);
+        }
+        return Optional.of(changes);
+    }
+    
+    /**
+     * Wait until there is a change after a sequence number.
+     *
+     * @param after Sequence number of the last change the reader has seen
+     * @param timeoutNanos Maximum time to wait
+     * @return true if there is a later change, false if the wait timed out
+     * @throws InterruptedException if the waiting thread is interrupted
+     */
+    public boolean awaitAfter(long after, long timeoutNanos) throws InterruptedException {
+        if (lastSequence > after) {
+            return true;
+        }
+        Thread current = Thread.currentThread();
+        long deadline = System.nanoTime() + timeoutNanos;
+        waiters.add(current);
+        try {
+            while (lastSequence <= after) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                LockSupport.parkNanos(this, remaining);
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+            }
+            return true;
+        } finally {
+            waiters.remove(current);
+        }
+    }
+    
+    private int slot(long sequence) {
+        return (int) Math.floorMod(sequence, (long) capacity);
+    }
+    
+    /**
+     * Sequence number and task version of the latest change appended for a task.
+     */
+    private record Latest(long sequence, long version) {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,165 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskPage;
+import uk.gov.hmcts.reform.dev.models.TaskSearchPage;
+import uk.gov.hmcts.reform.dev.repositories.TaskChangedEvent;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Cache of each task's JSON representation as UTF-8 bytes, so a task that is read many times
+ * between writes is serialized once.
+ *
+ * <p>Entries are keyed by task ID and remember the version they were serialized from. A lookup
+ * for any other version of the task serializes it again and replaces the entry, so a stale entry
+ * is never returned, even if it was put there by a read that raced with a save. Entries are
+ * also dropped when a {@link TaskChangedEvent} reports that the task was saved or deleted. The
+ * cache is bounded by the total size of the cached JSON ({@code tasks.json-cache.maximum-size}).
+ *
+ * <p>Lists and pages are built by concatenating the cached fragments. The bytes are produced by
+ * the application's {@link ObjectMapper}, so they are the same as Jackson would write for the
+ * same tasks.
+ */
+@Component
+public class TaskJsonCache {
+    
+    private static final byte[] ARRAY_START = bytes("[");
+    private static final byte[] ARRAY_END = bytes("]");
+    private static final byte[] PAGE_START = bytes("{\"tasks\":[");
+    
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, TaskJson> cache;
+    
+    /**
+     * Constructor with the mapper to serialize with and the cache bound.
+     *
+     * @param objectMapper Object mapper
+     * @param maximumSize Maximum total size of cached JSON
+     */
+    @Autowired
+    public TaskJsonCache(ObjectMapper objectMapper,
+                         @Value("${tasks.json-cache.maximum-size:64MB}") DataSize maximumSize) {
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumSize.toBytes())
+                .<Long, TaskJson>weigher((id, json) -> json.bytes().length)
+                .build();
+    }
+    
+    /**
+     * Get a task as JSON.
+     *
+     * @param task Task
+     * @return UTF-8 JSON bytes; callers must not modify them
+     */
+    public byte[] toJson(Task task) {
+        Long id = task.getId();
+        if (id == null) {
+            return serialize(task);
+        }
+        TaskJson cached = cache.getIfPresent(id);
+        if (cached != null && cached.version() == task.getVersion()) {
+            return cached.bytes();
+        }
+        byte[] json = serialize(task);
+        cache.put(id, new TaskJson(task.getVersion(), json));
+        return json;
+    }
+    
+    /**
+     * Get a list of tasks as a JSON array.
+     *
+     * @param tasks Tasks
+     * @return UTF-8 JSON bytes
+     */
+    public byte[] toJson(List<Task> tasks) {
+        return join(ARRAY_START, tasks, ARRAY_END);
+    }
+    
+    /**
+     * Get a page of tasks as JSON, in the same shape as Jackson writes {@link TaskPage}.
+     *
+     * @param page Page of tasks
+     * @return UTF-8 JSON bytes
+     */
+    public byte[] toJson(TaskPage page) {
+        return join(PAGE_START, page.getTasks(), bytes("],\"nextCursor\":" + page.getNextCursor() + "}"));
+    }
+    
+    /**
+     * Get a page of search results as JSON, in the same shape as Jackson writes
+     * {@link TaskSearchPage}.
+     *
+     * @param page Page of search results
+     * @return UTF-8 JSON bytes
+     */
+    public byte[] toJson(TaskSearchPage page) {
+        return join(PAGE_START, page.getTasks(),
+                    bytes("],\"total\":" + page.getTotal() + ",\"nextOffset\":" + page.getNextOffset() + "}"));
+    }
+    
+    /**
+     * Drop the cached JSON of a task that has been saved or deleted.
+     *
+     * @param event Change to a task
+     */
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        cache.invalidate(event.id());
+    }
+    
+    /**
+     * Drop every cached representation.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+    
+    private byte[] join(byte[] prefix, List<Task> tasks, byte[] suffix) {
+        byte[][] fragments = new byte[tasks.size()][];
+        int length = prefix.length + suffix.length + Math.max(0, tasks.size() - 1);
+        for (int i = 0; i < fragments.length; i++) {
+            fragments[i] = toJson(tasks.get(i));
+            length += fragments[i].length;
+        }
+        byte[] json = new byte[length];
+        System.arraycopy(prefix, 0, json, 0, prefix.length);
+        int position = prefix.length;
+        for (int i = 0; i < fragments.length; i++) {
+            if (i > 0) {
+                json[position++] = ',';
+            }
+            System.arraycopy(fragments[i], 0, json, position, fragments[i].length);
+            position += fragments[i].length;
+        }
+        System.arraycopy(suffix, 0, json, position, suffix.length);
+        return json;
+    }
+    
+    private byte[] serialize(Task task) {
+        try {
+            return objectMapper.writeValueAsBytes(task);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private static byte[] bytes(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+    
+    private record TaskJson(long version, byte[] bytes) {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,142 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.dev.repositories.TaskRepository;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Task API metrics beyond the request timers Spring records as {@code http.server.requests}.
+ *
+ * <p>Rejected and not-found requests are counted per operation. All counters are registered up
+ * front, so recording one is a map lookup and an increment, and every series reports zero from
+ * startup rather than appearing on its first event.
+ *
+ * <p>The number of stored tasks and the number per status are published as gauges. They are
+ * read from the repository on a schedule ({@code tasks.metrics.refresh-interval}) rather than on
+ * every scrape, so a scrape never waits on the store. They count the local task store, so in
+ * cluster mode each member reports the tasks it holds and the series add up across members.
+ *
+ * <p>Statuses are free-form, so only those listed in {@code tasks.metrics.statuses} get their
+ * own {@code status} tag; tasks with any other status are counted under {@value #OTHER_STATUS}.
+ * A client inventing statuses therefore cannot add series to the registry.
+ */
+@Component
+public class TaskMetrics {
+    
+    /**
+     * Task API operations that can reject a request or fail to find a task.
+     */
+    public enum Operation {
+        PAGE, QUERY, SEARCH, GET, CREATE, BATCH, UPDATE, UPDATE_STATUS, DELETE;
+        
+        String tag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+    
+    static final String DEFAULT_STATUSES = "PENDING,IN_PROGRESS,COMPLETED,OVERDUE";
+    
+    static final String OTHER_STATUS = "other";
+    
+    private final TaskRepository taskRepository;
+    private final Set<String> statuses;
+    private final Map<Operation, Counter> rejected = new EnumMap<>(Operation.class);
+    private final Map<Operation, Counter> notFound = new EnumMap<>(Operation.class);
+    private final AtomicLong stored = new AtomicLong();
+    private final MultiGauge byStatus;
+    
+    /**
+     * Constructor with the repository to measure and the registry to publish to, tagging the
+     * default statuses.
+     *
+     * @param taskRepository Local task store
+     * @param registry Meter registry
+     */
+    public TaskMetrics(TaskRepository taskRepository, MeterRegistry registry) {
+        this(taskRepository, registry, List.of(DEFAULT_STATUSES.split(",")));
+    }
+    
+    /**
+     * Constructor with the repository to measure, the registry to publish to and the statuses
+     * to tag.
+     *
+     * @param taskRepository Local task store
+     * @param registry Meter registry
+     * @param statuses Statuses published with their own tag
+     */
+    @Autowired
+    public TaskMetrics(@Qualifier("taskStore") TaskRepository taskRepository, MeterRegistry registry,
+                       @Value("${tasks.metrics.statuses:" + DEFAULT_STATUSES + "}") List<String> statuses) {
+        this.taskRepository = taskRepository;
+        this.statuses = Set.copyOf(statuses);
+        for (Operation operation : Operation.values()) {
+            rejected.put(operation, Counter.builder("tasks.requests.rejected")
+                    .description("Task API requests rejected as invalid")
+                    .tag("operation", operation.tag())
+                    .register(registry));
+            notFound.put(operation, Counter.builder("tasks.requests.not.found")
+                    .description("Task API requests for a task that does not exist")
+                    .tag("operation", operation.tag())
+                    .register(registry));
+        }
+        Gauge.builder("tasks.stored", stored, AtomicLong::get)
+                .description("Number of stored tasks")
+                .register(registry);
+        byStatus = MultiGauge.builder("tasks.by.status")
+                .description("Number of stored tasks with each status")
+                .register(registry);
+        refreshGauges();
+    }
+    
+    /**
+     * Count a request rejected as invalid.
+     *
+     * @param operation Operation that rejected the request
+     */
+    public void rejected(Operation operation) {
+        rejected.get(operation).increment();
+    }
+    
+    /**
+     * Count a request for a task that does not exist.
+     *
+     * @param operation Operation that did not find the task
+     */
+    public void notFound(Operation operation) {
+        notFound.get(operation).increment();
+    }
+    
+    /**
+     * Re-read the task counts behind the gauges from the repository.
+     */
+    @Scheduled(fixedDelayString = "${tasks.metrics.refresh-interval:PT15S}",
+               initialDelayString = "${tasks.metrics.refresh-interval:PT15S}")
+    public void refreshGauges() {
+        stored.set(taskRepository.count());
+        Map<String, Long> counts = new HashMap<>();
+        statuses.forEach(status -> counts.put(status, 0L));
+        counts.put(OTHER_STATUS, 0L);
+        taskRepository.countByStatus().forEach((status, count) ->
+            counts.merge(statuses.contains(status) ? status : OTHER_STATUS, count, Long::sum));
+        List<MultiGauge.Row<?>> rows = new ArrayList<>();
+        counts.forEach((status, count) -> rows.add(MultiGauge.Row.of(Tags.of("status", status), count)));
+        byStatus.register(rows, true);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,347 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskSearchPage;
+import uk.gov.hmcts.reform.dev.repositories.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.repositories.TaskRepository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * In-process inverted index over task titles and descriptions, for ranked full-text search.
+ *
+ * <p>Text is split into lowercase terms at every character that is not a letter or digit. Each
+ * term has a posting list of the IDs of the tasks containing it, sorted by ID, with the number
+ * of times it occurs in each and the task's length. A search returns tasks containing every
+ * term of the query: it walks the shortest posting list and advances through the others with
+ * galloping searches, so its cost depends on how many tasks contain the rarest term rather than
+ * on how many tasks there are. Matches are ranked by BM25 and only the best
+ * {@code offset + limit} are kept while walking.
+ *
+ * <p>The index is built from the task store on startup and kept current by the
+ * {@link TaskChangedEvent}s the stores publish after every save and delete. Updates are
+ * serialized by a read-write lock and searches run in parallel.
+ */
+@Component
+public class TaskSearchIndex {
+    
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    
+    /**
+     * Version recorded for a deleted task, which no later save of it may bring back.
+     */
+    private static final long DELETED = Long.MAX_VALUE;
+    
+    /**
+     * Number of recently deleted task IDs remembered, enough to cover the events still in
+     * flight when a delete is handled.
+     */
+    private static final int TOMBSTONES = 4096;
+    
+    private static final Comparator<Hit> BEST_FIRST =
+        Comparator.comparingDouble(Hit::score).reversed().thenComparingLong(Hit::id);
+    
+    private final TaskRepository taskRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final Map<Long, Long> tombstones = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+            return size() > TOMBSTONES;
+        }
+    };
+    private long totalLength;
+    
+    /**
+     * Constructor with the repository to index and to load matching tasks from.
+     *
+     * @param taskRepository Local task store
+     */
+    @Autowired
+    public TaskSearchIndex(@Qualifier("taskStore") TaskRepository taskRepository) {
+        this.taskRepository = taskRepository;
+        try (Stream<Task> tasks = taskRepository.stream()) {
+            tasks.forEach(this::add);
+        }
+    }
+    
+    /**
+     * Search task titles and descriptions.
+     *
+     * @param query Words to search for; a task must contain all of them
+     * @param offset Number of best matches to skip
+     * @param limit Maximum number of tasks to return
+     * @return Page of matching tasks, best match first
+     */
+    public TaskSearchPage search(String query, int offset, int limit) {
+        List<String> terms = terms(query).stream().distinct().toList();
+        List<Hit> hits = new ArrayList<>();
+        long total = 0;
+        lock.readLock().lock();
+        try {
+            Postings[] lists = new Postings[terms.size()];
+            for (int i = 0; i < lists.length; i++) {
+                lists[i] = postings.get(terms.get(i));
+                if (lists[i] == null) {
+                    return new TaskSearchPage(List.of(), 0, null);
+                }
+            }
+            if (lists.length == 0) {
+                return new TaskSearchPage(List.of(), 0, null);
+            }
+            Arrays.sort(lists, Comparator.comparingInt(Postings::live));
+            double[] idf = new double[lists.length];
+            for (int i = 0; i < lists.length; i++) {
+                idf[i] = Math.log(1 + (documents.size() - lists[i].live() + 0.5) / (lists[i].live() + 0.5));
+            }
+            double averageLength = (double) totalLength / documents.size();
+            int[] frequencies = new int[lists.length];
+            int[] cursors = new int[lists.length];
+            PriorityQueue<Hit> best = new PriorityQueue<>(BEST_FIRST.reversed());
+            Postings rarest = lists[0];
+            for (int p = 0; p < rarest.size; p++) {
+                frequencies[0] = rarest.frequencies[p];
+                long id = rarest.ids[p];
+                boolean matches = frequencies[0] > 0;
+                for (int i = 1; i < lists.length && matches; i++) {
+                    cursors[i] = lists[i].seek(id, cursors[i]);
+                    frequencies[i] = lists[i].frequencyAt(cursors[i], id);
+                    matches = frequencies[i] > 0;
+                }
+                if (!matches) {
+                    continue;
+                }
+                total++;
+                double lengthRatio = rarest.lengths[p] / averageLength;
+                double score = 0;
+                for (int i = 0; i < lists.length; i++) {
+                    score += idf[i] * frequencies[i] * (K1 + 1) / (frequencies[i] + K1 * (1 - B + B * lengthRatio));
+                }
+                if (best.size() < offset + limit) {
+                    best.add(new Hit(id, score));
+                } else if (score > best.peek().score()) {
+                    best.poll();
+                    best.add(new Hit(id, score));
+                }
+            }
+            hits.addAll(best);
+        } finally {
+            lock.readLock().unlock();
+        }
+        hits.sort(BEST_FIRST);
+        List<Task> tasks = new ArrayList<>(limit);
+        for (int i = offset; i < hits.size(); i++) {
+            taskRepository.findById(hits.get(i).id()).ifPresent(tasks::add);
+        }
+        Integer nextOffset = offset + limit < total ? offset + limit : null;
+        return new TaskSearchPage(tasks, total, nextOffset);
+    }
+    
+    /**
+     * Re-index a task that has been saved, or drop one that has been deleted. The stores publish
+     * events once the write has left their locks, so two changes to one task can be delivered
+     * out of order: a saved task older than the version already indexed is ignored, and a delete
+     * leaves a tombstone so that a save delivered after it does not bring the task back.
+     *
+     * @param event Change to a task
+     */
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (event.isDeleted()) {
+                remove(event.id());
+                tombstones.put(event.id(), DELETED);
+                return;
+            }
+            Long deleted = tombstones.get(event.id());
+            if (deleted != null && deleted >= event.task().getVersion()) {
+                return;
+            }
+            Document indexed = documents.get(event.id());
+            if (indexed != null && indexed.version() > event.task().getVersion()) {
+                return;
+            }
+            remove(event.id());
+            add(event.task());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Split text into lowercase terms at every character that is not a letter or digit.
+     *
+     * @param text Text to split, or null
+     * @return Terms in the order they occur
+     */
+    static List<String> terms(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean wordCharacter = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (wordCharacter && start < 0) {
+                start = i;
+            } else if (!wordCharacter && start >= 0) {
+                terms.add(lower.substring(start, i));
+                start = -1;
+            }
+        }
+        return terms;
+    }
+    
+    private void add(Task task) {
+        List<String> words = terms(task.getTitle());
+        words.addAll(terms(task.getDescription()));
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        String[] keys = new String[counts.size()];
+        int i = 0;
+        for (Map.Entry<String, Integer> count : counts.entrySet()) {
+            Postings list = postings.computeIfAbsent(count.getKey(), Postings::new);
+            list.add(task.getId(), count.getValue(), words.size());
+            keys[i++] = list.term;
+        }
+        documents.put(task.getId(), new Document(keys, words.size(), task.getVersion()));
+        totalLength += words.size();
+    }
+    
+    private void remove(Long id) {
+        Document document = documents.remove(id);
+        if (document == null) {
+            return;
+        }
+        for (String term : document.terms()) {
+            Postings list = postings.get(term);
+            list.remove(id);
+            if (list.live() == 0) {
+                postings.remove(term);
+            }
+        }
+        totalLength -= document.length();
+    }
+    
+    /**
+     * Terms of an indexed task, kept so the task can be removed from their posting lists, its
+     * length in terms and the version that was indexed.
+     */
+    private record Document(String[] terms, int length, long version) {
+    }
+    
+    private record Hit(long id, double score) {
+    }
+    
+    /**
+     * Task IDs containing a term, sorted by ID, with the term's frequency in each task and the
+     * task's length in terms. A removed
+     * entry has its frequency set to 0 and is compacted away once removed entries make up half
+     * of the list, so removing a task does not shift the arrays each time.
+     */
+    private static final class Postings {
+        
+        private final String term;
+        private long[] ids = new long[4];
+        private short[] frequencies = new short[4];
+        private short[] lengths = new short[4];
+        private int size;
+        private int removed;
+        
+        Postings(String term) {
+            this.term = term;
+        }
+        
+        int live() {
+            return size - removed;
+        }
+        
+        /**
+         * Finds the first position at or after {@code from} whose ID is not less than the given
+         * one, probing 1, 2, 4... entries ahead before binary-searching the last gap.
+         */
+        int seek(long id, int from) {
+            if (from >= size || ids[from] >= id) {
+                return from;
+            }
+            int step = 1;
+            while (from + step < size && ids[from + step] < id) {
+                step <<= 1;
+            }
+            int position = Arrays.binarySearch(ids, from + (step >> 1), Math.min(from + step + 1, size), id);
+            return position >= 0 ? position : -(position + 1);
+        }
+        
+        int frequencyAt(int position, long id) {
+            return position < size && ids[position] == id ? frequencies[position] : 0;
+        }
+        
+        void add(long id, int frequency, int length) {
+            short value = (short) Math.min(frequency, Short.MAX_VALUE);
+            short taskLength = (short) Math.min(length, Short.MAX_VALUE);
+            int position = size == 0 || id > ids[size - 1] ? -(size + 1) : Arrays.binarySearch(ids, 0, size, id);
+            if (position >= 0) {
+                if (frequencies[position] == 0) {
+                    removed--;
+                }
+                frequencies[position] = value;
+                lengths[position] = taskLength;
+                return;
+            }
+            position = -(position + 1);
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+                lengths = Arrays.copyOf(lengths, size * 2);
+            }
+            System.arraycopy(ids, position, ids, position + 1, size - position);
+            System.arraycopy(frequencies, position, frequencies, position + 1, size - position);
+            System.arraycopy(lengths, position, lengths, position + 1, size - position);
+            ids[position] = id;
+            frequencies[position] = value;
+            lengths[position] = taskLength;
+            size++;
+        }
+        
+        void remove(long id) {
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position < 0 || frequencies[position] == 0) {
+                return;
+            }
+            frequencies[position] = 0;
+            if (++removed > size / 2) {
+                int live = 0;
+                for (int i = 0; i < size; i++) {
+                    if (frequencies[i] != 0) {
+                        ids[live] = ids[i];
+                        lengths[live] = lengths[i];
+                        frequencies[live++] = frequencies[i];
+                    }
+                }
+                size = live;
+                removed = 0;
+            }
+        }
+    }
+}
\ No newline at end of file
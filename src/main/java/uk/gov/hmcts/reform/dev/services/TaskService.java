@@ -2,27 +2,64 @@ package uk.gov.hmcts.reform.dev.services;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.dev.exceptions.TaskNotFoundException;
+import uk.gov.hmcts.reform.dev.exceptions.TaskVersionConflictException;
 import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskOperation;
+import uk.gov.hmcts.reform.dev.models.TaskOperationResult;
+import uk.gov.hmcts.reform.dev.models.TaskOperationResult.Outcome;
+import uk.gov.hmcts.reform.dev.models.TaskPage;
+import uk.gov.hmcts.reform.dev.models.TaskStats;
 import uk.gov.hmcts.reform.dev.repositories.TaskRepository;
 
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Service for task management operations.
+ *
+ * <p>Lookups, updates and deletes of a single task come in two forms: one that reports a
+ * missing task as an empty {@code Optional} or {@code false}, for callers such as the controllers
+ * that turn it into a response, and one that throws {@link TaskNotFoundException}.
+ *
+ * <p>Every change applied through the service is appended to the {@link TaskChangeFeed} once
+ * the repository has accepted it.
  */
 @Service
 public class TaskService {
     
     private final TaskRepository taskRepository;
     
+    private final TaskChangeFeed taskChangeFeed;
+    
     /**
-     * Constructor with TaskRepository dependency.
+     * Constructor with TaskRepository dependency, keeping changes in a feed of its own.
      *
      * @param taskRepository Task repository
      */
-    @Autowired
     public TaskService(TaskRepository taskRepository) {
+        this(taskRepository, new TaskChangeFeed(TaskChangeFeed.DEFAULT_CAPACITY));
+    }
+    
+    /**
+     * Constructor with TaskRepository and TaskChangeFeed dependencies.
+     *
+     * @param taskRepository Task repository
+     * @param taskChangeFeed Feed that applied changes are appended to
+     */
+    @Autowired
+    public TaskService(TaskRepository taskRepository, TaskChangeFeed taskChangeFeed) {
         this.taskRepository = taskRepository;
+        this.taskChangeFeed = taskChangeFeed;
     }
     
     /**
@@ -34,16 +71,90 @@ public class TaskService {
         return taskRepository.findAll();
     }
     
+    /**
+     * Stream all tasks without materialising them in memory.
+     *
+     * @return Lazy stream of all tasks in ascending ID order
+     */
+    public Stream<Task> streamAllTasks() {
+        return taskRepository.stream();
+    }
+    
+    /**
+     * Get the repository's modification count, which changes whenever any task is saved or
+     * deleted. Read it before reading tasks so that it is never newer than what was read.
+     *
+     * @return Modification count, or empty if the repository cannot tell
+     */
+    public OptionalLong getModificationCount() {
+        return taskRepository.modificationCount();
+    }
+    
+    /**
+     * Get the repository's incarnation, which changes whenever task IDs may be handed out again.
+     *
+     * @return Incarnation
+     */
+    public long getIncarnation() {
+        return taskRepository.incarnation();
+    }
+    
+    /**
+     * Get a page of tasks.
+     *
+     * @param after Exclusive ID cursor, or null for the first page
+     * @param limit Maximum number of tasks to return
+     * @return Page of tasks
+     */
+    public TaskPage getTaskPage(Long after, int limit) {
+        return taskRepository.findPage(after, limit);
+    }
+    
+    /**
+     * Find tasks by status and/or due date range.
+     *
+     * @param status Status to match, or null for any status
+     * @param dueFrom Inclusive lower bound on due date, or null
+     * @param dueTo Exclusive upper bound on due date, or null
+     * @param limit Maximum number of tasks to return
+     * @return Matching tasks
+     */
+    public List<Task> findTasks(String status, OffsetDateTime dueFrom, OffsetDateTime dueTo, int limit) {
+        return taskRepository.findByQuery(status, dueFrom, dueTo, limit);
+    }
+    
+    /**
+     * Get task counts by status and by due date relative to a day.
+     *
+     * @param today Day to count due dates against
+     * @param zone Zone the day is in
+     * @param closedStatuses Statuses of finished tasks, left out of the due date counts
+     * @return Task statistics
+     */
+    public TaskStats getStats(LocalDate today, ZoneId zone, Set<String> closedStatuses) {
+        return taskRepository.stats(today, zone, closedStatuses);
+    }
+    
+    /**
+     * Find task by ID.
+     *
+     * @param id Task ID
+     * @return Optional containing task if found
+     */
+    public Optional<Task> findTaskById(Long id) {
+        return taskRepository.findById(id);
+    }
+    
     /**
      * Get task by ID.
      *
      * @param id Task ID
      * @return Task if found
-     * @throws RuntimeException if task not found
+     * @throws TaskNotFoundException if task not found
      */
     public Task getTaskById(Long id) {
         return taskRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Task not found with id: " + id));
+                .orElseThrow(() -> new TaskNotFoundException(id));
     }
     
     /**
@@ -53,7 +164,9 @@ public class TaskService {
      * @return Created task
      */
     public Task createTask(Task task) {
-        return taskRepository.save(task);
+        Task created = taskRepository.save(task);
+        taskChangeFeed.append(TaskOperation.Type.CREATE, created.getId(), created);
+        return created;
     }
     
     /**
@@ -62,18 +175,39 @@ public class TaskService {
      * @param id Task ID
      * @param taskDetails Task details to update
      * @return Updated task
-     * @throws RuntimeException if task not found
+     * @throws TaskNotFoundException if task not found
      */
     public Task updateTask(Long id, Task taskDetails) {
-        Task task = getTaskById(id);
-        
-        // Update fields
-        task.setTitle(taskDetails.getTitle());
-        task.setDescription(taskDetails.getDescription());
-        task.setStatus(taskDetails.getStatus());
-        task.setDueDate(taskDetails.getDueDate());
-        
-        return taskRepository.save(task);
+        return updateTask(id, taskDetails, null);
+    }
+    
+    /**
+     * Update an existing task, optionally only if it is still at the expected version.
+     *
+     * @param id Task ID
+     * @param taskDetails Task details to update
+     * @param expectedVersion Version the caller last saw, or null to apply over any version
+     * @return Updated task
+     * @throws TaskVersionConflictException if the task is no longer at the expected version
+     * @throws TaskNotFoundException if task not found
+     */
+    public Task updateTask(Long id, Task taskDetails, Long expectedVersion) {
+        return tryUpdateTask(id, taskDetails, expectedVersion)
+                .orElseThrow(() -> new TaskNotFoundException(id));
+    }
+    
+    /**
+     * Update an existing task if it exists, optionally only if it is still at the expected
+     * version.
+     *
+     * @param id Task ID
+     * @param taskDetails Task details to update
+     * @param expectedVersion Version the caller last saw, or null to apply over any version
+     * @return Updated task, or empty if the task does not exist
+     * @throws TaskVersionConflictException if the task is no longer at the expected version
+     */
+    public Optional<Task> tryUpdateTask(Long id, Task taskDetails, Long expectedVersion) {
+        return tryUpdate(id, expectedVersion, TaskOperation.Type.UPDATE, task -> copyDetails(taskDetails, task));
     }
     
     /**
@@ -82,22 +216,191 @@ public class TaskService {
      * @param id Task ID
      * @param status New status
      * @return Updated task
-     * @throws RuntimeException if task not found
+     * @throws TaskNotFoundException if task not found
      */
     public Task updateTaskStatus(Long id, String status) {
-        Task task = getTaskById(id);
-        task.setStatus(status);
-        return taskRepository.save(task);
+        return updateTaskStatus(id, status, null);
+    }
+    
+    /**
+     * Update task status, optionally only if the task is still at the expected version.
+     *
+     * @param id Task ID
+     * @param status New status
+     * @param expectedVersion Version the caller last saw, or null to apply over any version
+     * @return Updated task
+     * @throws TaskVersionConflictException if the task is no longer at the expected version
+     * @throws TaskNotFoundException if task not found
+     */
+    public Task updateTaskStatus(Long id, String status, Long expectedVersion) {
+        return tryUpdateTaskStatus(id, status, expectedVersion)
+                .orElseThrow(() -> new TaskNotFoundException(id));
+    }
+    
+    /**
+     * Update task status if the task exists, optionally only if it is still at the expected
+     * version.
+     *
+     * @param id Task ID
+     * @param status New status
+     * @param expectedVersion Version the caller last saw, or null to apply over any version
+     * @return Updated task, or empty if the task does not exist
+     * @throws TaskVersionConflictException if the task is no longer at the expected version
+     */
+    public Optional<Task> tryUpdateTaskStatus(Long id, String status, Long expectedVersion) {
+        return tryUpdate(id, expectedVersion, TaskOperation.Type.STATUS, task -> task.setStatus(status));
     }
     
     /**
      * Delete a task.
      *
      * @param id Task ID
-     * @throws RuntimeException if task not found
+     * @throws TaskNotFoundException if task not found
      */
     public void deleteTask(Long id) {
-        Task task = getTaskById(id);
-        taskRepository.delete(task);
+        if (!tryDeleteTask(id)) {
+            throw new TaskNotFoundException(id);
+        }
+    }
+    
+    /**
+     * Delete a task if it exists.
+     *
+     * @param id Task ID
+     * @return true if the task was deleted, false if it did not exist
+     */
+    public boolean tryDeleteTask(Long id) {
+        return taskRepository.findById(id).map(this::delete).orElse(false);
+    }
+    
+    /**
+     * Apply a batch of create, update, status and delete operations.
+     *
+     * <p>Every operation is validated up front; invalid ones are reported and skipped. All
+     * creates are then saved as one repository batch, and the remaining operations are applied
+     * in request order. Operations are not atomic as a group: each gets its own result.
+     *
+     * @param operations Operations to apply
+     * @return One result per operation, in request order
+     */
+    public List<TaskOperationResult> applyBatch(List<TaskOperation> operations) {
+        TaskOperationResult[] results = new TaskOperationResult[operations.size()];
+        List<Integer> createIndexes = new ArrayList<>();
+        List<Task> creates = new ArrayList<>();
+        
+        for (int i = 0; i < operations.size(); i++) {
+            TaskOperation operation = operations.get(i);
+            String error = validate(operation);
+            if (error != null) {
+                results[i] = new TaskOperationResult(i, Outcome.INVALID,
+                        operation == null ? null : operation.getId(), null, error);
+            } else if (operation.getOp() == TaskOperation.Type.CREATE) {
+                Task task = new Task(operation.getTask());
+                task.setId(null);
+                createIndexes.add(i);
+                creates.add(task);
+            }
+        }
+        
+        List<Task> created = taskRepository.saveAll(creates);
+        for (int c = 0; c < created.size(); c++) {
+            int i = createIndexes.get(c);
+            Task task = created.get(c);
+            taskChangeFeed.append(TaskOperation.Type.CREATE, task.getId(), task);
+            results[i] = new TaskOperationResult(i, Outcome.CREATED, task.getId(), task, null);
+        }
+        
+        for (int i = 0; i < operations.size(); i++) {
+            if (results[i] == null) {
+                results[i] = apply(i, operations.get(i));
+            }
+        }
+        return Arrays.asList(results);
+    }
+    
+    private static String validate(TaskOperation operation) {
+        if (operation == null || operation.getOp() == null) {
+            return "Operation type is required";
+        }
+        if (operation.getOp() != TaskOperation.Type.CREATE && operation.getId() == null) {
+            return "Task id is required";
+        }
+        switch (operation.getOp()) {
+            case CREATE, UPDATE -> {
+                if (!TaskValidator.isValid(operation.getTask())) {
+                    return "Task title, status and dueDate are required and must fit their columns";
+                }
+            }
+            case STATUS -> {
+                if (!TaskValidator.isValidStatus(operation.getStatus())) {
+                    return "Status is required and must be at most " + Task.MAX_STATUS_LENGTH + " characters";
+                }
+            }
+            default -> {
+                // DELETE only needs an id
+            }
+        }
+        return null;
+    }
+    
+    private TaskOperationResult apply(int index, TaskOperation operation) {
+        Long id = operation.getId();
+        if (operation.getOp() == TaskOperation.Type.DELETE) {
+            Optional<Task> existing = taskRepository.findById(id);
+            if (existing.isEmpty() || !delete(existing.get())) {
+                return new TaskOperationResult(index, Outcome.NOT_FOUND, id, null, "Task not found");
+            }
+            return new TaskOperationResult(index, Outcome.DELETED, id, null, null);
+        }
+        Optional<Task> saved = operation.getOp() == TaskOperation.Type.UPDATE
+                ? tryUpdate(id, null, TaskOperation.Type.UPDATE, task -> copyDetails(operation.getTask(), task))
+                : tryUpdate(id, null, TaskOperation.Type.STATUS, task -> task.setStatus(operation.getStatus()));
+        return saved
+                .map(task -> new TaskOperationResult(index, Outcome.UPDATED, id, task, null))
+                .orElseGet(() -> new TaskOperationResult(index, Outcome.NOT_FOUND, id, null, "Task not found"));
+    }
+    
+    /**
+     * Applies a change to a copy of the current task and saves it with compare-and-set, so the
+     * stored task is never seen half updated and a concurrent update is never silently lost.
+     * If another writer gets in first, the change is re-applied to the task it saved, unless the
+     * caller asked for a specific version.
+     */
+    private Optional<Task> tryUpdate(Long id, Long expectedVersion, TaskOperation.Type type, Consumer<Task> change) {
+        while (true) {
+            Optional<Task> current = taskRepository.findById(id);
+            if (current.isEmpty()) {
+                return Optional.empty();
+            }
+            if (expectedVersion != null && current.get().getVersion() != expectedVersion) {
+                throw new TaskVersionConflictException(id, expectedVersion);
+            }
+            Task task = new Task(current.get());
+            change.accept(task);
+            Optional<Task> saved = taskRepository.compareAndSet(task);
+            if (saved.isPresent()) {
+                taskChangeFeed.append(type, id, saved.get());
+                return saved;
+            }
+        }
+    }
+    
+    /**
+     * Deletes a task and records the change only if this call removed it, so that of two racing
+     * deletes only one reports success and only one change is appended.
+     */
+    private boolean delete(Task task) {
+        if (!taskRepository.delete(task)) {
+            return false;
+        }
+        taskChangeFeed.append(TaskOperation.Type.DELETE, task.getId(), null);
+        return true;
+    }
+    
+    private static void copyDetails(Task details, Task task) {
+        task.setTitle(details.getTitle());
+        task.setDescription(details.getDescription());
+        task.setStatus(details.getStatus());
+        task.setDueDate(details.getDueDate());
     }
 }
\ No newline at end of file
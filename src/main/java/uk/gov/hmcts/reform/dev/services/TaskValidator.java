@@ -0,0 +1,41 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import uk.gov.hmcts.reform.dev.models.Task;
+
+/**
+ * Basic validation rules shared by single and batch task requests.
+ *
+ * <p>Lengths are limited to the JPA column sizes, so a task the in-memory stores accept is never
+ * rejected by the database.
+ */
+public final class TaskValidator {
+    
+    private TaskValidator() {
+    }
+    
+    /**
+     * Check that a task has all required fields and that none is too long.
+     *
+     * @param task Task to validate
+     * @return true if title, status and due date are present and title, description and status
+     *     fit their columns
+     */
+    public static boolean isValid(Task task) {
+        return task != null
+                && task.getTitle() != null && !task.getTitle().isEmpty()
+                && task.getTitle().length() <= Task.MAX_TITLE_LENGTH
+                && (task.getDescription() == null || task.getDescription().length() <= Task.MAX_DESCRIPTION_LENGTH)
+                && isValidStatus(task.getStatus())
+                && task.getDueDate() != null;
+    }
+    
+    /**
+     * Check a status given on its own, as in a status update.
+     *
+     * @param status Status to validate
+     * @return true if the status is present and at most {@value Task#MAX_STATUS_LENGTH} characters
+     */
+    public static boolean isValidStatus(String status) {
+        return status != null && !status.isEmpty() && status.length() <= Task.MAX_STATUS_LENGTH;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,76 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import uk.gov.hmcts.reform.dev.repositories.ClusterClient;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ClusterSecretFilterTest {
+
+    private final ClusterSecretFilter filter = new ClusterSecretFilter("secret");
+
+    @Test
+    void doFilter_WhenInternalRequestHasSecret_ShouldPassItOn() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = request("/internal/cluster/members");
+        request.addHeader(ClusterClient.SECRET_HEADER, "secret");
+        MockFilterChain chain = new MockFilterChain();
+
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // Assert
+        assertNotNull(chain.getRequest());
+    }
+
+    @Test
+    void doFilter_WhenInternalRequestHasWrongOrNoSecret_ShouldAnswerUnauthorized() throws Exception {
+        // Arrange
+        MockHttpServletRequest wrong = request("/internal/tasks/5");
+        wrong.addHeader(ClusterClient.SECRET_HEADER, "guess");
+        MockHttpServletResponse wrongResponse = new MockHttpServletResponse();
+        MockFilterChain wrongChain = new MockFilterChain();
+        MockHttpServletResponse missingResponse = new MockHttpServletResponse();
+        MockFilterChain missingChain = new MockFilterChain();
+
+        // Act
+        filter.doFilter(wrong, wrongResponse, wrongChain);
+        filter.doFilter(request("/internal"), missingResponse, missingChain);
+
+        // Assert
+        assertEquals(401, wrongResponse.getStatus());
+        assertNull(wrongChain.getRequest());
+        assertEquals(401, missingResponse.getStatus());
+        assertNull(missingChain.getRequest());
+    }
+
+    @Test
+    void doFilter_WhenRequestIsNotInternal_ShouldPassItOnWithoutSecret() throws Exception {
+        // Arrange
+        MockFilterChain chain = new MockFilterChain();
+
+        // Act
+        filter.doFilter(request("/internalised"), new MockHttpServletResponse(), chain);
+
+        // Assert
+        assertNotNull(chain.getRequest());
+    }
+
+    @Test
+    void constructor_WhenSecretIsBlank_ShouldRefuseToStart() {
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> new ClusterSecretFilter(" "));
+    }
+
+    private static MockHttpServletRequest request(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setServletPath(path);
+        return request;
+    }
+}
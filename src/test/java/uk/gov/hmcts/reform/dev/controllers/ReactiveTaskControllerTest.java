@@ -0,0 +1,126 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import uk.gov.hmcts.reform.dev.exceptions.TaskVersionConflictException;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.services.ReactiveTaskService;
+import uk.gov.hmcts.reform.dev.services.TaskMetrics;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@WebFluxTest(ReactiveTaskController.class)
+class ReactiveTaskControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private ReactiveTaskService taskService;
+
+    @MockBean
+    private TaskMetrics taskMetrics;
+
+    @Test
+    void getAllTasks_WhenNdjsonAccepted_ShouldStreamOneTaskPerLine() {
+        // Arrange
+        when(taskService.getAllTasks()).thenReturn(Flux.just(newTask(1L, "Task 1"), newTask(2L, "Task 2")));
+
+        // Act & Assert
+        webTestClient.get().uri("/api/tasks")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBodyList(Task.class)
+                .hasSize(2);
+    }
+
+    @Test
+    void getAllTasks_ShouldReturnJsonArray() {
+        // Arrange
+        when(taskService.getAllTasks()).thenReturn(Flux.just(newTask(1L, "Task 1"), newTask(2L, "Task 2")));
+
+        // Act & Assert
+        webTestClient.get().uri("/api/tasks")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].title").isEqualTo("Task 1")
+                .jsonPath("$[1].title").isEqualTo("Task 2");
+    }
+
+    @Test
+    void getTaskById_WhenTaskDoesNotExist_ShouldReturnNotFound() {
+        // Arrange
+        when(taskService.getTaskById(99L)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        webTestClient.get().uri("/api/tasks/99")
+                .exchange()
+                .expectStatus().isNotFound();
+        verify(taskMetrics).notFound(TaskMetrics.Operation.GET);
+    }
+
+    @Test
+    void createTask_WithValidData_ShouldReturnCreatedTask() {
+        // Arrange
+        Task task = newTask(1L, "New Task");
+        when(taskService.createTask(any(Task.class))).thenReturn(Mono.just(task));
+
+        // Act & Assert
+        webTestClient.post().uri("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(task)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(1);
+    }
+
+    @Test
+    void updateTaskStatus_WhenIfMatchIsStale_ShouldReturnPreconditionFailed() {
+        // Arrange
+        when(taskService.updateTaskStatus(eq(1L), eq("DONE"), eq(4L)))
+                .thenReturn(Mono.error(new TaskVersionConflictException(1L, 4L)));
+
+        // Act & Assert
+        webTestClient.patch().uri("/api/tasks/1/status")
+                .header("If-Match", "\"0-4\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("status", "DONE"))
+                .exchange()
+                .expectStatus().isEqualTo(412);
+    }
+
+    @Test
+    void deleteTask_WhenTaskExists_ShouldReturnNoContent() {
+        // Arrange
+        when(taskService.deleteTask(1L)).thenReturn(Mono.just(true));
+
+        // Act & Assert
+        webTestClient.delete().uri("/api/tasks/1")
+                .exchange()
+                .expectStatus().isNoContent();
+    }
+
+    private static Task newTask(Long id, String title) {
+        Task task = new Task(title, "Description", "PENDING", OffsetDateTime.of(2030, 1, 1, 9, 0, 0, 0, ZoneOffset.UTC));
+        task.setId(id);
+        return task;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,103 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskChange;
+import uk.gov.hmcts.reform.dev.models.TaskOperation;
+import uk.gov.hmcts.reform.dev.services.TaskChangeFeed;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(TaskChangeController.class)
+@Import(TaskChangeFeed.class)
+class TaskChangeControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskChangeFeed taskChangeFeed;
+
+    @Test
+    void streamChanges_ShouldSendChangesAfterLastEventId() throws Exception {
+        // Arrange
+        Task task = new Task("Task 1", "Description", "PENDING",
+                             OffsetDateTime.of(2030, 1, 1, 9, 0, 0, 0, ZoneOffset.UTC));
+        task.setId(1L);
+        TaskChange created = taskChangeFeed.append(TaskOperation.Type.CREATE, 1L, task).orElseThrow();
+        task.setVersion(1L);
+        TaskChange updated = taskChangeFeed.append(TaskOperation.Type.STATUS, 1L, task).orElseThrow();
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/api/tasks/changes")
+                        .header("Last-Event-ID", created.getSequence()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = awaitContent(result, "event:STATUS");
+
+        // Assert
+        assertTrue(body.contains("id:" + updated.getSequence()));
+        assertTrue(body.contains("\"title\":\"Task 1\""));
+        assertFalse(body.contains("event:CREATE"));
+    }
+
+    @Test
+    void streamChanges_WhenLastEventIdIsNoLongerHeld_ShouldSendResyncAndComplete() throws Exception {
+        // Act
+        MvcResult result = mockMvc.perform(get("/api/tasks/changes").header("Last-Event-ID", 1))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+
+        // Assert
+        String body = result.getResponse().getContentAsString();
+        assertTrue(body.contains("event:" + TaskChangeController.RESYNC));
+        assertTrue(body.contains("id:" + taskChangeFeed.lastSequence()));
+    }
+
+    @Test
+    void streamChanges_InClusterMode_ShouldReturnNotImplemented() {
+        // Arrange
+        TaskChangeController clustered = new TaskChangeController(taskChangeFeed, Duration.ofMinutes(1),
+                                                                  Duration.ofSeconds(1), true);
+
+        // Act
+        ResponseEntity<SseEmitter> response = clustered.streamChanges(null);
+
+        // Assert
+        assertEquals(HttpStatus.NOT_IMPLEMENTED, response.getStatusCode());
+        assertNull(response.getBody());
+        clustered.close();
+    }
+
+    private static String awaitContent(MvcResult result, String expected) throws Exception {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        String body = result.getResponse().getContentAsString();
+        while (!body.contains(expected) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            body = result.getResponse().getContentAsString();
+        }
+        assertTrue(body.contains(expected), body);
+        return body;
+    }
+}
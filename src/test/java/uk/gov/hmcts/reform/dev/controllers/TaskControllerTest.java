@@ -1,13 +1,32 @@
 package uk.gov.hmcts.reform.dev.controllers;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import uk.gov.hmcts.reform.dev.exceptions.TaskVersionConflictException;
 import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskOperation;
+import uk.gov.hmcts.reform.dev.models.TaskOperationResult;
+import uk.gov.hmcts.reform.dev.models.TaskOperationResult.Outcome;
+import uk.gov.hmcts.reform.dev.models.TaskPage;
+import uk.gov.hmcts.reform.dev.models.TaskSearchPage;
+import uk.gov.hmcts.reform.dev.services.TaskBinaryEncoder;
+import uk.gov.hmcts.reform.dev.services.TaskJsonCache;
+import uk.gov.hmcts.reform.dev.services.TaskMetrics;
+import uk.gov.hmcts.reform.dev.services.TaskSearchIndex;
 import uk.gov.hmcts.reform.dev.services.TaskService;
 
 import java.time.LocalDateTime;
@@ -16,16 +35,30 @@ import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.stream.Stream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(TaskController.class)
+@Import({TaskJsonCache.class, TaskBinaryEncoder.class})
 public class TaskControllerTest {
 
     @Autowired
@@ -34,9 +67,27 @@ public class TaskControllerTest {
     @MockBean
     private TaskService taskService;
 
+    @MockBean
+    private TaskMetrics taskMetrics;
+
+    @MockBean
+    private TaskSearchIndex taskSearchIndex;
+
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private TaskJsonCache taskJsonCache;
+
+    @Autowired
+    private TaskBinaryEncoder taskBinaryEncoder;
+
+    @BeforeEach
+    void clearJsonCache() {
+        // Tests reuse IDs and versions for different task contents
+        taskJsonCache.invalidateAll();
+    }
+
     @Test
     void getAllTasks_ShouldReturnAllTasks() throws Exception {
         // Arrange
@@ -61,6 +112,211 @@ public class TaskControllerTest {
                 .andExpect(jsonPath("$[1].title").value("Task 2"));
     }
 
+    @Test
+    void getTaskPage_WithLimitAndCursor_ShouldReturnPage() throws Exception {
+        // Arrange
+        OffsetDateTime offsetDateTime = LocalDateTime.now().plusDays(1).atOffset(ZoneOffset.UTC);
+        Task task = new Task("Task 3", "Description 3", "PENDING", offsetDateTime);
+        task.setId(3L);
+
+        when(taskService.getTaskPage(2L, 1)).thenReturn(new TaskPage(List.of(task), 3L));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks").param("limit", "1").param("after", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks[0].id").value(3))
+                .andExpect(jsonPath("$.nextCursor").value(3));
+    }
+
+    @Test
+    void getAllTasks_WhenCborAccepted_ShouldReturnCbor() throws Exception {
+        // Arrange
+        Task task = new Task("Task 1", "Description 1", "PENDING", OffsetDateTime.now().plusDays(1));
+        task.setId(1L);
+        when(taskService.getAllTasks()).thenReturn(List.of(task));
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/api/tasks").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andReturn();
+
+        // Assert
+        JsonNode tasks = new ObjectMapper(new CBORFactory()).readTree(result.getResponse().getContentAsByteArray());
+        assertEquals(1L, tasks.get(0).get("id").asLong());
+        assertEquals("Task 1", tasks.get(0).get("title").asText());
+    }
+
+    @Test
+    void getTaskPage_WhenSmileAccepted_ShouldReturnSmile() throws Exception {
+        // Arrange
+        Task task = new Task("Task 3", "Description 3", "PENDING", OffsetDateTime.now().plusDays(1));
+        task.setId(3L);
+        when(taskService.getTaskPage(2L, 1)).thenReturn(new TaskPage(List.of(task), 3L));
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/api/tasks").param("limit", "1").param("after", "2")
+                                                .accept(TaskBinaryEncoder.APPLICATION_SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(TaskBinaryEncoder.APPLICATION_SMILE))
+                .andReturn();
+
+        // Assert
+        JsonNode page = new ObjectMapper(new SmileFactory()).readTree(result.getResponse().getContentAsByteArray());
+        assertEquals(3L, page.get("tasks").get(0).get("id").asLong());
+        assertEquals(3L, page.get("nextCursor").asLong());
+    }
+
+    @Test
+    void getAllTasks_WhenJsonPreferredOverCbor_ShouldReturnJson() throws Exception {
+        // Arrange
+        Task task = new Task("Task 1", "Description 1", "PENDING", OffsetDateTime.now().plusDays(1));
+        task.setId(1L);
+        when(taskService.getAllTasks()).thenReturn(List.of(task));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks").header(HttpHeaders.ACCEPT, "application/cbor;q=0.5, application/json"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andExpect(jsonPath("$[0].id").value(1));
+    }
+
+    @Test
+    void getTaskPage_WithLimitOutOfRange_ShouldReturnBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/tasks").param("limit", String.valueOf(TaskController.MAX_PAGE_SIZE + 1)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void queryTasks_WithStatusAndDueDateRange_ShouldReturnMatches() throws Exception {
+        // Arrange
+        OffsetDateTime from = OffsetDateTime.of(2030, 1, 7, 0, 0, 0, 0, ZoneOffset.UTC);
+        OffsetDateTime to = from.plusDays(7);
+        Task task = new Task("Task 1", "Description 1", "PENDING", from.plusDays(1));
+        task.setId(1L);
+
+        when(taskService.findTasks("PENDING", from, to, TaskController.MAX_PAGE_SIZE)).thenReturn(List.of(task));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/query")
+                .param("status", "PENDING")
+                .param("dueFrom", from.toString())
+                .param("dueTo", to.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[0].status").value("PENDING"));
+    }
+
+    @Test
+    void queryTasks_WithoutFilters_ShouldReturnBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/query"))
+                .andExpect(status().isBadRequest());
+        verify(taskMetrics).rejected(TaskMetrics.Operation.QUERY);
+    }
+
+    @Test
+    void queryTasks_WithDueFromAfterDueTo_ShouldReturnBadRequest() throws Exception {
+        // Arrange
+        OffsetDateTime from = OffsetDateTime.of(2030, 1, 7, 0, 0, 0, 0, ZoneOffset.UTC);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/query")
+                .param("dueFrom", from.toString())
+                .param("dueTo", from.minusDays(1).toString()))
+                .andExpect(status().isBadRequest());
+        verify(taskMetrics).rejected(TaskMetrics.Operation.QUERY);
+        verify(taskService, never()).findTasks(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void getOverdueTasks_ShouldQueryOverdueStatus() throws Exception {
+        // Arrange
+        Task task = new Task("Task 1", "Description 1", "OVERDUE", OffsetDateTime.now().minusDays(1));
+        task.setId(1L);
+
+        when(taskService.findTasks("OVERDUE", null, null, 50)).thenReturn(List.of(task));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/overdue").param("limit", "50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[0].status").value("OVERDUE"));
+    }
+
+    @Test
+    void searchTasks_ShouldReturnRankedPage() throws Exception {
+        // Arrange
+        Task task = new Task("Review bundle", "Description 1", "PENDING", OffsetDateTime.now().plusDays(1));
+        task.setId(7L);
+
+        when(taskSearchIndex.search("review", 20, 1)).thenReturn(new TaskSearchPage(List.of(task), 42, 21));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/search").param("q", "review").param("offset", "20").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks[0].id").value(7))
+                .andExpect(jsonPath("$.total").value(42))
+                .andExpect(jsonPath("$.nextOffset").value(21));
+    }
+
+    @Test
+    void searchTasks_InClusterMode_ShouldReturnNotImplemented() {
+        // Arrange
+        TaskController clustered = new TaskController(taskService, taskJsonCache, taskMetrics, taskSearchIndex,
+                                                      taskBinaryEncoder, true);
+
+        // Act
+        ResponseEntity<byte[]> response = clustered.searchTasks("review", 0, 20, null);
+
+        // Assert
+        assertEquals(HttpStatus.NOT_IMPLEMENTED, response.getStatusCode());
+        verify(taskSearchIndex, never()).search(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void searchTasks_WithBlankQueryOrPagingOutOfRange_ShouldReturnBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/search").param("q", " "))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/tasks/search").param("q", "review")
+                .param("offset", String.valueOf(TaskController.MAX_SEARCH_OFFSET + 1)))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/tasks/search").param("q", "review").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+        verify(taskSearchIndex, never()).search(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void exportTasks_ShouldStreamOneJsonDocumentPerLine() throws Exception {
+        // Arrange
+        OffsetDateTime offsetDateTime = OffsetDateTime.of(2030, 1, 1, 9, 0, 0, 0, ZoneOffset.UTC);
+        Task task1 = new Task("Task 1", "Description 1", "PENDING", offsetDateTime);
+        task1.setId(1L);
+        Task task2 = new Task("Task 2", "Description 2", "DONE", offsetDateTime);
+        task2.setId(2L);
+
+        when(taskService.streamAllTasks()).thenReturn(Stream.of(task1, task2));
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/api/tasks/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(
+                        objectMapper.writeValueAsString(task1) + "\n"
+                                + objectMapper.writeValueAsString(task2) + "\n"));
+    }
+
     @Test
     void getTaskById_WhenTaskExists_ShouldReturnTask() throws Exception {
         // Arrange
@@ -69,7 +325,7 @@ public class TaskControllerTest {
         Task task = new Task("Task 1", "Description 1", "PENDING", offsetDateTime);
         task.setId(1L);
         
-        when(taskService.getTaskById(1L)).thenReturn(task);
+        when(taskService.findTaskById(1L)).thenReturn(Optional.of(task));
 
         // Act & Assert
         mockMvc.perform(get("/api/tasks/1"))
@@ -78,6 +334,127 @@ public class TaskControllerTest {
                 .andExpect(jsonPath("$.title").value("Task 1"));
     }
 
+    @Test
+    void getTaskById_ShouldReturnVersionAsEtag() throws Exception {
+        // Arrange
+        Task task = new Task("Task 1", "Description 1", "PENDING", OffsetDateTime.now(ZoneOffset.UTC).plusDays(1));
+        task.setId(1L);
+        task.setVersion(3L);
+        
+        when(taskService.findTaskById(1L)).thenReturn(Optional.of(task));
+        when(taskService.getIncarnation()).thenReturn(0x2aL);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "W/\"2a-3\""))
+                .andExpect(jsonPath("$.version").value(3));
+    }
+
+    @Test
+    void getTaskById_WhenEtagMatches_ShouldReturnNotModified() throws Exception {
+        // Arrange
+        Task task = new Task("Task 1", "Description 1", "PENDING", OffsetDateTime.now(ZoneOffset.UTC).plusDays(1));
+        task.setId(1L);
+        task.setVersion(3L);
+        
+        when(taskService.findTaskById(1L)).thenReturn(Optional.of(task));
+        when(taskService.getIncarnation()).thenReturn(0x2aL);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/1").header("If-None-Match", "W/\"2a-3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("Vary", "Accept"))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void getTaskById_WhenJsonEtagIsSentForCbor_ShouldReturnCborWithItsOwnEtag() throws Exception {
+        // Arrange
+        Task task = new Task("Task 1", "Description 1", "PENDING", OffsetDateTime.now(ZoneOffset.UTC).plusDays(1));
+        task.setId(1L);
+        task.setVersion(3L);
+        
+        when(taskService.findTaskById(1L)).thenReturn(Optional.of(task));
+        when(taskService.getIncarnation()).thenReturn(0x2aL);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/1").header("If-None-Match", "W/\"2a-3\"").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string("ETag", "W/\"2a-3-cbor\""));
+        mockMvc.perform(get("/api/tasks/1").header("If-None-Match", "W/\"2a-3-cbor\"")
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void getTaskById_WhenEtagIsFromAnotherIncarnation_ShouldReturnTask() throws Exception {
+        // Arrange
+        Task task = new Task("Task 1", "Description 1", "PENDING", OffsetDateTime.now(ZoneOffset.UTC).plusDays(1));
+        task.setId(1L);
+        task.setVersion(3L);
+        
+        when(taskService.findTaskById(1L)).thenReturn(Optional.of(task));
+        when(taskService.getIncarnation()).thenReturn(0x2bL);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/1").header("If-None-Match", "W/\"2a-3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "W/\"2b-3\""));
+    }
+
+    @Test
+    void getAllTasks_WhenEtagMatches_ShouldNotLoadTasks() throws Exception {
+        // Arrange
+        when(taskService.getModificationCount()).thenReturn(OptionalLong.of(255L));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks").header("If-None-Match", "W/\"ff\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "W/\"ff\""))
+                .andExpect(header().string("Vary", "Accept"));
+        verify(taskService, never()).getAllTasks();
+    }
+
+    @Test
+    void getAllTasks_WhenEtagIsForAnotherFormat_ShouldReturnTasks() throws Exception {
+        // Arrange
+        when(taskService.getModificationCount()).thenReturn(OptionalLong.of(255L));
+        when(taskService.getAllTasks()).thenReturn(List.of());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks").header("If-None-Match", "W/\"ff\"")
+                        .accept(TaskBinaryEncoder.APPLICATION_SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(TaskBinaryEncoder.APPLICATION_SMILE))
+                .andExpect(header().string("ETag", "W/\"ff-x-jackson-smile\""));
+    }
+
+    @Test
+    void getAllTasks_WhenTasksHaveChanged_ShouldReturnTasksWithNewEtag() throws Exception {
+        // Arrange
+        when(taskService.getModificationCount()).thenReturn(OptionalLong.of(256L));
+        when(taskService.getAllTasks()).thenReturn(List.of());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks").header("If-None-Match", "W/\"ff\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "W/\"100\""));
+    }
+
+    @Test
+    void getAllTasks_WhenRepositoryKeepsNoModificationCount_ShouldSendNoEtag() throws Exception {
+        // Arrange
+        when(taskService.getModificationCount()).thenReturn(OptionalLong.empty());
+        when(taskService.getAllTasks()).thenReturn(List.of());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks").header("If-None-Match", "\"ff\""))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("ETag"));
+    }
+
     @Test
     void createTask_WithValidData_ShouldReturnCreatedTask() throws Exception {
         // Arrange
@@ -97,6 +474,31 @@ public class TaskControllerTest {
                 .andExpect(jsonPath("$.title").value("New Task"));
     }
 
+    @Test
+    void applyBatch_ShouldReturnResultPerOperation() throws Exception {
+        // Arrange
+        OffsetDateTime offsetDateTime = LocalDateTime.now().plusDays(3).atOffset(ZoneOffset.UTC);
+        Task task = new Task("New Task", "New Description", "TODO", offsetDateTime);
+        task.setId(1L);
+        List<TaskOperation> operations = List.of(
+                new TaskOperation(TaskOperation.Type.CREATE, null, task, null),
+                new TaskOperation(TaskOperation.Type.DELETE, 7L, null, null));
+
+        when(taskService.applyBatch(anyList())).thenReturn(List.of(
+                new TaskOperationResult(0, Outcome.CREATED, 1L, task, null),
+                new TaskOperationResult(1, Outcome.NOT_FOUND, 7L, null, "Task not found")));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(operations)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value(201))
+                .andExpect(jsonPath("$[0].task.title").value("New Task"))
+                .andExpect(jsonPath("$[1].status").value(404))
+                .andExpect(jsonPath("$[1].error").value("Task not found"));
+    }
+
     @Test
     void updateTaskStatus_WithValidStatus_ShouldReturnUpdatedTask() throws Exception {
         // Arrange
@@ -108,7 +510,7 @@ public class TaskControllerTest {
         Map<String, String> statusUpdate = new HashMap<>();
         statusUpdate.put("status", "DONE");
         
-        when(taskService.updateTaskStatus(eq(1L), eq("DONE"))).thenReturn(task);
+        when(taskService.tryUpdateTaskStatus(eq(1L), eq("DONE"), isNull())).thenReturn(Optional.of(task));
 
         // Act & Assert
         mockMvc.perform(patch("/api/tasks/1/status")
@@ -118,4 +520,142 @@ public class TaskControllerTest {
                 .andExpect(jsonPath("$.id").value(1))
                 .andExpect(jsonPath("$.status").value("DONE"));
     }
+
+    @Test
+    void updateTask_WhenIfMatchIsCurrent_ShouldPassExpectedVersion() throws Exception {
+        // Arrange
+        OffsetDateTime offsetDateTime = LocalDateTime.now().plusDays(1).atOffset(ZoneOffset.UTC);
+        Task task = new Task("Task 1", "Description 1", "PENDING", offsetDateTime);
+        task.setId(1L);
+        task.setVersion(5L);
+        
+        when(taskService.tryUpdateTask(eq(1L), any(Task.class), eq(4L))).thenReturn(Optional.of(task));
+
+        // Act & Assert
+        mockMvc.perform(put("/api/tasks/1")
+                .header("If-Match", "\"0-4\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(task)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "W/\"0-5\""));
+    }
+
+    @Test
+    void updateTask_WhenIfMatchIsWeakTagForAnotherFormat_ShouldPassExpectedVersion() throws Exception {
+        // Arrange
+        OffsetDateTime offsetDateTime = LocalDateTime.now().plusDays(1).atOffset(ZoneOffset.UTC);
+        Task task = new Task("Task 1", "Description 1", "PENDING", offsetDateTime);
+        task.setId(1L);
+        task.setVersion(5L);
+        
+        when(taskService.tryUpdateTask(eq(1L), any(Task.class), eq(4L))).thenReturn(Optional.of(task));
+
+        // Act & Assert
+        mockMvc.perform(put("/api/tasks/1")
+                .header("If-Match", "W/\"0-4-cbor\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(task)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().string("ETag", "W/\"0-5\""));
+    }
+
+    @Test
+    void updateTaskStatus_WhenIfMatchIsFromAnotherIncarnation_ShouldReturnPreconditionFailed() throws Exception {
+        // Arrange
+        when(taskService.getIncarnation()).thenReturn(0x2bL);
+        when(taskService.tryUpdateTaskStatus(eq(1L), eq("DONE"), eq(-1L)))
+                .thenThrow(new TaskVersionConflictException(1L, -1L));
+
+        // Act & Assert
+        mockMvc.perform(put("/api/tasks/1/status")
+                .header("If-Match", "\"2a-4\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("status", "DONE"))))
+                .andExpect(status().isPreconditionFailed());
+        verify(taskService, never()).tryUpdateTaskStatus(eq(1L), eq("DONE"), eq(4L));
+    }
+
+    @Test
+    void updateTaskStatus_WhenIfMatchIsStale_ShouldReturnPreconditionFailed() throws Exception {
+        // Arrange
+        when(taskService.tryUpdateTaskStatus(eq(1L), eq("DONE"), eq(4L)))
+                .thenThrow(new TaskVersionConflictException(1L, 4L));
+
+        // Act & Assert
+        mockMvc.perform(put("/api/tasks/1/status")
+                .header("If-Match", "\"0-4\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("status", "DONE"))))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void createTask_WithoutTitle_ShouldReturnBadRequestAndCountRejection() throws Exception {
+        // Arrange
+        Task task = new Task(null, "Description", "PENDING", OffsetDateTime.of(2030, 1, 1, 9, 0, 0, 0, ZoneOffset.UTC));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(task)))
+                .andExpect(status().isBadRequest());
+        verify(taskMetrics).rejected(TaskMetrics.Operation.CREATE);
+        verify(taskService, never()).createTask(any(Task.class));
+    }
+
+    @Test
+    void createTask_WhenFieldsExceedColumnLengths_ShouldReturnBadRequest() throws Exception {
+        // Arrange
+        OffsetDateTime dueDate = OffsetDateTime.of(2030, 1, 1, 9, 0, 0, 0, ZoneOffset.UTC);
+        Task longStatus = new Task("Title", "Description", "S".repeat(Task.MAX_STATUS_LENGTH + 1), dueDate);
+        Task longDescription = new Task("Title", "D".repeat(Task.MAX_DESCRIPTION_LENGTH + 1), "PENDING", dueDate);
+
+        // Act & Assert
+        for (Task task : List.of(longStatus, longDescription)) {
+            mockMvc.perform(post("/api/tasks")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(task)))
+                    .andExpect(status().isBadRequest());
+        }
+        mockMvc.perform(patch("/api/tasks/1/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("status", "S".repeat(Task.MAX_STATUS_LENGTH + 1)))))
+                .andExpect(status().isBadRequest());
+        verify(taskService, never()).createTask(any(Task.class));
+        verify(taskService, never()).tryUpdateTaskStatus(any(), any(), any());
+    }
+
+    @Test
+    void deleteTask_WhenTaskDoesNotExist_ShouldReturnNotFoundAndCountIt() throws Exception {
+        // Arrange
+        when(taskService.tryDeleteTask(99L)).thenReturn(false);
+
+        // Act & Assert
+        mockMvc.perform(delete("/api/tasks/99"))
+                .andExpect(status().isNotFound());
+        verify(taskMetrics).notFound(TaskMetrics.Operation.DELETE);
+    }
+
+    @Test
+    void getTaskById_WhenTaskDoesNotExist_ShouldReturnNotFound() throws Exception {
+        // Arrange
+        when(taskService.findTaskById(99L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/99"))
+                .andExpect(status().isNotFound());
+        verify(taskMetrics).notFound(TaskMetrics.Operation.GET);
+    }
+
+    @Test
+    void getTaskById_WhenLookupFails_ShouldReturnServerErrorRatherThanNotFound() throws Exception {
+        // Arrange
+        when(taskService.findTaskById(1L)).thenThrow(new IllegalStateException("Store unavailable"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/1"))
+                .andExpect(status().isInternalServerError());
+        verify(taskMetrics, never()).notFound(any());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,49 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import uk.gov.hmcts.reform.dev.models.TaskStats;
+import uk.gov.hmcts.reform.dev.services.TaskService;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(TaskStatsController.class)
+class TaskStatsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private TaskService taskService;
+
+    @Test
+    void getStats_ShouldReturnCountsForTodayLeavingOutFinishedTasks() throws Exception {
+        // Arrange
+        TaskStats stats = new TaskStats(LocalDate.of(2030, 1, 2), 5, Map.of("PENDING", 3L, "COMPLETED", 2L), 1, 1, 2);
+        when(taskService.getStats(any(LocalDate.class), eq(ZoneId.of("Europe/London")), eq(Set.of("COMPLETED"))))
+                .thenReturn(stats);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.date").value("2030-01-02"))
+                .andExpect(jsonPath("$.total").value(5))
+                .andExpect(jsonPath("$.byStatus.PENDING").value(3))
+                .andExpect(jsonPath("$.overdue").value(1))
+                .andExpect(jsonPath("$.dueToday").value(1))
+                .andExpect(jsonPath("$.dueThisWeek").value(2));
+    }
+}
@@ -0,0 +1,101 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BlockLeasedIdGeneratorTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void nextId_ShouldHandOutEachBlockBeforeLeasingTheNext() throws Exception {
+        // Arrange
+        Path file = directory.resolve("ids/next-block");
+        BlockLeasedIdGenerator generator = new BlockLeasedIdGenerator(file, 3);
+
+        // Act
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            ids.add(generator.nextId());
+        }
+
+        // Assert
+        assertEquals(LongStream.rangeClosed(1, 7).boxed().toList(), ids);
+        assertEquals(7, generator.lastId());
+        assertEquals(10, Long.parseLong(Files.readString(file).trim()));
+    }
+
+    @Test
+    void nextId_AfterRestart_ShouldSkipTheRestOfTheLeasedBlock() {
+        // Arrange
+        Path file = directory.resolve("next-block");
+        BlockLeasedIdGenerator generator = new BlockLeasedIdGenerator(file, 100);
+        for (int i = 0; i < 5; i++) {
+            generator.nextId();
+        }
+
+        // Act
+        long next = new BlockLeasedIdGenerator(file, 100).nextId();
+
+        // Assert
+        assertEquals(101, next);
+    }
+
+    @Test
+    void nextId_WhenInstancesShareTheFile_ShouldGiveDisjointIds() {
+        // Arrange
+        Path file = directory.resolve("next-block");
+        BlockLeasedIdGenerator first = new BlockLeasedIdGenerator(file, 10);
+        BlockLeasedIdGenerator second = new BlockLeasedIdGenerator(file, 10);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+        // Act
+        for (int i = 0; i < 50; i++) {
+            assertTrue(ids.add(first.nextId()));
+            assertTrue(ids.add(second.nextId()));
+        }
+
+        // Assert
+        assertEquals(100, ids.size());
+    }
+
+    @Test
+    void nextId_FromManyThreads_ShouldNeverRepeat() throws Exception {
+        // Arrange
+        BlockLeasedIdGenerator generator = new BlockLeasedIdGenerator(directory.resolve("next-block"), 64);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+        // Act
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<Future<?>> runs = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                runs.add(executor.submit(() -> {
+                    for (int i = 0; i < 5_000; i++) {
+                        assertTrue(ids.add(generator.nextId()));
+                    }
+                }));
+            }
+            for (Future<?> run : runs) {
+                run.get();
+            }
+        }
+
+        // Assert
+        assertEquals(40_000, ids.size());
+    }
+}
@@ -0,0 +1,141 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.dev.models.Task;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class CachingTaskRepositoryTest {
+
+    private InMemoryTaskRepository store;
+    private MeterRegistry registry;
+    private CachingTaskRepository taskRepository;
+
+    @BeforeEach
+    void setUp() {
+        store = spy(new InMemoryTaskRepository());
+        registry = new SimpleMeterRegistry();
+        taskRepository = new CachingTaskRepository(store, Caffeine.newBuilder().maximumSize(100), registry);
+    }
+
+    @Test
+    void findById_WhenTaskIsCached_ShouldNotQueryStore() {
+        // Arrange
+        Task saved = store.save(newTask("Task 1"));
+
+        // Act
+        taskRepository.findById(saved.getId());
+        Task found = taskRepository.findById(saved.getId()).orElseThrow();
+
+        // Assert
+        assertEquals("Task 1", found.getTitle());
+        verify(store, times(1)).findById(saved.getId());
+        assertEquals(1.0, gets("hit"));
+        assertEquals(1.0, gets("miss"));
+    }
+
+    @Test
+    void findById_WhenTaskDoesNotExist_ShouldNotCacheMiss() {
+        // Act
+        taskRepository.findById(42L);
+        boolean found = taskRepository.findById(42L).isPresent();
+
+        // Assert
+        assertFalse(found);
+        verify(store, times(2)).findById(42L);
+    }
+
+    @Test
+    void save_WhenTaskIsNew_ShouldWriteThrough() {
+        // Act
+        Task saved = taskRepository.save(newTask("Task 1"));
+        taskRepository.findById(saved.getId());
+
+        // Assert
+        verify(store, times(0)).findById(saved.getId());
+    }
+
+    @Test
+    void save_WhenTaskIsUpdated_ShouldReturnNewValueOnNextLookup() {
+        // Arrange
+        Task saved = taskRepository.save(newTask("Task 1"));
+        taskRepository.findById(saved.getId());
+        Task update = new Task(saved);
+        update.setStatus("COMPLETED");
+
+        // Act
+        taskRepository.save(update);
+
+        // Assert
+        assertEquals("COMPLETED", taskRepository.findById(saved.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void saveAll_WhenTasksAreUpdated_ShouldInvalidateThem() {
+        // Arrange
+        List<Task> saved = taskRepository.saveAll(List.of(newTask("Task 1"), newTask("Task 2")));
+        Task update = new Task(saved.get(1));
+        update.setTitle("Renamed");
+
+        // Act
+        taskRepository.saveAll(List.of(update));
+
+        // Assert
+        assertEquals("Task 1", taskRepository.findById(saved.get(0).getId()).orElseThrow().getTitle());
+        assertEquals("Renamed", taskRepository.findById(saved.get(1).getId()).orElseThrow().getTitle());
+    }
+
+    @Test
+    void delete_ShouldInvalidateCachedTask() {
+        // Arrange
+        Task saved = taskRepository.save(newTask("Task 1"));
+        taskRepository.findById(saved.getId());
+
+        // Act
+        taskRepository.delete(saved);
+
+        // Assert
+        assertFalse(taskRepository.findById(saved.getId()).isPresent());
+    }
+
+    @Test
+    void findById_WhenCacheIsFull_ShouldEvictAndRecordEvictions() {
+        // Arrange
+        MeterRegistry smallCacheRegistry = new SimpleMeterRegistry();
+        taskRepository = new CachingTaskRepository(store,
+            Caffeine.newBuilder().maximumSize(2).executor(Runnable::run), smallCacheRegistry);
+        for (int i = 0; i < 10; i++) {
+            store.save(newTask("Task " + i));
+        }
+
+        // Act
+        for (long id = 1; id <= 10; id++) {
+            assertTrue(taskRepository.findById(id).isPresent());
+        }
+
+        // Assert
+        assertTrue(taskRepository.findById(1L).isPresent());
+        assertTrue(smallCacheRegistry.get("cache.evictions").functionCounter().count() > 0);
+    }
+
+    private double gets(String result) {
+        return registry.get("cache.gets").tag("result", result).functionCounter().count();
+    }
+
+    private static Task newTask(String title) {
+        return new Task(title, "Description", "PENDING", OffsetDateTime.of(2030, 1, 1, 9, 0, 0, 0, ZoneOffset.UTC));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,175 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.dev.exceptions.ClusterUnavailableException;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskPage;
+import uk.gov.hmcts.reform.dev.models.TaskStats;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ClusterClientTest {
+
+    private static final String TASK_JSON = "{\"id\":5,\"title\":\"Task\",\"description\":\"Description\","
+        + "\"status\":\"PENDING\",\"dueDate\":\"2030-01-01T09:00:00.000Z\",\"version\":3}";
+
+    private final Map<String, String> requests = new ConcurrentHashMap<>();
+    private HttpServer server;
+    private String node;
+    private ClusterClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.start();
+        node = "http://localhost:" + server.getAddress().getPort();
+        ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        client = new ClusterClient(mapper, Duration.ofSeconds(5), "secret");
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void readTask_ShouldKeepVersion() {
+        // Act
+        Task task = client.readTask(TASK_JSON.getBytes(StandardCharsets.UTF_8));
+
+        // Assert
+        assertEquals(5L, task.getId());
+        assertEquals(3, task.getVersion());
+        assertEquals(OffsetDateTime.of(2030, 1, 1, 9, 0, 0, 0, ZoneOffset.UTC), task.getDueDate());
+    }
+
+    @Test
+    void findById_ShouldSendHopsAndReadTaskWithVersion() {
+        // Arrange
+        respond("/internal/tasks/5", 200, TASK_JSON);
+
+        // Act
+        Task task = client.findById(node, 5, 1).orElseThrow();
+
+        // Assert
+        assertEquals(3, task.getVersion());
+        assertEquals("GET 1", requests.get("/internal/tasks/5"));
+    }
+
+    @Test
+    void findById_WhenOwnerAnswersNotFound_ShouldReturnEmpty() {
+        // Arrange
+        respond("/internal/tasks/5", 404, "");
+
+        // Act
+        Optional<Task> task = client.findById(node, 5, 1);
+
+        // Assert
+        assertFalse(task.isPresent());
+    }
+
+    @Test
+    void compareAndSet_WhenOwnerAnswersConflict_ShouldReturnEmpty() {
+        // Arrange
+        respond("/internal/tasks/5/cas", 409, "");
+        Task task = client.readTask(TASK_JSON.getBytes(StandardCharsets.UTF_8));
+
+        // Act
+        Optional<Task> saved = client.compareAndSet(node, task, 1);
+
+        // Assert
+        assertFalse(saved.isPresent());
+        assertEquals("POST 1", requests.get("/internal/tasks/5/cas"));
+    }
+
+    @Test
+    void findPage_ShouldReadPage() {
+        // Arrange
+        respond("/internal/tasks", 200, "{\"tasks\":[" + TASK_JSON + "],\"nextCursor\":5}");
+
+        // Act
+        TaskPage page = ClusterClient.await(client.findPage(node, 2L, 1));
+
+        // Assert
+        assertEquals(5L, page.getNextCursor());
+        assertEquals(3, page.getTasks().get(0).getVersion());
+        assertEquals("GET 0 limit=1&after=2", requests.get("/internal/tasks"));
+    }
+
+    @Test
+    void stats_ShouldRepeatClosedStatusesAndReadStats() {
+        // Arrange
+        respond("/internal/tasks/stats", 200, "{\"date\":\"2030-01-01\",\"total\":4,\"byStatus\":{\"PENDING\":4},"
+            + "\"overdue\":1,\"dueToday\":2,\"dueThisWeek\":3}");
+
+        // Act
+        TaskStats stats = ClusterClient.await(client.stats(node, LocalDate.of(2030, 1, 1), ZoneId.of("Europe/London"),
+                                                           new LinkedHashSet<>(List.of("COMPLETED", "CLOSED"))));
+
+        // Assert
+        assertEquals(4, stats.getTotal());
+        assertEquals(Map.of("PENDING", 4L), stats.getByStatus());
+        assertEquals(3, stats.getDueThisWeek());
+        assertEquals("GET 0 date=2030-01-01&zone=Europe%2FLondon&closed=COMPLETED&closed=CLOSED",
+                     requests.get("/internal/tasks/stats"));
+    }
+
+    @Test
+    void save_WhenOwnerFails_ShouldThrowClusterUnavailable() {
+        // Arrange
+        respond("/internal/tasks/5", 500, "{\"error\":\"boom\"}");
+        Task task = client.readTask(TASK_JSON.getBytes(StandardCharsets.UTF_8));
+
+        // Act & Assert
+        assertThrows(ClusterUnavailableException.class, () -> client.save(node, task, 1));
+    }
+
+    @Test
+    void findById_WhenOwnerIsUnreachable_ShouldThrowClusterUnavailable() {
+        // Arrange
+        server.stop(0);
+
+        // Act & Assert
+        assertThrows(ClusterUnavailableException.class, () -> client.findById(node, 5, 1));
+    }
+
+    private void respond(String path, int status, String body) {
+        server.createContext(path, exchange -> {
+            String query = exchange.getRequestURI().getRawQuery();
+            String hops = exchange.getRequestHeaders().getFirst(ClusterClient.HOPS_HEADER);
+            String secret = exchange.getRequestHeaders().getFirst(ClusterClient.SECRET_HEADER);
+            requests.put(exchange.getRequestURI().getPath(), exchange.getRequestMethod() + " " + hops
+                + (query == null ? "" : " " + query) + ("secret".equals(secret) ? "" : " without secret"));
+            exchange.getRequestBody().readAllBytes();
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+    }
+}
@@ -0,0 +1,271 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskPage;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ColumnarTaskRepositoryTest {
+
+    private static final OffsetDateTime DUE_DATE = OffsetDateTime.of(2030, 1, 1, 9, 0, 0, 0, ZoneOffset.UTC);
+
+    private ColumnarTaskRepository taskRepository;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository = new ColumnarTaskRepository();
+    }
+
+    @Test
+    void findById_ShouldRebuildAllFields() {
+        // Arrange
+        OffsetDateTime dueDate = OffsetDateTime.of(2030, 6, 1, 9, 30, 15, 123_000_000,
+                                                   ZoneOffset.ofHoursMinutes(5, 30));
+        Task task = new Task("Révision du dossier", "Ünïcode description", "IN_PROGRESS", dueDate);
+
+        // Act
+        Task saved = taskRepository.save(task);
+        Task found = taskRepository.findById(saved.getId()).orElseThrow();
+
+        // Assert
+        assertEquals(1L, found.getId());
+        assertEquals(0L, found.getVersion());
+        assertEquals("Révision du dossier", found.getTitle());
+        assertEquals("Ünïcode description", found.getDescription());
+        assertEquals("IN_PROGRESS", found.getStatus());
+        assertEquals(dueDate, found.getDueDate());
+        assertNotSame(task, found);
+    }
+
+    @Test
+    void findById_WhenOptionalFieldsAreNullOrEmpty_ShouldKeepThemDistinct() {
+        // Arrange
+        Task saved = taskRepository.save(new Task("", null, "PENDING", DUE_DATE));
+
+        // Act
+        Task found = taskRepository.findById(saved.getId()).orElseThrow();
+
+        // Assert
+        assertEquals("", found.getTitle());
+        assertNull(found.getDescription());
+    }
+
+    @Test
+    void save_WhenTaskExists_ShouldIncrementVersionAndModificationCount() {
+        // Arrange
+        Task saved = taskRepository.save(newTask("Task 1"));
+        long modificationCount = taskRepository.modificationCount().getAsLong();
+        Task update = new Task(saved);
+        update.setTitle("Renamed");
+
+        // Act
+        Task updated = taskRepository.save(update);
+
+        // Assert
+        assertEquals(1L, updated.getVersion());
+        assertEquals("Renamed", taskRepository.findById(saved.getId()).orElseThrow().getTitle());
+        assertTrue(taskRepository.modificationCount().getAsLong() > modificationCount);
+    }
+
+    @Test
+    void compareAndSet_WhenVersionIsStale_ShouldRejectWrite() {
+        // Arrange
+        Task saved = taskRepository.save(newTask("Task 1"));
+        Task first = new Task(saved);
+        first.setTitle("First");
+        Task second = new Task(saved);
+        second.setTitle("Second");
+
+        // Act
+        boolean firstApplied = taskRepository.compareAndSet(first).isPresent();
+        boolean secondApplied = taskRepository.compareAndSet(second).isPresent();
+
+        // Assert
+        assertTrue(firstApplied);
+        assertFalse(secondApplied);
+        assertEquals("First", taskRepository.findById(saved.getId()).orElseThrow().getTitle());
+    }
+
+    @Test
+    void importAll_ShouldKeepIdsAndVersionsAndReplaceExistingTasks() {
+        // Arrange
+        Task existing = taskRepository.save(newTask("Task 1"));
+        Task replacement = newTask("Replaced");
+        replacement.setId(existing.getId());
+        replacement.setVersion(7);
+        Task moved = newTask("Moved");
+        moved.setId(1_000_000L);
+        moved.setVersion(3);
+
+        // Act
+        taskRepository.importAll(List.of(replacement, moved));
+
+        // Assert
+        Task found = taskRepository.findById(existing.getId()).orElseThrow();
+        assertEquals("Replaced", found.getTitle());
+        assertEquals(7, found.getVersion());
+        assertEquals(3, taskRepository.findById(1_000_000L).orElseThrow().getVersion());
+        assertEquals(2, taskRepository.count());
+        assertEquals(Map.of("PENDING", 2L), taskRepository.countByStatus());
+        assertTrue(taskRepository.compareAndSet(new Task(found)).isPresent());
+    }
+
+    @Test
+    void delete_ShouldRemoveTaskAndReuseItsSlot() {
+        // Arrange
+        Task first = taskRepository.save(newTask("Task 1"));
+        taskRepository.save(newTask("Task 2"));
+
+        // Act
+        boolean deleted = taskRepository.delete(first);
+        boolean deletedAgain = taskRepository.delete(first);
+        Task third = taskRepository.save(newTask("Task 3"));
+
+        // Assert
+        assertTrue(deleted);
+        assertFalse(deletedAgain);
+        assertFalse(taskRepository.findById(first.getId()).isPresent());
+        assertEquals("Task 3", taskRepository.findById(third.getId()).orElseThrow().getTitle());
+        assertEquals(List.of("Task 2", "Task 3"), titles(taskRepository.findAll()));
+    }
+
+    @Test
+    void findPage_ShouldWalkTasksInIdOrderSkippingDeletes() {
+        // Arrange
+        List<Task> saved = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            saved.add(taskRepository.save(newTask("Task " + i)));
+        }
+        taskRepository.delete(saved.get(3));
+        Task explicit = newTask("Task 4b");
+        explicit.setId(4L);
+        taskRepository.save(explicit);
+        taskRepository.delete(saved.get(9));
+
+        // Act
+        TaskPage first = taskRepository.findPage(null, 4);
+        TaskPage second = taskRepository.findPage(first.getNextCursor(), 4);
+        TaskPage last = taskRepository.findPage(second.getNextCursor(), 4);
+
+        // Assert
+        assertEquals(List.of("Task 1", "Task 2", "Task 3", "Task 4b"), titles(first.getTasks()));
+        assertEquals(List.of("Task 5", "Task 6", "Task 7", "Task 8"), titles(second.getTasks()));
+        assertEquals(List.of("Task 9"), titles(last.getTasks()));
+        assertNull(last.getNextCursor());
+        assertEquals(9, taskRepository.stream().count());
+    }
+
+    @Test
+    void findByQuery_ShouldFilterByStatusAndOrderByDueDate() {
+        // Arrange
+        for (int i = 0; i < 10; i++) {
+            taskRepository.save(new Task("Task " + i, "Description", i % 2 == 0 ? "PENDING" : "COMPLETED",
+                                         DUE_DATE.minusHours(i)));
+        }
+
+        // Act
+        List<Task> pending = taskRepository.findByQuery("PENDING", null, null, 10);
+        List<Task> dueSoon = taskRepository.findByQuery("PENDING", DUE_DATE.minusHours(6), DUE_DATE, 2);
+        List<Task> unknown = taskRepository.findByQuery("UNKNOWN", null, null, 10);
+
+        // Assert
+        assertEquals(List.of("Task 0", "Task 2", "Task 4", "Task 6", "Task 8"), titles(pending));
+        assertEquals(List.of("Task 6", "Task 4"), titles(dueSoon));
+        assertTrue(unknown.isEmpty());
+    }
+
+    @Test
+    void countByStatus_ShouldFollowStatusChangesAndDeletes() {
+        // Arrange
+        Task first = taskRepository.save(newTask("Task 1"));
+        Task second = taskRepository.save(newTask("Task 2"));
+        taskRepository.save(newTask("Task 3"));
+        Task update = new Task(first);
+        update.setStatus("COMPLETED");
+
+        // Act
+        taskRepository.save(update);
+        taskRepository.delete(second);
+
+        // Assert
+        assertEquals(2L, taskRepository.count());
+        assertEquals(Map.of("PENDING", 1L, "COMPLETED", 1L), taskRepository.countByStatus());
+    }
+
+    @Test
+    void save_WhenStatusDictionaryIsFull_ShouldKeepNewStatusesAsStrings() {
+        // Arrange
+        for (int i = 0; i <= Short.MAX_VALUE; i++) {
+            taskRepository.save(new Task("Filler", null, "STATUS_" + i, DUE_DATE));
+        }
+
+        // Act
+        Task first = taskRepository.save(new Task("First", null, "OVERFLOW_A", DUE_DATE));
+        Task second = taskRepository.save(new Task("Second", null, "OVERFLOW_B", DUE_DATE.plusDays(1)));
+        Task moved = taskRepository.save(new Task("Moved", null, "OVERFLOW_A", DUE_DATE));
+        moved.setStatus("STATUS_7");
+        taskRepository.save(moved);
+
+        // Assert
+        assertEquals("OVERFLOW_A", taskRepository.findById(first.getId()).orElseThrow().getStatus());
+        assertEquals("OVERFLOW_B", taskRepository.findById(second.getId()).orElseThrow().getStatus());
+        assertEquals(List.of("First"), titles(taskRepository.findByQuery("OVERFLOW_A", null, null, 10)));
+        assertEquals(List.of("Second"), titles(taskRepository.findByQuery("OVERFLOW_B", DUE_DATE, null, 10)));
+        assertEquals(List.of("Filler", "Moved"), titles(taskRepository.findByQuery("STATUS_7", null, null, 10)));
+        assertEquals(1L, taskRepository.countByStatus().get("OVERFLOW_A"));
+        taskRepository.delete(first);
+        assertTrue(taskRepository.findByQuery("OVERFLOW_A", null, null, 10).isEmpty());
+        assertEquals(0L, taskRepository.countByStatus().get("OVERFLOW_A"));
+    }
+
+    @Test
+    void save_WhenCalledConcurrently_ShouldNotLoseAnyTask() throws Exception {
+        // Arrange
+        int threads = 8;
+        int tasksPerThread = 2_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // Act
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < tasksPerThread; i++) {
+                    taskRepository.save(newTask("Task"));
+                    taskRepository.findPage(null, 10);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // Assert
+        assertEquals(threads * tasksPerThread, taskRepository.count());
+        assertEquals(threads * tasksPerThread, taskRepository.stream().map(Task::getId).distinct().count());
+    }
+
+    private static List<String> titles(List<Task> tasks) {
+        return tasks.stream().map(Task::getTitle).collect(Collectors.toList());
+    }
+
+    private static Task newTask(String title) {
+        return new Task(title, "Description", "PENDING", DUE_DATE);
+    }
+}
\ No newline at end of file
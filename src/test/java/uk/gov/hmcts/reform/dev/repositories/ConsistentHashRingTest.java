@@ -0,0 +1,85 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConsistentHashRingTest {
+
+    private static final List<String> THREE = List.of("http://a:4000", "http://b:4000", "http://c:4000");
+
+    @Test
+    void owners_ShouldNotDependOnMemberOrder() {
+        // Act
+        ConsistentHashRing ring = new ConsistentHashRing(THREE);
+        ConsistentHashRing reversed = new ConsistentHashRing(THREE.reversed());
+
+        // Assert
+        assertArrayEquals(ring.owners(), reversed.owners());
+        assertEquals(THREE, reversed.members());
+    }
+
+    @Test
+    void owners_ShouldSpreadPartitionsEvenlyOverMembers() {
+        // Act
+        Map<String, Long> shares = shares(new ConsistentHashRing(THREE));
+
+        // Assert
+        assertEquals(3, shares.size());
+        shares.values().forEach(share -> assertTrue(share > 50 && share < 120, "share " + share));
+    }
+
+    @Test
+    void owners_WhenMemberIsAdded_ShouldOnlyMovePartitionsToIt() {
+        // Arrange
+        ConsistentHashRing before = new ConsistentHashRing(THREE);
+
+        // Act
+        ConsistentHashRing after = new ConsistentHashRing(List.of(
+            "http://a:4000", "http://b:4000", "http://c:4000", "http://d:4000"));
+
+        // Assert
+        long moved = 0;
+        for (int partition = 0; partition < ConsistentHashRing.PARTITIONS; partition++) {
+            if (!before.owner(partition).equals(after.owner(partition))) {
+                assertEquals("http://d:4000", after.owner(partition));
+                moved++;
+            }
+        }
+        assertTrue(moved > 35 && moved < 100, "moved " + moved);
+    }
+
+    @Test
+    void partition_ShouldSpreadSequentialIdsEvenly() {
+        // Act
+        Map<Integer, Long> counts = LongStream.rangeClosed(1, 256_000)
+            .mapToObj(id -> ConsistentHashRing.partition(id))
+            .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+
+        // Assert
+        assertEquals(ConsistentHashRing.PARTITIONS, counts.size());
+        IntStream.range(0, ConsistentHashRing.PARTITIONS).forEach(partition ->
+            assertTrue(counts.get(partition) > 850 && counts.get(partition) < 1150));
+    }
+
+    @Test
+    void constructor_WhenThereAreNoMembers_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new ConsistentHashRing(List.of()));
+    }
+
+    private static Map<String, Long> shares(ConsistentHashRing ring) {
+        return IntStream.range(0, ConsistentHashRing.PARTITIONS)
+            .mapToObj(ring::owner)
+            .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+    }
+}
@@ -0,0 +1,343 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskPage;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InMemoryTaskRepositoryTest {
+
+    private static final int THREADS = Math.max(8, Runtime.getRuntime().availableProcessors() * 2);
+    private static final int TASKS_PER_THREAD = 5_000;
+
+    private InMemoryTaskRepository taskRepository;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository = new InMemoryTaskRepository();
+    }
+
+    @Test
+    void save_WhenTaskHasNoId_ShouldAssignId() {
+        // Act
+        Task saved = taskRepository.save(newTask("Task 1"));
+
+        // Assert
+        assertEquals(1L, saved.getId());
+        assertTrue(taskRepository.findById(1L).isPresent());
+    }
+
+    @Test
+    void save_WhenTaskExists_ShouldIncrementVersionAndModificationCount() {
+        // Arrange
+        Task saved = taskRepository.save(newTask("Task 1"));
+        long modificationCount = taskRepository.modificationCount().getAsLong();
+        Task update = new Task(saved);
+        update.setTitle("Renamed");
+
+        // Act
+        Task updated = taskRepository.save(update);
+
+        // Assert
+        assertEquals(0L, saved.getVersion());
+        assertEquals(1L, updated.getVersion());
+        assertEquals(1L, taskRepository.findById(saved.getId()).orElseThrow().getVersion());
+        assertTrue(taskRepository.modificationCount().getAsLong() > modificationCount);
+    }
+
+    @Test
+    void compareAndSet_WhenVersionIsStale_ShouldRejectWrite() {
+        // Arrange
+        Task saved = taskRepository.save(newTask("Task 1"));
+        Task first = new Task(saved);
+        first.setStatus("IN_PROGRESS");
+        Task second = new Task(saved);
+        second.setStatus("COMPLETED");
+
+        // Act
+        boolean firstApplied = taskRepository.compareAndSet(first).isPresent();
+        boolean secondApplied = taskRepository.compareAndSet(second).isPresent();
+
+        // Assert
+        assertTrue(firstApplied);
+        assertFalse(secondApplied);
+        Task stored = taskRepository.findById(saved.getId()).orElseThrow();
+        assertEquals("IN_PROGRESS", stored.getStatus());
+        assertEquals(1L, stored.getVersion());
+        assertEquals(1, taskRepository.findByQuery("IN_PROGRESS", null, null, 10).size());
+        assertTrue(taskRepository.findByQuery("PENDING", null, null, 10).isEmpty());
+    }
+
+    @Test
+    void compareAndSet_WhenCalledConcurrently_ShouldApplyEveryIncrementOnce() throws Exception {
+        // Arrange
+        Task saved = taskRepository.save(newTask("0"));
+        int incrementsPerThread = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < incrementsPerThread; i++) {
+                    while (true) {
+                        Task current = new Task(taskRepository.findById(saved.getId()).orElseThrow());
+                        current.setTitle(Integer.toString(Integer.parseInt(current.getTitle()) + 1));
+                        if (taskRepository.compareAndSet(current).isPresent()) {
+                            break;
+                        }
+                    }
+                }
+                return null;
+            }));
+        }
+
+        // Act
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        // Assert
+        Task stored = taskRepository.findById(saved.getId()).orElseThrow();
+        assertEquals(Integer.toString(THREADS * incrementsPerThread), stored.getTitle());
+        assertEquals((long) THREADS * incrementsPerThread, stored.getVersion());
+    }
+
+    @Test
+    void importAll_ShouldKeepIdsAndVersionsAndReplaceExistingTasks() {
+        // Arrange
+        Task existing = taskRepository.save(newTask("Task 1"));
+        Task replacement = newTask("Replaced");
+        replacement.setId(existing.getId());
+        replacement.setVersion(7);
+        Task moved = newTask("Moved");
+        moved.setId(1_000_000L);
+        moved.setVersion(3);
+
+        // Act
+        taskRepository.importAll(List.of(replacement, moved));
+
+        // Assert
+        Task found = taskRepository.findById(existing.getId()).orElseThrow();
+        assertEquals("Replaced", found.getTitle());
+        assertEquals(7, found.getVersion());
+        assertEquals(3, taskRepository.findById(1_000_000L).orElseThrow().getVersion());
+        assertEquals(2, taskRepository.count());
+        assertEquals(Map.of("PENDING", 2L), taskRepository.countByStatus());
+        assertTrue(taskRepository.compareAndSet(new Task(found)).isPresent());
+    }
+
+    @Test
+    void delete_ShouldRemoveTask() {
+        // Arrange
+        Task saved = taskRepository.save(newTask("Task 1"));
+
+        // Act
+        taskRepository.delete(saved);
+
+        // Assert
+        assertFalse(taskRepository.findById(saved.getId()).isPresent());
+        assertTrue(taskRepository.findAll().isEmpty());
+    }
+
+    @Test
+    void findPage_ShouldWalkTasksInIdOrderUsingCursor() {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            taskRepository.save(newTask("Task " + i));
+        }
+        taskRepository.delete(taskRepository.findById(3L).orElseThrow());
+
+        // Act
+        TaskPage first = taskRepository.findPage(null, 2);
+        TaskPage second = taskRepository.findPage(first.getNextCursor(), 2);
+
+        // Assert
+        assertEquals(List.of(1L, 2L), first.getTasks().stream().map(Task::getId).toList());
+        assertEquals(2L, first.getNextCursor());
+        assertEquals(List.of(4L, 5L), second.getTasks().stream().map(Task::getId).toList());
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    void findByQuery_ShouldFollowStatusAndDueDateChanges() {
+        // Arrange
+        OffsetDateTime monday = OffsetDateTime.of(2030, 1, 7, 9, 0, 0, 0, ZoneOffset.UTC);
+        Task first = taskRepository.save(new Task("Task 1", "Description", "PENDING", monday));
+        Task second = taskRepository.save(new Task("Task 2", "Description", "PENDING", monday.plusDays(2)));
+        taskRepository.save(new Task("Task 3", "Description", "PENDING", monday.plusDays(10)));
+        Task done = new Task(second);
+        done.setStatus("DONE");
+        taskRepository.save(done);
+
+        // Act
+        List<Task> pendingThisWeek = taskRepository.findByQuery("PENDING", monday, monday.plusDays(7), 100);
+        List<Task> thisWeek = taskRepository.findByQuery(null, monday, monday.plusDays(7), 100);
+        List<Task> doneAnyTime = taskRepository.findByQuery("DONE", null, null, 100);
+        taskRepository.delete(first);
+        List<Task> afterDelete = taskRepository.findByQuery(null, monday, monday.plusDays(7), 100);
+
+        // Assert
+        assertEquals(List.of(1L), pendingThisWeek.stream().map(Task::getId).toList());
+        assertEquals(List.of(1L, 2L), thisWeek.stream().map(Task::getId).toList());
+        assertEquals(List.of(2L), doneAnyTime.stream().map(Task::getId).toList());
+        assertEquals(List.of(2L), afterDelete.stream().map(Task::getId).toList());
+    }
+
+    @Test
+    void save_WhenCallerMutatesTaskAfterwards_ShouldKeepStoredCopyAndIndexesIntact() {
+        // Arrange
+        Task task = newTask("Task 1");
+        taskRepository.save(task);
+
+        // Act
+        task.setStatus("DONE");
+
+        // Assert
+        assertEquals("PENDING", taskRepository.findById(1L).orElseThrow().getStatus());
+        assertEquals(1, taskRepository.findByQuery("PENDING", null, null, 100).size());
+        assertTrue(taskRepository.findByQuery("DONE", null, null, 100).isEmpty());
+    }
+
+    @Test
+    void save_WhenCalledConcurrently_ShouldNotLoseAnyTask() throws Exception {
+        // Arrange
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<Long>>> futures = new ArrayList<>();
+
+        // Act
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                List<Long> ids = new ArrayList<>(TASKS_PER_THREAD);
+                for (int i = 0; i < TASKS_PER_THREAD; i++) {
+                    ids.add(taskRepository.save(newTask("Task " + i)).getId());
+                }
+                return ids;
+            }));
+        }
+        start.countDown();
+
+        Set<Long> ids = new HashSet<>();
+        for (Future<List<Long>> future : futures) {
+            ids.addAll(future.get(1, TimeUnit.MINUTES));
+        }
+        executor.shutdown();
+
+        // Assert
+        int expected = THREADS * TASKS_PER_THREAD;
+        assertEquals(expected, ids.size(), "every save should receive a distinct id");
+        assertEquals(expected, taskRepository.findAll().size(), "no saved task should be lost");
+        for (long id = 1; id <= expected; id++) {
+            assertTrue(taskRepository.findById(id).isPresent(), "missing task " + id);
+        }
+    }
+
+    @Test
+    void saveAndDelete_WhenInterleavedWithReads_ShouldLeaveOnlySurvivors() throws Exception {
+        // Arrange
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // Act: each writer keeps every other task it creates, while readers iterate the whole map
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < TASKS_PER_THREAD; i++) {
+                    Task saved = taskRepository.save(newTask("Task " + i));
+                    if (i % 2 == 1) {
+                        taskRepository.delete(saved);
+                    }
+                }
+                return null;
+            }));
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 50; i++) {
+                    taskRepository.findAll().forEach(task -> assertTrue(task.getId() > 0));
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+
+        for (Future<?> future : futures) {
+            future.get(1, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+
+        // Assert
+        assertEquals(THREADS * TASKS_PER_THREAD / 2, taskRepository.findAll().size());
+    }
+
+    @Test
+    void countByStatus_ShouldFollowStatusChangesAndDeletes() {
+        // Arrange
+        Task first = taskRepository.save(newTask("Task 1"));
+        Task second = taskRepository.save(newTask("Task 2"));
+        taskRepository.save(newTask("Task 3"));
+        Task update = new Task(first);
+        update.setStatus("COMPLETED");
+
+        // Act
+        taskRepository.save(update);
+        taskRepository.save(new Task(taskRepository.findById(first.getId()).orElseThrow()));
+        taskRepository.delete(second);
+
+        // Assert
+        assertEquals(2L, taskRepository.count());
+        assertEquals(Map.of("PENDING", 1L, "COMPLETED", 1L), taskRepository.countByStatus());
+    }
+
+    @Test
+    void writes_ShouldPublishChangeEventsOnlyForAppliedChanges() {
+        // Arrange
+        List<TaskChangedEvent> events = new ArrayList<>();
+        taskRepository = new InMemoryTaskRepository(Optional.empty(), event -> events.add((TaskChangedEvent) event));
+        Task saved = taskRepository.save(newTask("Task 1"));
+        Task stale = new Task(saved);
+        taskRepository.compareAndSet(new Task(saved));
+
+        // Act
+        taskRepository.compareAndSet(stale);
+        boolean deleted = taskRepository.delete(saved);
+        boolean deletedAgain = taskRepository.delete(saved);
+
+        // Assert
+        assertTrue(deleted);
+        assertFalse(deletedAgain);
+        assertEquals(3, events.size());
+        assertEquals(0L, events.get(0).task().getVersion());
+        assertEquals(1L, events.get(1).task().getVersion());
+        assertTrue(events.get(2).isDeleted());
+        assertEquals(saved.getId(), events.get(2).id());
+    }
+
+    private static Task newTask(String title) {
+        return new Task(title, "Description", "PENDING", OffsetDateTime.of(2030, 1, 1, 9, 0, 0, 0, ZoneOffset.UTC));
+    }
+}
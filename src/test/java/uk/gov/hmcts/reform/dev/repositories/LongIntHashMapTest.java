@@ -0,0 +1,68 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LongIntHashMapTest {
+
+    @Test
+    void put_ShouldReplaceExistingValue() {
+        // Arrange
+        LongIntHashMap map = new LongIntHashMap();
+        map.put(7L, 1);
+
+        // Act
+        map.put(7L, 2);
+
+        // Assert
+        assertEquals(2, map.get(7L));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void remove_WhenKeyIsZero_ShouldUseSeparateEntry() {
+        // Arrange
+        LongIntHashMap map = new LongIntHashMap();
+        map.put(0L, 5);
+
+        // Act
+        int removed = map.remove(0L);
+
+        // Assert
+        assertEquals(5, removed);
+        assertEquals(LongIntHashMap.MISSING, map.get(0L));
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    void operations_WhenRandomlyInterleaved_ShouldMatchHashMap() {
+        // Arrange
+        LongIntHashMap map = new LongIntHashMap();
+        Map<Long, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        // Act: a small key range keeps probe runs long, exercising removal's backward shift
+        for (int i = 0; i < 200_000; i++) {
+            long key = random.nextInt(2_000) - 100;
+            if (random.nextInt(3) == 0) {
+                Integer removed = expected.remove(key);
+                assertEquals(removed == null ? LongIntHashMap.MISSING : removed, map.remove(key));
+            } else {
+                expected.put(key, i);
+                map.put(key, i);
+            }
+        }
+
+        // Assert
+        assertEquals(expected.size(), map.size());
+        for (long key = -100; key < 1_900; key++) {
+            int value = expected.getOrDefault(key, LongIntHashMap.MISSING);
+            assertEquals(value, map.get(key));
+        }
+    }
+}
\ No newline at end of file
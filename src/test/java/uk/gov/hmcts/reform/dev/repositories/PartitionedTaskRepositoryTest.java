@@ -0,0 +1,394 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskPage;
+import uk.gov.hmcts.reform.dev.models.TaskStats;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs several members in one JVM, calling each other directly instead of over HTTP.
+ */
+class PartitionedTaskRepositoryTest {
+
+    private static final List<String> THREE = List.of("node-a", "node-b", "node-c");
+    private static final OffsetDateTime DUE = OffsetDateTime.of(2030, 1, 1, 9, 0, 0, 0, ZoneOffset.UTC);
+
+    private Map<String, PartitionedTaskRepository> members;
+    private Map<String, InMemoryTaskRepository> stores;
+    private ClusterClient client;
+
+    @BeforeEach
+    void setUp() {
+        members = new LinkedHashMap<>();
+        stores = new LinkedHashMap<>();
+        client = new LoopbackClusterClient(members);
+        THREE.forEach(node -> start(node, THREE));
+    }
+
+    @Test
+    void save_ShouldStoreEachTaskOnlyOnItsOwner() {
+        // Arrange
+        ConsistentHashRing ring = new ConsistentHashRing(THREE);
+
+        // Act
+        List<Task> saved = create(member("node-a"), 300);
+
+        // Assert
+        for (Task task : saved) {
+            String owner = ring.owner(ConsistentHashRing.partition(task.getId()));
+            stores.forEach((node, store) ->
+                assertEquals(node.equals(owner), store.findById(task.getId()).isPresent(), node));
+        }
+        stores.values().forEach(store -> assertTrue(store.count() > 50));
+    }
+
+    @Test
+    void save_ShouldAssignIdsUniqueAcrossMembers() {
+        // Act
+        create(member("node-a"), 100);
+        create(member("node-b"), 100);
+        create(member("node-c"), 100);
+
+        // Assert
+        assertEquals(300, member("node-b").count());
+        assertEquals(300, member("node-c").findAll().stream().map(Task::getId).distinct().count());
+    }
+
+    @Test
+    void constructor_WhenIdsAreSequential_ShouldThrow() {
+        assertThrows(IllegalStateException.class, () -> new PartitionedTaskRepository(
+            new InMemoryTaskRepository(), client, "node-d", THREE, new SequentialIdGenerator(), "servlet"));
+    }
+
+    @Test
+    void constructor_WhenNotServletStack_ShouldThrow() {
+        // The internal API other members forward to is only served on the servlet stack
+        assertThrows(IllegalStateException.class, () -> new PartitionedTaskRepository(
+            new InMemoryTaskRepository(), client, "node-d", THREE, new SnowflakeIdGenerator(3), "reactive"));
+    }
+
+    @Test
+    void constructor_WhenStoreCannotImportTasks_ShouldThrow() {
+        // A partitioned repository is a task store without importAll, like the JPA store
+        assertThrows(IllegalStateException.class, () -> new PartitionedTaskRepository(
+            member("node-a"), client, "node-d", THREE, new SnowflakeIdGenerator(3), "servlet"));
+    }
+
+    @Test
+    void findById_ShouldFindTaskThroughEveryMember() {
+        // Arrange
+        List<Task> saved = create(member("node-a"), 30);
+
+        // Act & Assert
+        for (Task task : saved) {
+            for (PartitionedTaskRepository member : members.values()) {
+                assertEquals(task.getTitle(), member.findById(task.getId()).orElseThrow().getTitle());
+            }
+        }
+    }
+
+    @Test
+    void stream_ShouldMergeAllMembersInIdOrder() {
+        // Arrange
+        List<Long> ids = new ArrayList<>();
+        for (PartitionedTaskRepository member : members.values()) {
+            create(member, 700).forEach(task -> ids.add(task.getId()));
+        }
+        ids.sort(Comparator.naturalOrder());
+
+        // Act
+        List<Long> streamed = member("node-b").findAll().stream().map(Task::getId).toList();
+
+        // Assert
+        assertEquals(ids, streamed);
+    }
+
+    @Test
+    void findPage_ShouldWalkAllTasksInIdOrder() {
+        // Arrange
+        List<Long> ids = new ArrayList<>(create(member("node-c"), 100).stream().map(Task::getId).sorted().toList());
+
+        // Act
+        List<Long> walked = new ArrayList<>();
+        Long after = null;
+        do {
+            TaskPage page = member("node-a").findPage(after, 7);
+            assertTrue(page.getTasks().size() <= 7);
+            page.getTasks().forEach(task -> walked.add(task.getId()));
+            after = page.getNextCursor();
+        } while (after != null);
+
+        // Assert
+        assertEquals(ids, walked);
+    }
+
+    @Test
+    void findByQuery_WhenDueDateRangeIsGiven_ShouldMergeByDueDate() {
+        // Arrange
+        List<Task> batch = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            batch.add(new Task("Task " + i, "Description", "PENDING", DUE.plusHours((i * 37) % 60)));
+        }
+        List<Task> saved = member("node-a").saveAll(batch);
+        List<Long> expected = saved.stream()
+            .filter(task -> !task.getDueDate().isBefore(DUE.plusHours(10)))
+            .sorted(Comparator.comparing(Task::getDueDate).thenComparing(Task::getId))
+            .limit(15)
+            .map(Task::getId)
+            .toList();
+
+        // Act
+        List<Task> found = member("node-b").findByQuery(null, DUE.plusHours(10), null, 15);
+
+        // Assert
+        assertEquals(expected, found.stream().map(Task::getId).toList());
+    }
+
+    @Test
+    void saveAll_ShouldReturnTasksInBatchOrder() {
+        // Arrange
+        List<Task> batch = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            batch.add(new Task("Task " + i, "Description", "PENDING", DUE));
+        }
+
+        // Act
+        List<Task> saved = member("node-c").saveAll(batch);
+
+        // Assert
+        for (int i = 0; i < 50; i++) {
+            assertEquals("Task " + i, saved.get(i).getTitle());
+            assertEquals("Task " + i, member("node-a").findById(saved.get(i).getId()).orElseThrow().getTitle());
+        }
+    }
+
+    @Test
+    void compareAndSet_WhenVersionIsStale_ShouldNotApplyOnOwner() {
+        // Arrange
+        Task saved = create(member("node-a"), 1).get(0);
+        Task update = new Task(saved);
+        update.setStatus("IN_PROGRESS");
+        member("node-b").compareAndSet(new Task(update)).orElseThrow();
+        update.setStatus("COMPLETED");
+
+        // Act
+        Optional<Task> result = member("node-c").compareAndSet(update);
+
+        // Assert
+        assertFalse(result.isPresent());
+        Task stored = member("node-a").findById(saved.getId()).orElseThrow();
+        assertEquals("IN_PROGRESS", stored.getStatus());
+        assertEquals(1, stored.getVersion());
+    }
+
+    @Test
+    void delete_ShouldRemoveTaskFromOwner() {
+        // Arrange
+        List<Task> saved = create(member("node-a"), 10);
+
+        // Act
+        saved.forEach(member("node-b")::delete);
+
+        // Assert
+        assertEquals(0, member("node-c").count());
+        stores.values().forEach(store -> assertEquals(0, store.count()));
+    }
+
+    @Test
+    void stats_ShouldSumMembers() {
+        // Arrange
+        List<Task> saved = create(member("node-a"), 90);
+        for (int i = 0; i < 30; i++) {
+            Task completed = new Task(saved.get(i));
+            completed.setStatus("COMPLETED");
+            member("node-b").save(completed);
+        }
+
+        // Act
+        TaskStats stats = member("node-c").stats(LocalDate.of(2030, 1, 1), ZoneId.of("UTC"), Set.of("COMPLETED"));
+
+        // Assert
+        assertEquals(90, stats.getTotal());
+        assertEquals(Map.of("PENDING", 60L, "COMPLETED", 30L), stats.getByStatus());
+        assertEquals(60, stats.getDueToday());
+        assertEquals(Map.of("PENDING", 60L, "COMPLETED", 30L), member("node-a").countByStatus());
+    }
+
+    @Test
+    void changeMembers_WhenMemberIsAdded_ShouldHandOverItsPartitionsWithTheirVersions() {
+        // Arrange
+        List<Task> saved = create(member("node-a"), 600);
+        for (int i = 0; i < 600; i += 3) {
+            Task update = new Task(saved.get(i));
+            update.setStatus("IN_PROGRESS");
+            saved.set(i, member("node-b").compareAndSet(update).orElseThrow());
+        }
+        start("node-d", THREE);
+        List<String> four = List.of("node-a", "node-b", "node-c", "node-d");
+
+        // Act
+        Map<String, Integer> moved = member("node-c").changeMembers(four);
+
+        // Assert
+        assertEquals(stores.get("node-d").count(), moved.values().stream().mapToInt(Integer::intValue).sum());
+        assertTrue(stores.get("node-d").count() > 50);
+        assertEquals(600, stores.values().stream().mapToLong(InMemoryTaskRepository::count).sum());
+        assertTrue(member("node-d").ownedPartitions().size() > 20);
+        for (Task task : saved) {
+            for (PartitionedTaskRepository member : members.values()) {
+                assertEquals(four, member.members());
+                Task found = member.findById(task.getId()).orElseThrow();
+                assertEquals(task.getStatus(), found.getStatus());
+                assertEquals(task.getVersion(), found.getVersion());
+            }
+        }
+        assertEquals(600, member("node-d").findAll().size());
+    }
+
+    @Test
+    void changeMembers_WhenMemberIsRemoved_ShouldHandOverAllItsTasks() {
+        // Arrange
+        List<Task> saved = create(member("node-a"), 300);
+
+        // Act
+        member("node-a").changeMembers(List.of("node-a", "node-c"));
+
+        // Assert
+        assertEquals(0, stores.get("node-b").count());
+        assertTrue(member("node-b").ownedPartitions().isEmpty());
+        for (Task task : saved) {
+            assertEquals(task.getTitle(), member("node-b").findById(task.getId()).orElseThrow().getTitle());
+        }
+        assertEquals(300, member("node-b").count());
+    }
+
+    private PartitionedTaskRepository member(String node) {
+        return members.get(node);
+    }
+
+    private void start(String node, List<String> nodes) {
+        InMemoryTaskRepository store = new InMemoryTaskRepository();
+        stores.put(node, store);
+        members.put(node, new PartitionedTaskRepository(store, client, node, nodes,
+            new SnowflakeIdGenerator(members.size()), "servlet"));
+    }
+
+    private static List<Task> create(PartitionedTaskRepository member, int count) {
+        List<Task> saved = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            saved.add(member.save(new Task("Task " + i, "Description", "PENDING", DUE)));
+        }
+        return saved;
+    }
+
+    private static List<Task> copies(Collection<Task> tasks) {
+        return tasks.stream().map(Task::new).toList();
+    }
+
+    /**
+     * Calls the other members' handlers directly, copying tasks as a round trip through JSON
+     * would.
+     */
+    private static final class LoopbackClusterClient extends ClusterClient {
+
+        private final Map<String, PartitionedTaskRepository> members;
+
+        LoopbackClusterClient(Map<String, PartitionedTaskRepository> members) {
+            super(new ObjectMapper(), Duration.ofSeconds(1), "secret");
+            this.members = members;
+        }
+
+        @Override
+        public Optional<Task> findById(String node, long id, int hops) {
+            return members.get(node).findById(id, hops).map(Task::new);
+        }
+
+        @Override
+        public Task save(String node, Task task, int hops) {
+            return new Task(members.get(node).save(new Task(task), hops));
+        }
+
+        @Override
+        public Optional<Task> compareAndSet(String node, Task task, int hops) {
+            return members.get(node).compareAndSet(new Task(task), hops).map(Task::new);
+        }
+
+        @Override
+        public List<Task> saveAll(String node, List<Task> batch, int hops) {
+            return copies(members.get(node).saveAll(copies(batch), hops));
+        }
+
+        @Override
+        public boolean delete(String node, long id, int hops) {
+            Task task = new Task();
+            task.setId(id);
+            return members.get(node).delete(task, hops);
+        }
+
+        @Override
+        public CompletableFuture<TaskPage> findPage(String node, Long after, int limit) {
+            TaskPage page = members.get(node).ownedPage(after, limit);
+            return CompletableFuture.completedFuture(new TaskPage(copies(page.getTasks()), page.getNextCursor()));
+        }
+
+        @Override
+        public CompletableFuture<List<Task>> findByQuery(String node, String status, OffsetDateTime dueFrom,
+                                                         OffsetDateTime dueTo, int limit) {
+            return CompletableFuture.completedFuture(
+                copies(members.get(node).ownedQuery(status, dueFrom, dueTo, limit)));
+        }
+
+        @Override
+        public CompletableFuture<Counts> counts(String node) {
+            return CompletableFuture.completedFuture(members.get(node).localCounts());
+        }
+
+        @Override
+        public CompletableFuture<TaskStats> stats(String node, LocalDate today, ZoneId zone,
+                                                  Set<String> closedStatuses) {
+            return CompletableFuture.completedFuture(members.get(node).localStats(today, zone, closedStatuses));
+        }
+
+        @Override
+        public void importAll(String node, List<Task> tasks) {
+            members.get(node).importAll(copies(tasks));
+        }
+
+        @Override
+        public void activate(String node, Collection<Integer> partitions) {
+            members.get(node).activate(partitions);
+        }
+
+        @Override
+        public int rebalance(String node, Collection<String> newMembers) {
+            return members.get(node).rebalance(newMembers);
+        }
+
+        @Override
+        public void commit(String node, Collection<String> newMembers) {
+            members.get(node).commit(newMembers);
+        }
+    }
+}
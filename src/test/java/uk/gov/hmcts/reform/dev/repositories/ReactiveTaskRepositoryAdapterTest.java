@@ -0,0 +1,66 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+import uk.gov.hmcts.reform.dev.models.Task;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReactiveTaskRepositoryAdapterTest {
+
+    private final AtomicInteger read = new AtomicInteger();
+
+    private ReactiveTaskRepositoryAdapter taskRepository;
+
+    @BeforeEach
+    void setUp() {
+        InMemoryTaskRepository store = new InMemoryTaskRepository() {
+            @Override
+            public Stream<Task> stream() {
+                return super.stream().peek(task -> read.incrementAndGet());
+            }
+        };
+        for (int i = 0; i < 100; i++) {
+            store.save(new Task("Task " + i, "Description", "PENDING",
+                                OffsetDateTime.of(2030, 1, 1, 9, 0, 0, 0, ZoneOffset.UTC)));
+        }
+        taskRepository = new ReactiveTaskRepositoryAdapter(store, Schedulers.immediate());
+    }
+
+    @Test
+    void findAll_ShouldOnlyReadAsManyTasksAsRequested() {
+        // Act & Assert
+        StepVerifier.create(taskRepository.findAll(), 0)
+                .expectSubscription()
+                .then(() -> assertTrue(read.get() <= 1))
+                .thenRequest(10)
+                .expectNextCount(10)
+                .then(() -> assertTrue(read.get() <= 11, "at most one task of look-ahead"))
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void compareAndSet_WhenVersionIsStale_ShouldCompleteEmpty() {
+        // Arrange
+        Task task = taskRepository.findById(1L).block();
+        Task first = new Task(task);
+        first.setStatus("DONE");
+        Task second = new Task(task);
+        second.setStatus("IN_PROGRESS");
+
+        // Act & Assert
+        StepVerifier.create(taskRepository.compareAndSet(first))
+                .expectNextMatches(saved -> saved.getVersion() == 1L)
+                .verifyComplete();
+        StepVerifier.create(taskRepository.compareAndSet(second))
+                .verifyComplete();
+    }
+}
\ No newline at end of file
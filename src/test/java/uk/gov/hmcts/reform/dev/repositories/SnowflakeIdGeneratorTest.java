@@ -0,0 +1,102 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SnowflakeIdGeneratorTest {
+
+    private static final Clock FIVE_MILLIS_IN = Clock.fixed(SnowflakeIdGenerator.EPOCH.plusMillis(5), ZoneOffset.UTC);
+
+    @Test
+    void nextId_ShouldHoldTimeNodeAndSequence() {
+        // Arrange
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(3, FIVE_MILLIS_IN);
+
+        // Act
+        long first = generator.nextId();
+        long second = generator.nextId();
+
+        // Assert
+        assertEquals(5L << 22 | 3L << 12, first);
+        assertEquals(first + 1, second);
+        assertEquals(second, generator.lastId());
+    }
+
+    @Test
+    void nextId_WhenSequenceRunsOut_ShouldCarryOnInTheNextMillisecond() {
+        // Arrange
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(3, FIVE_MILLIS_IN);
+        long previous = 0;
+
+        // Act
+        for (int i = 0; i < 4096; i++) {
+            long id = generator.nextId();
+            assertTrue(id > previous);
+            previous = id;
+        }
+        long carried = generator.nextId();
+
+        // Assert
+        assertEquals(6L << 22 | 3L << 12, carried);
+    }
+
+    @Test
+    void nextId_AfterRestartWithEarlierClock_ShouldContinueAfterObservedId() {
+        // Arrange
+        long last = new SnowflakeIdGenerator(3, FIVE_MILLIS_IN).nextId();
+        Clock earlier = Clock.fixed(SnowflakeIdGenerator.EPOCH.plusMillis(2), ZoneOffset.UTC);
+        SnowflakeIdGenerator restarted = new SnowflakeIdGenerator(3, earlier);
+
+        // Act
+        restarted.observe(last);
+        long next = restarted.nextId();
+
+        // Assert
+        assertEquals(last + 1, next);
+    }
+
+    @Test
+    void nextId_FromManyThreadsAndNodes_ShouldNeverRepeat() throws Exception {
+        // Arrange
+        List<SnowflakeIdGenerator> nodes = List.of(new SnowflakeIdGenerator(1), new SnowflakeIdGenerator(2));
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+        // Act
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<Future<?>> runs = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                SnowflakeIdGenerator node = nodes.get(thread % 2);
+                runs.add(executor.submit(() -> {
+                    for (int i = 0; i < 20_000; i++) {
+                        assertTrue(ids.add(node.nextId()));
+                    }
+                }));
+            }
+            for (Future<?> run : runs) {
+                run.get();
+            }
+        }
+
+        // Assert
+        assertEquals(160_000, ids.size());
+    }
+
+    @Test
+    void constructor_WhenNodeIdIsOutOfRange_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdGenerator(1024));
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdGenerator(-1));
+    }
+}
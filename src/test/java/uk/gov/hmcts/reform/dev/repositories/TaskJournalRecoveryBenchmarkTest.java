@@ -0,0 +1,61 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.api.io.TempDir;
+import uk.gov.hmcts.reform.dev.models.Task;
+
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Measures how long the repository takes to recover a million tasks from a snapshot plus a
+ * journal tail. Run with {@code BENCHMARK=true ./gradlew test --tests "*RecoveryBenchmark*"}.
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class TaskJournalRecoveryBenchmarkTest {
+
+    private static final int TASKS = 1_000_000;
+    private static final int BATCH = 1_000;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void recover_OneMillionTasks() throws Exception {
+        // Arrange: the snapshot covers most tasks and the rest are replayed from the journal
+        TaskJournal journal = new TaskJournal(directory.toString(), TASKS * 3L / 4);
+        InMemoryTaskRepository repository = new InMemoryTaskRepository(Optional.of(journal));
+        OffsetDateTime dueDate = OffsetDateTime.of(2030, 1, 1, 9, 0, 0, 0, ZoneOffset.UTC);
+        long writeStarted = System.nanoTime();
+        for (int i = 0; i < TASKS; i += BATCH) {
+            List<Task> batch = new ArrayList<>(BATCH);
+            for (int j = 0; j < BATCH; j++) {
+                batch.add(new Task("Task " + (i + j), "Review case bundle and update the hearing record",
+                                   j % 2 == 0 ? "PENDING" : "IN_PROGRESS", dueDate.plusMinutes(i + j)));
+            }
+            repository.saveAll(batch);
+        }
+        long writeMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - writeStarted);
+        journal.close();
+
+        // Act
+        long recoveryStarted = System.nanoTime();
+        TaskJournal reopened = new TaskJournal(directory.toString(), Long.MAX_VALUE);
+        InMemoryTaskRepository recovered = new InMemoryTaskRepository(Optional.of(reopened));
+        long recoveryMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - recoveryStarted);
+        reopened.close();
+
+        // Assert
+        assertEquals(TASKS, recovered.findAll().size());
+        System.out.printf("Journaled %,d tasks in %,d ms; recovered them in %,d ms%n",
+                          TASKS, writeMillis, recoveryMillis);
+    }
+}
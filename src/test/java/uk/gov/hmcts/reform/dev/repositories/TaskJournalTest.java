@@ -0,0 +1,144 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import uk.gov.hmcts.reform.dev.models.Task;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TaskJournalTest {
+
+    private static final OffsetDateTime DUE_DATE = OffsetDateTime.of(2030, 1, 1, 9, 30, 15, 123_000_000,
+                                                                     ZoneOffset.ofHours(1));
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void recover_ShouldReplayJournaledSavesAndDeletes() {
+        // Arrange
+        TaskJournal journal = new TaskJournal(directory.toString(), 1_000_000);
+        InMemoryTaskRepository repository = new InMemoryTaskRepository(Optional.of(journal));
+        Task first = repository.save(new Task("Task 1", "Description 1", "PENDING", DUE_DATE));
+        Task second = repository.save(new Task("Task 2", null, "PENDING", DUE_DATE));
+        Task updated = new Task(first);
+        updated.setStatus("DONE");
+        repository.save(updated);
+        repository.delete(second);
+        journal.close();
+
+        // Act
+        TaskJournal reopened = new TaskJournal(directory.toString(), 1_000_000);
+        InMemoryTaskRepository recovered = new InMemoryTaskRepository(Optional.of(reopened));
+        Task next = recovered.save(new Task("Task 3", "Description 3", "PENDING", DUE_DATE));
+        reopened.close();
+
+        // Assert
+        Task restored = recovered.findById(1L).orElseThrow();
+        assertEquals("Task 1", restored.getTitle());
+        assertEquals("Description 1", restored.getDescription());
+        assertEquals("DONE", restored.getStatus());
+        assertEquals(DUE_DATE, restored.getDueDate());
+        assertEquals(1L, restored.getVersion());
+        assertFalse(recovered.findById(2L).isPresent());
+        assertEquals(3L, next.getId(), "ids must not be reused after restart");
+        assertEquals(1, recovered.findByQuery("DONE", null, null, 10).size());
+    }
+
+    @Test
+    void recover_ShouldLoadSnapshotAndReplayNewerSegments() throws Exception {
+        // Arrange
+        TaskJournal journal = new TaskJournal(directory.toString(), 10);
+        InMemoryTaskRepository repository = new InMemoryTaskRepository(Optional.of(journal));
+        for (int i = 0; i < 25; i++) {
+            repository.save(new Task("Task " + i, "Description", "PENDING", DUE_DATE));
+        }
+        waitForSnapshot();
+        repository.delete(repository.findById(1L).orElseThrow());
+        repository.saveAll(List.of(new Task("Task 25", "Description", "PENDING", DUE_DATE)));
+        journal.close();
+
+        // Act
+        TaskJournal reopened = new TaskJournal(directory.toString(), 10);
+        InMemoryTaskRepository recovered = new InMemoryTaskRepository(Optional.of(reopened));
+        reopened.close();
+
+        // Assert
+        assertEquals(25, recovered.findAll().size());
+        assertFalse(recovered.findById(1L).isPresent());
+        assertTrue(recovered.findById(26L).isPresent());
+    }
+
+    @Test
+    void recover_ShouldIgnoreTornRecordAtEndOfJournal() throws IOException {
+        // Arrange
+        TaskJournal journal = new TaskJournal(directory.toString(), 1_000_000);
+        InMemoryTaskRepository repository = new InMemoryTaskRepository(Optional.of(journal));
+        repository.save(new Task("Task 1", "Description", "PENDING", DUE_DATE));
+        journal.close();
+        Path segment;
+        try (Stream<Path> files = Files.list(directory)) {
+            segment = files.filter(path -> path.toString().endsWith(".log")).findFirst().orElseThrow();
+        }
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(new byte[] {0, 0, 0, 40, 1, 2, 3}));
+        }
+
+        // Act
+        TaskJournal reopened = new TaskJournal(directory.toString(), 1_000_000);
+        InMemoryTaskRepository recovered = new InMemoryTaskRepository(Optional.of(reopened));
+        reopened.close();
+
+        // Assert
+        assertEquals(1, recovered.findAll().size());
+    }
+
+    @Test
+    void recover_WhenClockIsBehindRecoveredIds_ShouldNotReuseSnowflakeIds() {
+        // Arrange
+        Instant now = SnowflakeIdGenerator.EPOCH.plusSeconds(60);
+        TaskJournal journal = new TaskJournal(directory.toString(), 1_000_000);
+        InMemoryTaskRepository repository = new InMemoryTaskRepository(Optional.of(journal), null,
+            new SnowflakeIdGenerator(7, Clock.fixed(now, ZoneOffset.UTC)));
+        Task last = repository.save(new Task("Task 1", "Description", "PENDING", DUE_DATE));
+        journal.close();
+
+        // Act
+        TaskJournal reopened = new TaskJournal(directory.toString(), 1_000_000);
+        InMemoryTaskRepository recovered = new InMemoryTaskRepository(Optional.of(reopened), null,
+            new SnowflakeIdGenerator(7, Clock.fixed(now.minusSeconds(30), ZoneOffset.UTC)));
+        Task next = recovered.save(new Task("Task 2", "Description", "PENDING", DUE_DATE));
+        reopened.close();
+
+        // Assert
+        assertTrue(next.getId() > last.getId(), "ids must not be reused after restart");
+    }
+
+    private void waitForSnapshot() throws Exception {
+        for (int attempt = 0; attempt < 500; attempt++) {
+            try (Stream<Path> files = Files.list(directory)) {
+                if (files.anyMatch(path -> path.toString().endsWith(".snap"))) {
+                    return;
+                }
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("snapshot was not written");
+    }
+}
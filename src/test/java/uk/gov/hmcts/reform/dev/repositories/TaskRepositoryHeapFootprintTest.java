@@ -0,0 +1,74 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import uk.gov.hmcts.reform.dev.models.Task;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.Reference;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares the heap retained per task by {@link InMemoryTaskRepository} and
+ * {@link ColumnarTaskRepository} after loading a million tasks, measured as the difference in
+ * used heap after full collections. Run with
+ * {@code BENCHMARK=true ./gradlew test --tests "*HeapFootprint*"}, which also raises the test
+ * heap to 4 GB.
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class TaskRepositoryHeapFootprintTest {
+
+    private static final int TASKS = 1_000_000;
+    private static final int BATCH = 1_000;
+    private static final String[] STATUSES = {"PENDING", "IN_PROGRESS", "COMPLETED"};
+
+    @Test
+    void heapPerTask_InMemoryVersusColumnar() {
+        // Act
+        long inMemory = retainedBytes(InMemoryTaskRepository::new);
+        long columnar = retainedBytes(ColumnarTaskRepository::new);
+
+        // Assert
+        System.out.printf("Heap retained by %,d tasks%n", TASKS);
+        System.out.printf("  in-memory: %,d MB, %,d bytes per task%n", inMemory >> 20, inMemory / TASKS);
+        System.out.printf("  columnar: %,d MB, %,d bytes per task%n", columnar >> 20, columnar / TASKS);
+        assertTrue(columnar < inMemory, "columnar storage should retain less heap per task");
+    }
+
+    private static long retainedBytes(Supplier<TaskRepository> factory) {
+        long before = usedHeapAfterGc();
+        TaskRepository repository = factory.get();
+        OffsetDateTime dueDate = OffsetDateTime.of(2030, 1, 1, 9, 0, 0, 0, ZoneOffset.UTC);
+        for (int i = 0; i < TASKS; i += BATCH) {
+            List<Task> batch = new ArrayList<>(BATCH);
+            for (int j = 0; j < BATCH; j++) {
+                int n = i + j;
+                batch.add(new Task("Task " + n, "Review case bundle " + n + " and update the hearing record",
+                                   STATUSES[n % STATUSES.length], dueDate.plusMinutes(n)));
+            }
+            repository.saveAll(batch);
+        }
+        long after = usedHeapAfterGc();
+        assertEquals(TASKS, repository.count());
+        Reference.reachabilityFence(repository);
+        return after - before;
+    }
+
+    private static long usedHeapAfterGc() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            used = Math.min(used, memory.getHeapMemoryUsage().getUsed());
+        }
+        return used;
+    }
+}
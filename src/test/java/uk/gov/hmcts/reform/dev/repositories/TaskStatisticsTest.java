@@ -0,0 +1,182 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskStats;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TaskStatisticsTest {
+
+    private static final ZoneId LONDON = ZoneId.of("Europe/London");
+    private static final LocalDate TODAY = LocalDate.of(2030, 7, 3);
+    private static final Set<String> CLOSED = Set.of("COMPLETED");
+    private static final List<String> STATUSES = List.of("PENDING", "IN_PROGRESS", "COMPLETED");
+
+    @Test
+    void snapshot_ShouldCountOpenTasksByDueDateRelativeToDay() {
+        // Arrange
+        TaskStatistics statistics = new TaskStatistics();
+        statistics.add(newTask("PENDING", london(2030, 7, 2, 23, 30)));
+        statistics.add(newTask("PENDING", london(2030, 7, 3, 0, 0)));
+        statistics.add(newTask("IN_PROGRESS", london(2030, 7, 3, 23, 59)));
+        statistics.add(newTask("IN_PROGRESS", london(2030, 7, 7, 12, 0)));
+        statistics.add(newTask("PENDING", london(2030, 7, 8, 0, 0)));
+        statistics.add(newTask("COMPLETED", london(2030, 7, 1, 9, 0)));
+        statistics.add(newTask("PENDING", null));
+        Task removed = newTask("PENDING", london(2030, 6, 1, 9, 0));
+        statistics.add(removed);
+        statistics.remove(removed);
+
+        // Act
+        TaskStats stats = statistics.snapshot(TODAY, LONDON, CLOSED);
+
+        // Assert
+        assertEquals(TODAY, stats.getDate());
+        assertEquals(7, stats.getTotal());
+        assertEquals(Map.of("PENDING", 4L, "IN_PROGRESS", 2L, "COMPLETED", 1L), stats.getByStatus());
+        assertEquals(1, stats.getOverdue());
+        assertEquals(2, stats.getDueToday());
+        assertEquals(3, stats.getDueThisWeek());
+    }
+
+    @Test
+    void snapshot_WhenTasksAreDueMoreThanAWeekBefore_ShouldStillCountThemAsOverdue() {
+        // Arrange
+        TaskStatistics statistics = new TaskStatistics();
+        Task old = newTask("PENDING", london(2030, 5, 1, 9, 0));
+        statistics.add(old);
+        statistics.add(newTask("PENDING", london(2030, 6, 20, 9, 0)));
+        statistics.add(newTask("PENDING", london(2030, 7, 2, 9, 0)));
+        statistics.snapshot(TODAY, LONDON, CLOSED);
+
+        // Act
+        statistics.remove(old);
+        TaskStats stats = statistics.snapshot(TODAY.plusDays(14), LONDON, CLOSED);
+
+        // Assert
+        assertEquals(2, stats.getOverdue());
+        assertEquals(0, stats.getDueToday());
+        assertEquals(Map.of("PENDING", 2L), stats.getByStatus());
+    }
+
+    @Test
+    void stats_InMemoryStore_ShouldMatchRecountUnderConcurrentMutation() throws Exception {
+        assertStatsMatchRecountUnderConcurrentMutation(new InMemoryTaskRepository());
+    }
+
+    @Test
+    void stats_ColumnarStore_ShouldMatchRecountUnderConcurrentMutation() throws Exception {
+        assertStatsMatchRecountUnderConcurrentMutation(new ColumnarTaskRepository());
+    }
+
+    private static void assertStatsMatchRecountUnderConcurrentMutation(TaskRepository taskRepository)
+            throws Exception {
+        int threads = 8;
+        int ids = 200;
+        for (long id = 1; id <= ids; id++) {
+            taskRepository.save(randomTask());
+        }
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int round = 0; round < 5; round++) {
+                List<Future<?>> writers = new ArrayList<>();
+                for (int t = 0; t < threads; t++) {
+                    writers.add(executor.submit(() -> mutate(taskRepository, ids, 2_000)));
+                }
+                for (Future<?> writer : writers) {
+                    writer.get();
+                }
+                assertMatchesRecount(taskRepository);
+            }
+        }
+    }
+
+    private static void mutate(TaskRepository taskRepository, int ids, int operations) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < operations; i++) {
+            long id = random.nextLong(1, ids + 1);
+            switch (random.nextInt(4)) {
+                case 0 -> taskRepository.findById(id).ifPresent(taskRepository::delete);
+                case 1 -> {
+                    Task task = randomTask();
+                    task.setId(id);
+                    taskRepository.save(task);
+                }
+                default -> taskRepository.findById(id).ifPresent(current -> {
+                    Task changed = new Task(current);
+                    changed.setStatus(STATUSES.get(random.nextInt(STATUSES.size())));
+                    changed.setDueDate(randomDueDate());
+                    taskRepository.compareAndSet(changed);
+                });
+            }
+        }
+    }
+
+    private static void assertMatchesRecount(TaskRepository taskRepository) {
+        TaskStats stats = taskRepository.stats(TODAY, LONDON, CLOSED);
+        List<Task> tasks;
+        try (Stream<Task> stream = taskRepository.stream()) {
+            tasks = stream.toList();
+        }
+        OffsetDateTime todayStart = TODAY.atStartOfDay(LONDON).toOffsetDateTime();
+        OffsetDateTime tomorrowStart = TODAY.plusDays(1).atStartOfDay(LONDON).toOffsetDateTime();
+        OffsetDateTime weekEnd = LocalDate.of(2030, 7, 8).atStartOfDay(LONDON).toOffsetDateTime();
+        List<OffsetDateTime> open = tasks.stream()
+                .filter(task -> !CLOSED.contains(task.getStatus()) && task.getDueDate() != null)
+                .map(Task::getDueDate)
+                .toList();
+
+        assertEquals(tasks.size(), stats.getTotal());
+        Map<String, Long> byStatus = tasks.stream()
+                .collect(Collectors.groupingBy(Task::getStatus, TreeMap::new, Collectors.counting()));
+        assertEquals(byStatus, new TreeMap<>(withoutZeros(stats.getByStatus())));
+        assertEquals(open.stream().filter(due -> due.isBefore(todayStart)).count(), stats.getOverdue());
+        assertEquals(open.stream().filter(due -> !due.isBefore(todayStart) && due.isBefore(tomorrowStart)).count(),
+                     stats.getDueToday());
+        assertEquals(open.stream().filter(due -> !due.isBefore(todayStart) && due.isBefore(weekEnd)).count(),
+                     stats.getDueThisWeek());
+    }
+
+    private static Map<String, Long> withoutZeros(Map<String, Long> counts) {
+        return counts.entrySet().stream()
+                .filter(entry -> entry.getValue() != 0)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    private static Task randomTask() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return newTask(STATUSES.get(random.nextInt(STATUSES.size())), randomDueDate());
+    }
+
+    private static OffsetDateTime randomDueDate() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return TODAY.atStartOfDay(LONDON).toOffsetDateTime()
+                .plusMinutes(random.nextLong(-3 * 24 * 60, 10 * 24 * 60))
+                .withOffsetSameInstant(random.nextBoolean() ? ZoneOffset.UTC : ZoneOffset.ofHours(-5));
+    }
+
+    private static OffsetDateTime london(int year, int month, int day, int hour, int minute) {
+        return LocalDateTime.of(year, month, day, hour, minute).atZone(LONDON).toOffsetDateTime();
+    }
+
+    private static Task newTask(String status, OffsetDateTime dueDate) {
+        return new Task("Task", "Description", status, dueDate);
+    }
+}
@@ -0,0 +1,150 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.repositories.InMemoryTaskRepository;
+import uk.gov.hmcts.reform.dev.repositories.TaskChangedEvent;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class OverdueTaskSchedulerTest {
+
+    private static final Instant NOW = Instant.parse("2030-01-01T09:00:00Z");
+
+    private final MutableClock clock = new MutableClock(NOW);
+    private InMemoryTaskRepository taskRepository;
+    private TaskService taskService;
+    private OverdueTaskScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository = new InMemoryTaskRepository(Optional.empty(), event -> {
+            if (scheduler != null) {
+                scheduler.onTaskChanged((TaskChangedEvent) event);
+            }
+        });
+        taskService = new TaskService(taskRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (scheduler != null) {
+            scheduler.close();
+        }
+    }
+
+    @Test
+    void fire_WhenDeadlineHasPassed_ShouldMarkOnlyThatTaskOverdue() {
+        // Arrange
+        scheduler = new OverdueTaskScheduler(taskService, taskRepository, List.of("COMPLETED"), clock);
+        Task dueSoon = taskService.createTask(newTask("PENDING", Duration.ofHours(1)));
+        Task dueLater = taskService.createTask(newTask("IN_PROGRESS", Duration.ofHours(3)));
+        taskService.createTask(newTask("COMPLETED", Duration.ofHours(1)));
+
+        // Act
+        clock.advance(Duration.ofHours(2));
+        scheduler.fire();
+
+        // Assert
+        assertEquals("OVERDUE", taskService.getTaskById(dueSoon.getId()).getStatus());
+        assertEquals("IN_PROGRESS", taskService.getTaskById(dueLater.getId()).getStatus());
+        assertEquals(1, scheduler.pending());
+    }
+
+    @Test
+    void onTaskChanged_WhenDueDateMovesOrTaskIsDeleted_ShouldReschedule() {
+        // Arrange
+        scheduler = new OverdueTaskScheduler(taskService, taskRepository, List.of("COMPLETED"), clock);
+        Task moved = taskService.createTask(newTask("PENDING", Duration.ofHours(1)));
+        Task deleted = taskService.createTask(newTask("PENDING", Duration.ofHours(1)));
+        Task details = new Task(moved);
+        details.setDueDate(OffsetDateTime.ofInstant(NOW.plus(Duration.ofDays(1)), ZoneOffset.UTC));
+
+        // Act
+        taskService.updateTask(moved.getId(), details);
+        taskService.deleteTask(deleted.getId());
+        clock.advance(Duration.ofHours(2));
+        scheduler.fire();
+
+        // Assert
+        assertEquals("PENDING", taskService.getTaskById(moved.getId()).getStatus());
+        assertEquals(1, scheduler.pending());
+    }
+
+    @Test
+    void constructor_ShouldScheduleTasksAlreadyInRepository() {
+        // Arrange
+        Task existing = taskService.createTask(newTask("PENDING", Duration.ofHours(1)));
+        taskService.createTask(newTask("COMPLETED", Duration.ofHours(1)));
+
+        // Act
+        scheduler = new OverdueTaskScheduler(taskService, taskRepository, List.of("COMPLETED"), clock);
+        clock.advance(Duration.ofHours(2));
+        scheduler.fire();
+
+        // Assert
+        assertEquals("OVERDUE", taskService.getTaskById(existing.getId()).getStatus());
+        assertEquals(0, scheduler.pending());
+    }
+
+    @Test
+    void timer_ShouldFireWhenDeadlinePasses() throws Exception {
+        // Arrange
+        scheduler = new OverdueTaskScheduler(taskService, taskRepository, List.of("COMPLETED"), Clock.systemUTC());
+        Task task = taskService.createTask(new Task("Task", "Description", "PENDING",
+                                                    OffsetDateTime.now(ZoneOffset.UTC).plusNanos(50_000_000)));
+
+        // Act
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!"OVERDUE".equals(taskService.getTaskById(task.getId()).getStatus()) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        // Assert
+        assertEquals("OVERDUE", taskService.getTaskById(task.getId()).getStatus());
+        assertEquals(0, scheduler.pending());
+    }
+
+    private static Task newTask(String status, Duration dueIn) {
+        return new Task("Task", "Description", status, OffsetDateTime.ofInstant(NOW.plus(dueIn), ZoneOffset.UTC));
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,81 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import uk.gov.hmcts.reform.dev.exceptions.TaskVersionConflictException;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.repositories.ReactiveTaskRepository;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveTaskServiceTest {
+
+    @Mock
+    private ReactiveTaskRepository taskRepository;
+
+    @InjectMocks
+    private ReactiveTaskService taskService;
+
+    private Task task1;
+
+    @BeforeEach
+    void setUp() {
+        task1 = new Task("Task 1", "Description 1", "PENDING", OffsetDateTime.of(2030, 1, 1, 9, 0, 0, 0, ZoneOffset.UTC));
+        task1.setId(1L);
+    }
+
+    @Test
+    void updateTaskStatus_WhenConcurrentlyUpdated_ShouldRetryOnLatestVersion() {
+        // Arrange
+        Task concurrentlyUpdated = new Task(task1);
+        concurrentlyUpdated.setTitle("Renamed");
+        concurrentlyUpdated.setVersion(1L);
+        when(taskRepository.findById(1L)).thenReturn(Mono.just(task1), Mono.just(concurrentlyUpdated));
+        when(taskRepository.compareAndSet(any(Task.class))).thenAnswer(i -> {
+            Task task = i.getArgument(0);
+            return task.getVersion() == 1L ? Mono.just(task) : Mono.empty();
+        });
+
+        // Act & Assert
+        StepVerifier.create(taskService.updateTaskStatus(1L, "DONE", null))
+                .expectNextMatches(task -> "DONE".equals(task.getStatus()) && "Renamed".equals(task.getTitle()))
+                .verifyComplete();
+        verify(taskRepository, times(2)).compareAndSet(any(Task.class));
+    }
+
+    @Test
+    void updateTaskStatus_WhenTaskDoesNotExist_ShouldCompleteEmpty() {
+        // Arrange
+        when(taskRepository.findById(99L)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(taskService.updateTaskStatus(99L, "DONE", null))
+                .verifyComplete();
+        verify(taskRepository, never()).compareAndSet(any(Task.class));
+    }
+
+    @Test
+    void updateTask_WhenExpectedVersionIsStale_ShouldFailWithConflict() {
+        // Arrange
+        task1.setVersion(2L);
+        when(taskRepository.findById(1L)).thenReturn(Mono.just(task1));
+
+        // Act & Assert
+        StepVerifier.create(taskService.updateTask(1L, task1, 1L))
+                .verifyError(TaskVersionConflictException.class);
+    }
+}
\ No newline at end of file
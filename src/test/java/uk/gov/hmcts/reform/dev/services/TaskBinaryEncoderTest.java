@@ -0,0 +1,93 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskPage;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TaskBinaryEncoderTest {
+
+    private static final OffsetDateTime DUE_DATE = OffsetDateTime.of(2030, 1, 1, 9, 30, 15, 123_000_000,
+                                                                     ZoneOffset.ofHours(1));
+
+    private ObjectMapper objectMapper;
+    private TaskBinaryEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        encoder = new TaskBinaryEncoder(objectMapper);
+    }
+
+    @Test
+    void negotiate_ShouldPickBinaryFormatOnlyWhenPreferredOverJson() {
+        assertEquals(MediaType.APPLICATION_CBOR, encoder.negotiate("application/cbor"));
+        assertEquals(TaskBinaryEncoder.APPLICATION_SMILE, encoder.negotiate("application/x-jackson-smile"));
+        assertEquals(MediaType.APPLICATION_CBOR, encoder.negotiate("application/json;q=0.5, application/cbor"));
+        assertEquals(TaskBinaryEncoder.APPLICATION_SMILE,
+                     encoder.negotiate("text/html, application/x-jackson-smile;q=0.9, */*;q=0.1"));
+        assertNull(encoder.negotiate(null));
+        assertNull(encoder.negotiate("*/*"));
+        assertNull(encoder.negotiate("application/json, application/cbor"));
+        assertNull(encoder.negotiate("application/*, application/cbor;q=0.9"));
+        assertNull(encoder.negotiate("application/cbor;q=0"));
+        assertNull(encoder.negotiate("text/html"));
+        assertNull(encoder.negotiate("not a media type"));
+    }
+
+    @Test
+    void encode_ShouldWriteSameFieldsAsJson() throws Exception {
+        // Arrange
+        TaskPage page = new TaskPage(List.of(newTask(1L), newTask(2L)), 2L);
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsBytes(page));
+
+        // Act
+        byte[] cbor = encoder.encode(page, MediaType.APPLICATION_CBOR);
+        byte[] smile = encoder.encode(page, TaskBinaryEncoder.APPLICATION_SMILE);
+
+        // Assert
+        assertEquals(json, new ObjectMapper(new CBORFactory()).readTree(cbor));
+        assertEquals(json, new ObjectMapper(new SmileFactory()).readTree(smile));
+    }
+
+    @Test
+    void encode_WhenListIsLarge_ShouldBeSmallerThanJson() throws Exception {
+        // Arrange
+        List<Task> tasks = new ArrayList<>();
+        for (long id = 1; id <= 500; id++) {
+            tasks.add(newTask(id));
+        }
+        int json = objectMapper.writeValueAsBytes(tasks).length;
+
+        // Act
+        int cbor = encoder.encode(tasks, MediaType.APPLICATION_CBOR).length;
+        int smile = encoder.encode(tasks, TaskBinaryEncoder.APPLICATION_SMILE).length;
+
+        // Assert
+        assertTrue(cbor < json, "cbor " + cbor + " json " + json);
+        assertTrue(smile < cbor, "smile " + smile + " cbor " + cbor);
+    }
+
+    private static Task newTask(long id) {
+        Task task = new Task("Task " + id, "Description " + id, id % 2 == 0 ? "PENDING" : "COMPLETED",
+                             DUE_DATE.plusMinutes(id));
+        task.setId(id);
+        task.setVersion(id % 3);
+        return task;
+    }
+}
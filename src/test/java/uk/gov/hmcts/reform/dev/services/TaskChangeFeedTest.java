@@ -0,0 +1,146 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskChange;
+import uk.gov.hmcts.reform.dev.models.TaskOperation;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TaskChangeFeedTest {
+
+    @Test
+    void readAfter_ShouldReturnLaterChangesInSequenceOrder() {
+        // Arrange
+        TaskChangeFeed feed = new TaskChangeFeed(8, 100);
+        Task task = newTask(1L);
+        feed.append(TaskOperation.Type.CREATE, 1L, task);
+        task.setVersion(1L);
+        feed.append(TaskOperation.Type.STATUS, 1L, task);
+        feed.append(TaskOperation.Type.DELETE, 1L, null);
+
+        // Act
+        List<TaskChange> all = feed.readAfter(100, 10).orElseThrow();
+        List<TaskChange> limited = feed.readAfter(101, 1).orElseThrow();
+        List<TaskChange> none = feed.readAfter(103, 10).orElseThrow();
+
+        // Assert
+        assertEquals(List.of(101L, 102L, 103L), all.stream().map(TaskChange::getSequence).toList());
+        assertEquals(List.of(TaskOperation.Type.CREATE, TaskOperation.Type.STATUS, TaskOperation.Type.DELETE),
+                     all.stream().map(TaskChange::getType).toList());
+        assertNotSame(task, all.get(0).getTask());
+        assertNull(all.get(2).getTask());
+        assertEquals(List.of(102L), limited.stream().map(TaskChange::getSequence).toList());
+        assertTrue(none.isEmpty());
+        assertEquals(103, feed.lastSequence());
+    }
+
+    @Test
+    void append_WhenChangeIsNotNewerThanLastForTask_ShouldDropIt() {
+        // Arrange
+        TaskChangeFeed feed = new TaskChangeFeed(8, 0);
+        Task first = newTask(1L);
+        first.setVersion(1L);
+        Task second = newTask(1L);
+        second.setVersion(2L);
+
+        // Act
+        feed.append(TaskOperation.Type.UPDATE, 1L, second);
+        Optional<TaskChange> stale = feed.append(TaskOperation.Type.STATUS, 1L, first);
+        Optional<TaskChange> other = feed.append(TaskOperation.Type.CREATE, 2L, newTask(2L));
+        Optional<TaskChange> deleted = feed.append(TaskOperation.Type.DELETE, 1L, null);
+        Optional<TaskChange> deletedAgain = feed.append(TaskOperation.Type.DELETE, 1L, null);
+        Optional<TaskChange> afterDelete = feed.append(TaskOperation.Type.UPDATE, 1L, second);
+
+        // Assert
+        assertTrue(stale.isEmpty());
+        assertTrue(other.isPresent());
+        assertTrue(deleted.isPresent());
+        assertTrue(deletedAgain.isEmpty());
+        assertTrue(afterDelete.isEmpty());
+        assertEquals(List.of(TaskOperation.Type.UPDATE, TaskOperation.Type.CREATE, TaskOperation.Type.DELETE),
+                     feed.readAfter(0, 10).orElseThrow().stream().map(TaskChange::getType).toList());
+    }
+
+    @Test
+    void append_WhenLastChangeForTaskHasBeenOverwritten_ShouldForgetIt() {
+        // Arrange
+        TaskChangeFeed feed = new TaskChangeFeed(2, 0);
+        Task task = newTask(1L);
+        task.setVersion(5L);
+        feed.append(TaskOperation.Type.UPDATE, 1L, task);
+        feed.append(TaskOperation.Type.CREATE, 2L, newTask(2L));
+        feed.append(TaskOperation.Type.CREATE, 3L, newTask(3L));
+
+        // Act
+        Optional<TaskChange> older = feed.append(TaskOperation.Type.STATUS, 1L, newTask(1L));
+
+        // Assert
+        assertTrue(older.isPresent());
+    }
+
+    @Test
+    void readAfter_WhenChangesHaveBeenOverwritten_ShouldAskForResync() {
+        // Arrange
+        TaskChangeFeed feed = new TaskChangeFeed(4, 0);
+        for (long id = 1; id <= 6; id++) {
+            feed.append(TaskOperation.Type.CREATE, id, newTask(id));
+        }
+
+        // Act & Assert
+        assertTrue(feed.readAfter(1, 10).isEmpty());
+        assertEquals(List.of(3L, 4L, 5L, 6L),
+                     feed.readAfter(2, 10).orElseThrow().stream().map(TaskChange::getId).toList());
+    }
+
+    @Test
+    void readAfter_WhenSequenceIsNotFromThisFeed_ShouldAskForResync() {
+        // Arrange
+        TaskChangeFeed feed = new TaskChangeFeed(8, 100);
+        feed.append(TaskOperation.Type.CREATE, 1L, newTask(1L));
+
+        // Act & Assert
+        assertTrue(feed.readAfter(50, 10).isEmpty());
+        assertTrue(feed.readAfter(102, 10).isEmpty());
+    }
+
+    @Test
+    void awaitAfter_ShouldWakeOnAppendAndTimeOutOtherwise() throws Exception {
+        // Arrange
+        TaskChangeFeed feed = new TaskChangeFeed(8, 0);
+        CompletableFuture<Boolean> waiting = CompletableFuture.supplyAsync(() -> {
+            try {
+                return feed.awaitAfter(0, Duration.ofSeconds(10).toNanos());
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        // Act
+        Thread.sleep(50);
+        feed.append(TaskOperation.Type.CREATE, 1L, newTask(1L));
+
+        // Assert
+        assertTrue(waiting.get(5, TimeUnit.SECONDS));
+        assertFalse(feed.awaitAfter(1, Duration.ofMillis(10).toNanos()));
+    }
+
+    private static Task newTask(Long id) {
+        Task task = new Task("Task " + id, "Description", "PENDING",
+                             OffsetDateTime.of(2030, 1, 1, 9, 0, 0, 0, ZoneOffset.UTC));
+        task.setId(id);
+        return task;
+    }
+}
\ No newline at end of file
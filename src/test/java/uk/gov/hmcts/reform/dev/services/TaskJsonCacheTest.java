@@ -0,0 +1,114 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.unit.DataSize;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskPage;
+import uk.gov.hmcts.reform.dev.models.TaskSearchPage;
+import uk.gov.hmcts.reform.dev.repositories.TaskChangedEvent;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class TaskJsonCacheTest {
+
+    private ObjectMapper objectMapper;
+    private TaskJsonCache taskJsonCache;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        taskJsonCache = new TaskJsonCache(objectMapper, DataSize.ofMegabytes(1));
+    }
+
+    @Test
+    void toJson_ShouldMatchObjectMapper() throws Exception {
+        // Arrange
+        Task task = newTask(1L, "Task 1");
+
+        // Act
+        byte[] json = taskJsonCache.toJson(task);
+
+        // Assert
+        assertArrayEquals(objectMapper.writeValueAsBytes(task), json);
+    }
+
+    @Test
+    void toJson_WhenVersionIsUnchanged_ShouldReuseCachedBytes() {
+        // Arrange
+        byte[] first = taskJsonCache.toJson(newTask(1L, "Task 1"));
+
+        // Act
+        byte[] second = taskJsonCache.toJson(newTask(1L, "Task 1"));
+
+        // Assert
+        assertSame(first, second);
+    }
+
+    @Test
+    void toJson_WhenVersionChanges_ShouldSerializeAgain() throws Exception {
+        // Arrange
+        taskJsonCache.toJson(newTask(1L, "Task 1"));
+        Task renamed = newTask(1L, "Renamed");
+        renamed.setVersion(1L);
+
+        // Act
+        byte[] json = taskJsonCache.toJson(renamed);
+
+        // Assert
+        assertArrayEquals(objectMapper.writeValueAsBytes(renamed), json);
+    }
+
+    @Test
+    void onTaskChanged_ShouldDropCachedBytes() {
+        // Arrange
+        Task task = newTask(1L, "Task 1");
+        byte[] first = taskJsonCache.toJson(task);
+
+        // Act
+        taskJsonCache.onTaskChanged(TaskChangedEvent.deleted(1L));
+
+        // Assert
+        assertNotSame(first, taskJsonCache.toJson(task));
+    }
+
+    @Test
+    void toJson_WhenListOrPage_ShouldMatchObjectMapper() throws Exception {
+        // Arrange
+        List<Task> tasks = List.of(newTask(1L, "Task 1"), newTask(2L, "Task \"2\""));
+        TaskPage page = new TaskPage(tasks, 2L);
+        TaskPage lastPage = new TaskPage(List.of(), null);
+
+        // Act & Assert
+        assertArrayEquals(objectMapper.writeValueAsBytes(tasks), taskJsonCache.toJson(tasks));
+        assertArrayEquals(objectMapper.writeValueAsBytes(List.of()), taskJsonCache.toJson(List.<Task>of()));
+        assertArrayEquals(objectMapper.writeValueAsBytes(page), taskJsonCache.toJson(page));
+        assertArrayEquals(objectMapper.writeValueAsBytes(lastPage), taskJsonCache.toJson(lastPage));
+    }
+
+    @Test
+    void toJson_WhenSearchPage_ShouldMatchObjectMapper() throws Exception {
+        // Arrange
+        TaskSearchPage page = new TaskSearchPage(List.of(newTask(1L, "Task 1")), 5, 1);
+        TaskSearchPage lastPage = new TaskSearchPage(List.of(), 0, null);
+
+        // Act & Assert
+        assertArrayEquals(objectMapper.writeValueAsBytes(page), taskJsonCache.toJson(page));
+        assertArrayEquals(objectMapper.writeValueAsBytes(lastPage), taskJsonCache.toJson(lastPage));
+    }
+
+    private static Task newTask(Long id, String title) {
+        OffsetDateTime dueDate = OffsetDateTime.of(2030, 1, 1, 9, 0, 0, 0, ZoneOffset.UTC);
+        Task task = new Task(title, "Description", "PENDING", dueDate);
+        task.setId(id);
+        return task;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,101 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.repositories.InMemoryTaskRepository;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TaskMetricsTest {
+
+    private InMemoryTaskRepository taskRepository;
+    private MeterRegistry registry;
+    private TaskMetrics taskMetrics;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository = new InMemoryTaskRepository();
+        registry = new SimpleMeterRegistry();
+        taskMetrics = new TaskMetrics(taskRepository, registry);
+    }
+
+    @Test
+    void constructor_ShouldRegisterEveryCounterAtZero() {
+        // Assert
+        for (TaskMetrics.Operation operation : TaskMetrics.Operation.values()) {
+            assertEquals(0.0, counter("tasks.requests.rejected", operation));
+            assertEquals(0.0, counter("tasks.requests.not.found", operation));
+        }
+    }
+
+    @Test
+    void rejectedAndNotFound_ShouldIncrementCounterForOperation() {
+        // Act
+        taskMetrics.rejected(TaskMetrics.Operation.CREATE);
+        taskMetrics.rejected(TaskMetrics.Operation.CREATE);
+        taskMetrics.notFound(TaskMetrics.Operation.GET);
+
+        // Assert
+        assertEquals(2.0, counter("tasks.requests.rejected", TaskMetrics.Operation.CREATE));
+        assertEquals(0.0, counter("tasks.requests.rejected", TaskMetrics.Operation.UPDATE));
+        assertEquals(1.0, counter("tasks.requests.not.found", TaskMetrics.Operation.GET));
+    }
+
+    @Test
+    void refreshGauges_ShouldPublishStoredAndPerStatusCounts() {
+        // Arrange
+        taskRepository.save(newTask("PENDING"));
+        taskRepository.save(newTask("PENDING"));
+        taskRepository.save(newTask("COMPLETED"));
+
+        // Act
+        taskMetrics.refreshGauges();
+
+        // Assert
+        assertEquals(3.0, registry.get("tasks.stored").gauge().value());
+        assertEquals(2.0, registry.get("tasks.by.status").tag("status", "PENDING").gauge().value());
+        assertEquals(1.0, registry.get("tasks.by.status").tag("status", "COMPLETED").gauge().value());
+    }
+
+    @Test
+    void refreshGauges_ShouldCountUnlistedStatusesAsOther() {
+        // Arrange
+        taskRepository.save(newTask("PENDING"));
+        taskRepository.save(newTask("made-up-1"));
+        taskRepository.save(newTask("made-up-2"));
+
+        // Act
+        taskMetrics.refreshGauges();
+
+        // Assert
+        assertEquals(1.0, registry.get("tasks.by.status").tag("status", "PENDING").gauge().value());
+        assertEquals(0.0, registry.get("tasks.by.status").tag("status", "IN_PROGRESS").gauge().value());
+        assertEquals(2.0, registry.get("tasks.by.status").tag("status", TaskMetrics.OTHER_STATUS).gauge().value());
+        assertTrue(registry.find("tasks.by.status").tag("status", "made-up-1").gauges().isEmpty());
+    }
+
+    @Test
+    void gauges_WhenRepositoryChangesBeforeRefresh_ShouldKeepPreviousValues() {
+        // Arrange
+        taskRepository.save(newTask("PENDING"));
+
+        // Assert
+        assertEquals(0.0, registry.get("tasks.stored").gauge().value());
+        assertEquals(0.0, registry.get("tasks.by.status").tag("status", "PENDING").gauge().value());
+    }
+
+    private double counter(String name, TaskMetrics.Operation operation) {
+        return registry.get(name).tag("operation", operation.tag()).counter().count();
+    }
+
+    private static Task newTask(String status) {
+        return new Task("Task", "Description", status, OffsetDateTime.of(2030, 1, 1, 9, 0, 0, 0, ZoneOffset.UTC));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,153 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskSearchPage;
+import uk.gov.hmcts.reform.dev.repositories.InMemoryTaskRepository;
+import uk.gov.hmcts.reform.dev.repositories.TaskChangedEvent;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TaskSearchIndexTest {
+
+    private InMemoryTaskRepository taskRepository;
+    private TaskSearchIndex taskSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository = new InMemoryTaskRepository(Optional.empty(),
+            event -> taskSearchIndex.onTaskChanged((TaskChangedEvent) event));
+        taskSearchIndex = new TaskSearchIndex(taskRepository);
+    }
+
+    @Test
+    void terms_ShouldLowercaseAndSplitOnNonWordCharacters() {
+        // Act
+        List<String> terms = TaskSearchIndex.terms("Review the C-123 bundle, then RÉPONDRE!");
+
+        // Assert
+        assertEquals(List.of("review", "the", "c", "123", "bundle", "then", "répondre"), terms);
+    }
+
+    @Test
+    void search_ShouldRequireEveryTermAndRankMoreFrequentMatchesFirst() {
+        // Arrange
+        taskRepository.save(newTask("Hearing bundle", "Prepare the bundle for the hearing"));
+        Task bundle = taskRepository.save(newTask("Bundle review", "Bundle pages need a bundle index"));
+        taskRepository.save(newTask("Call the applicant", "Confirm the hearing date"));
+
+        // Act
+        TaskSearchPage page = taskSearchIndex.search("BUNDLE", 0, 10);
+        TaskSearchPage both = taskSearchIndex.search("hearing bundle", 0, 10);
+        TaskSearchPage none = taskSearchIndex.search("bundle applicant", 0, 10);
+
+        // Assert
+        assertEquals(2, page.getTotal());
+        assertEquals(bundle.getId(), page.getTasks().get(0).getId());
+        assertEquals(List.of("Hearing bundle"), both.getTasks().stream().map(Task::getTitle).toList());
+        assertEquals(0, none.getTotal());
+        assertTrue(none.getTasks().isEmpty());
+    }
+
+    @Test
+    void search_ShouldPageThroughMatches() {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            taskRepository.save(newTask("Review " + i, "Same description"));
+        }
+
+        // Act
+        TaskSearchPage first = taskSearchIndex.search("review", 0, 2);
+        TaskSearchPage last = taskSearchIndex.search("review", 4, 2);
+
+        // Assert
+        assertEquals(5, first.getTotal());
+        assertEquals(List.of(1L, 2L), first.getTasks().stream().map(Task::getId).toList());
+        assertEquals(2, first.getNextOffset());
+        assertEquals(List.of(5L), last.getTasks().stream().map(Task::getId).toList());
+        assertNull(last.getNextOffset());
+    }
+
+    @Test
+    void search_ShouldFollowUpdatesAndDeletes() {
+        // Arrange
+        Task saved = taskRepository.save(newTask("Review bundle", null));
+        Task other = taskRepository.save(newTask("Review order", null));
+        Task update = new Task(saved);
+        update.setTitle("Draft order");
+
+        // Act
+        taskRepository.save(update);
+        taskRepository.delete(other);
+
+        // Assert
+        assertEquals(0, taskSearchIndex.search("bundle", 0, 10).getTotal());
+        assertEquals(0, taskSearchIndex.search("review", 0, 10).getTotal());
+        assertEquals(List.of(saved.getId()),
+                     taskSearchIndex.search("order", 0, 10).getTasks().stream().map(Task::getId).toList());
+    }
+
+    @Test
+    void onTaskChanged_WhenOlderVersionArrivesLate_ShouldKeepNewerVersion() {
+        // Arrange
+        TaskSearchIndex index = new TaskSearchIndex(new InMemoryTaskRepository());
+        Task first = newTask("Review bundle", null);
+        first.setId(7L);
+        first.setVersion(1L);
+        Task second = new Task(first);
+        second.setTitle("Draft order");
+        second.setVersion(2L);
+
+        // Act
+        index.onTaskChanged(TaskChangedEvent.saved(second));
+        index.onTaskChanged(TaskChangedEvent.saved(first));
+
+        // Assert
+        assertEquals(0, index.search("bundle", 0, 10).getTotal());
+        assertEquals(1, index.search("order", 0, 10).getTotal());
+    }
+
+    @Test
+    void onTaskChanged_WhenSaveArrivesAfterDelete_ShouldKeepTaskOutOfIndex() {
+        // Arrange
+        TaskSearchIndex index = new TaskSearchIndex(new InMemoryTaskRepository());
+        Task task = newTask("Review bundle", null);
+        task.setId(7L);
+        task.setVersion(1L);
+        index.onTaskChanged(TaskChangedEvent.saved(task));
+        Task late = new Task(task);
+        late.setVersion(2L);
+
+        // Act
+        index.onTaskChanged(TaskChangedEvent.deleted(7L));
+        index.onTaskChanged(TaskChangedEvent.saved(late));
+
+        // Assert
+        assertEquals(0, index.search("bundle", 0, 10).getTotal());
+    }
+
+    @Test
+    void constructor_ShouldIndexTasksAlreadyInRepository() {
+        // Arrange
+        InMemoryTaskRepository existing = new InMemoryTaskRepository();
+        existing.save(newTask("Existing task", "Already stored"));
+
+        // Act
+        TaskSearchIndex index = new TaskSearchIndex(existing);
+
+        // Assert
+        assertEquals(1, index.search("stored", 0, 10).getTotal());
+    }
+
+    private static Task newTask(String title, String description) {
+        return new Task(title, description, "PENDING", OffsetDateTime.of(2030, 1, 1, 9, 0, 0, 0, ZoneOffset.UTC));
+    }
+}
\ No newline at end of file
@@ -6,18 +6,31 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.dev.exceptions.TaskNotFoundException;
+import uk.gov.hmcts.reform.dev.exceptions.TaskVersionConflictException;
 import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskOperation;
+import uk.gov.hmcts.reform.dev.models.TaskOperationResult;
+import uk.gov.hmcts.reform.dev.models.TaskOperationResult.Outcome;
+import uk.gov.hmcts.reform.dev.models.TaskPage;
+import uk.gov.hmcts.reform.dev.models.TaskStats;
 import uk.gov.hmcts.reform.dev.repositories.TaskRepository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
+import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -27,6 +40,9 @@ public class TaskServiceTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private TaskChangeFeed taskChangeFeed;
+
     @InjectMocks
     private TaskService taskService;
 
@@ -62,6 +78,35 @@ public class TaskServiceTest {
         verify(taskRepository, times(1)).findAll();
     }
 
+    @Test
+    void getTaskPage_ShouldDelegateToRepository() {
+        // Arrange
+        when(taskRepository.findPage(1L, 1)).thenReturn(new TaskPage(List.of(task2), null));
+
+        // Act
+        TaskPage result = taskService.getTaskPage(1L, 1);
+
+        // Assert
+        assertEquals(1, result.getTasks().size());
+        assertEquals("Task 2", result.getTasks().get(0).getTitle());
+        verify(taskRepository, times(1)).findPage(1L, 1);
+    }
+
+    @Test
+    void getStats_ShouldDelegateToRepository() {
+        // Arrange
+        LocalDate today = LocalDate.of(2030, 1, 1);
+        ZoneId zone = ZoneId.of("Europe/London");
+        TaskStats stats = new TaskStats(today, 2, Map.of("PENDING", 2L), 1, 0, 1);
+        when(taskRepository.stats(today, zone, Set.of("COMPLETED"))).thenReturn(stats);
+
+        // Act
+        TaskStats result = taskService.getStats(today, zone, Set.of("COMPLETED"));
+
+        // Assert
+        assertEquals(stats, result);
+    }
+
     @Test
     void getTaskById_WhenTaskExists_ShouldReturnTask() {
         // Arrange
@@ -85,6 +130,82 @@ public class TaskServiceTest {
         verify(taskRepository, times(1)).findById(99L);
     }
 
+    @Test
+    void getTaskById_WhenTaskDoesNotExist_ShouldThrowStacklessNotFound() {
+        // Arrange
+        when(taskRepository.findById(99L)).thenReturn(Optional.empty());
+
+        // Act
+        TaskNotFoundException exception = assertThrows(TaskNotFoundException.class, () -> taskService.getTaskById(99L));
+
+        // Assert
+        assertEquals(99L, exception.getId());
+        assertEquals("Task not found with id: 99", exception.getMessage());
+        assertEquals(0, exception.getStackTrace().length);
+    }
+
+    @Test
+    void findTaskById_WhenTaskDoesNotExist_ShouldReturnEmpty() {
+        // Arrange
+        when(taskRepository.findById(99L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertTrue(taskService.findTaskById(99L).isEmpty());
+    }
+
+    @Test
+    void tryDeleteTask_WhenTaskDoesNotExist_ShouldReturnFalseWithoutDeleting() {
+        // Arrange
+        when(taskRepository.findById(99L)).thenReturn(Optional.empty());
+
+        // Act
+        boolean deleted = taskService.tryDeleteTask(99L);
+
+        // Assert
+        assertFalse(deleted);
+        verify(taskRepository, never()).delete(any(Task.class));
+        verify(taskChangeFeed, never()).append(any(), any(), any());
+    }
+
+    @Test
+    void tryDeleteTask_WhenTaskExists_ShouldAppendDeleteToFeed() {
+        // Arrange
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task1));
+        when(taskRepository.delete(task1)).thenReturn(true);
+
+        // Act
+        boolean deleted = taskService.tryDeleteTask(1L);
+
+        // Assert
+        assertTrue(deleted);
+        verify(taskRepository, times(1)).delete(task1);
+        verify(taskChangeFeed, times(1)).append(TaskOperation.Type.DELETE, 1L, null);
+    }
+
+    @Test
+    void tryDeleteTask_WhenAnotherDeleteGetsInFirst_ShouldReturnFalseWithoutAppending() {
+        // Arrange
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task1));
+        when(taskRepository.delete(task1)).thenReturn(false);
+
+        // Act
+        boolean deleted = taskService.tryDeleteTask(1L);
+
+        // Assert
+        assertFalse(deleted);
+        verify(taskChangeFeed, never()).append(any(), any(), any());
+    }
+
+    @Test
+    void tryUpdateTaskStatus_WhenTaskDoesNotExist_ShouldReturnEmpty() {
+        // Arrange
+        when(taskRepository.findById(99L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertTrue(taskService.tryUpdateTaskStatus(99L, "DONE", null).isEmpty());
+        verify(taskRepository, never()).compareAndSet(any(Task.class));
+    }
+
     @Test
     void createTask_ShouldSaveAndReturnTask() {
         // Arrange
@@ -99,20 +220,95 @@ public class TaskServiceTest {
         // Assert
         assertEquals("New Task", result.getTitle());
         verify(taskRepository, times(1)).save(any(Task.class));
+        verify(taskChangeFeed, times(1)).append(TaskOperation.Type.CREATE, null, newTask);
     }
 
     @Test
     void updateTaskStatus_WhenTaskExists_ShouldUpdateStatus() {
         // Arrange
         when(taskRepository.findById(1L)).thenReturn(Optional.of(task1));
-        when(taskRepository.save(any(Task.class))).thenAnswer(i -> i.getArgument(0));
+        when(taskRepository.compareAndSet(any(Task.class))).thenAnswer(i -> Optional.of(i.getArgument(0)));
 
         // Act
         Task result = taskService.updateTaskStatus(1L, "DONE");
 
         // Assert
         assertEquals("DONE", result.getStatus());
+        assertEquals("PENDING", task1.getStatus());
         verify(taskRepository, times(1)).findById(1L);
-        verify(taskRepository, times(1)).save(any(Task.class));
+        verify(taskRepository, times(1)).compareAndSet(any(Task.class));
+        verify(taskChangeFeed, times(1)).append(TaskOperation.Type.STATUS, 1L, result);
+    }
+
+    @Test
+    void updateTaskStatus_WhenConcurrentlyUpdated_ShouldRetryOnLatestVersion() {
+        // Arrange
+        Task concurrentlyUpdated = new Task(task1);
+        concurrentlyUpdated.setTitle("Renamed");
+        concurrentlyUpdated.setVersion(1L);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task1), Optional.of(concurrentlyUpdated));
+        when(taskRepository.compareAndSet(any(Task.class))).thenAnswer(i -> {
+            Task task = i.getArgument(0);
+            return task.getVersion() == 1L ? Optional.of(task) : Optional.empty();
+        });
+
+        // Act
+        Task result = taskService.updateTaskStatus(1L, "DONE");
+
+        // Assert
+        assertEquals("DONE", result.getStatus());
+        assertEquals("Renamed", result.getTitle());
+        verify(taskRepository, times(2)).compareAndSet(any(Task.class));
+        verify(taskChangeFeed, times(1)).append(any(), any(), any());
+    }
+
+    @Test
+    void updateTask_WhenExpectedVersionIsStale_ShouldThrowConflict() {
+        // Arrange
+        task1.setVersion(2L);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task1));
+
+        // Act & Assert
+        assertThrows(TaskVersionConflictException.class, () -> taskService.updateTask(1L, task2, 1L));
+        verify(taskRepository, never()).compareAndSet(any(Task.class));
+    }
+
+    @Test
+    void applyBatch_ShouldReportOneResultPerOperation() {
+        // Arrange
+        Task newTask = new Task("New Task", "New Description", "TODO", task1.getDueDate());
+        Task invalidTask = new Task(null, "No title", "TODO", task1.getDueDate());
+        when(taskRepository.saveAll(any())).thenAnswer(i -> {
+            List<Task> batch = i.getArgument(0);
+            batch.get(0).setId(3L);
+            return batch;
+        });
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task1));
+        when(taskRepository.findById(2L)).thenReturn(Optional.of(task2));
+        when(taskRepository.findById(99L)).thenReturn(Optional.empty());
+        when(taskRepository.delete(task2)).thenReturn(true);
+        when(taskRepository.compareAndSet(any(Task.class))).thenAnswer(i -> Optional.of(i.getArgument(0)));
+
+        List<TaskOperation> operations = List.of(
+                new TaskOperation(TaskOperation.Type.CREATE, null, newTask, null),
+                new TaskOperation(TaskOperation.Type.CREATE, null, invalidTask, null),
+                new TaskOperation(TaskOperation.Type.STATUS, 1L, null, "DONE"),
+                new TaskOperation(TaskOperation.Type.DELETE, 2L, null, null),
+                new TaskOperation(TaskOperation.Type.DELETE, 99L, null, null));
+
+        // Act
+        List<TaskOperationResult> results = taskService.applyBatch(operations);
+
+        // Assert
+        assertEquals(List.of(Outcome.CREATED, Outcome.INVALID, Outcome.UPDATED, Outcome.DELETED, Outcome.NOT_FOUND),
+                results.stream().map(TaskOperationResult::getOutcome).toList());
+        assertEquals(3L, results.get(0).getId());
+        assertEquals("DONE", results.get(2).getTask().getStatus());
+        assertEquals("PENDING", task1.getStatus());
+        verify(taskRepository, times(1)).saveAll(any());
+        verify(taskRepository, times(1)).delete(any(Task.class));
+        verify(taskChangeFeed, times(1)).append(eq(TaskOperation.Type.CREATE), eq(3L), any(Task.class));
+        verify(taskChangeFeed, times(1)).append(TaskOperation.Type.STATUS, 1L, results.get(2).getTask());
+        verify(taskChangeFeed, times(1)).append(TaskOperation.Type.DELETE, 2L, null);
     }
 }
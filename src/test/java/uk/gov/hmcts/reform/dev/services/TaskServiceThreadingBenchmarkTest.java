@@ -0,0 +1,110 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.repositories.InMemoryTaskRepository;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares handling a burst of task lookups on a pool of platform threads, sized like Tomcat's
+ * default {@code server.tomcat.threads.max}, with handling each on its own virtual thread, when
+ * every repository read blocks for {@value #STORE_LATENCY_MILLIS} ms. Run with
+ * {@code BENCHMARK=true ./gradlew test --tests "*ThreadingBenchmark*"}.
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class TaskServiceThreadingBenchmarkTest {
+
+    private static final int PLATFORM_THREADS = 200;
+    private static final int TASKS = 1_000;
+    private static final int REQUESTS = 20_000;
+    private static final long STORE_LATENCY_MILLIS = 20;
+
+    @Test
+    void getTaskById_PlatformVersusVirtualThreads() throws Exception {
+        // Arrange
+        TaskService taskService = new TaskService(new SlowTaskRepository());
+        OffsetDateTime dueDate = OffsetDateTime.of(2030, 1, 1, 9, 0, 0, 0, ZoneOffset.UTC);
+        for (int i = 0; i < TASKS; i++) {
+            taskService.createTask(new Task("Task " + i, "Description", "PENDING", dueDate));
+        }
+
+        // Act
+        Result platform;
+        try (ExecutorService executor = Executors.newFixedThreadPool(PLATFORM_THREADS)) {
+            platform = run(taskService, executor);
+        }
+        Result virtual;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            virtual = run(taskService, executor);
+        }
+
+        // Assert
+        System.out.printf("%,d lookups with %d ms store latency%n", REQUESTS, STORE_LATENCY_MILLIS);
+        System.out.println("  platform (" + PLATFORM_THREADS + " threads): " + platform);
+        System.out.println("  virtual (thread per request): " + virtual);
+        assertTrue(virtual.throughput() > platform.throughput(),
+                   "virtual threads should not be capped by a pool size");
+    }
+
+    private static Result run(TaskService taskService, ExecutorService executor) throws Exception {
+        long started = System.nanoTime();
+        List<Future<Long>> latencies = new ArrayList<>(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            long id = i % TASKS + 1;
+            long submitted = System.nanoTime();
+            latencies.add(executor.submit(() -> {
+                assertEquals(id, taskService.getTaskById(id).getId());
+                return System.nanoTime() - submitted;
+            }));
+        }
+        long[] nanos = new long[REQUESTS];
+        for (int i = 0; i < REQUESTS; i++) {
+            nanos[i] = latencies.get(i).get();
+        }
+        long elapsed = System.nanoTime() - started;
+        Arrays.sort(nanos);
+        return new Result(REQUESTS * 1e9 / elapsed, percentile(nanos, 0.5), percentile(nanos, 0.99));
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        return TimeUnit.NANOSECONDS.toMillis(sorted[(int) Math.ceil(quantile * sorted.length) - 1]);
+    }
+
+    private record Result(double throughput, long p50Millis, long p99Millis) {
+        @Override
+        public String toString() {
+            return String.format("%,.0f req/s, p50 %,d ms, p99 %,d ms", throughput, p50Millis, p99Millis);
+        }
+    }
+
+    /**
+     * Repository whose reads block like a round trip to a remote database.
+     */
+    private static final class SlowTaskRepository extends InMemoryTaskRepository {
+
+        @Override
+        public Optional<Task> findById(Long id) {
+            try {
+                Thread.sleep(STORE_LATENCY_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            return super.findById(id);
+        }
+    }
+}
\ No newline at end of file